@@ -1,5 +1,6 @@
 package com.bossarena;
 
+import com.bossarena.boss.BossArenaTracked;
 import com.bossarena.data.Arena;
 import com.bossarena.data.ArenaRegistry;
 import com.bossarena.data.BossDefinition;
@@ -8,15 +9,23 @@ import com.bossarena.command.BossArenaCommand;
 import com.bossarena.command.BossArenaShortCommand;
 import com.bossarena.spawn.BossSpawnService;
 import com.bossarena.spawn.BossTimedSpawnScheduler;
+import com.bossarena.spawn.EventAdmissionController;
 import com.bossarena.spawn.TimedBossMapMarkerService;
 import com.bossarena.system.BossTrackingSystem;
 import com.bossarena.system.BossDeathSystem;
+import com.bossarena.system.BossDamageContributionSystem;
 import com.bossarena.system.BossDamageScalingSystem;
+import com.bossarena.system.BossHpThresholdTriggerSystem;
 import com.bossarena.system.BossEventNotificationSystem;
 import com.bossarena.system.BossEntityRemovedSystem;
+import com.bossarena.system.BossMarkerRestoreSystem;
 import com.bossarena.system.BossSpeedScalingSystem;
 import com.bossarena.system.LootSpawnSystem;
+import com.bossarena.system.PlayerSpatialIndexSystem;
 import com.bossarena.system.RPGLevelingBossScaleCompatSystem;
+import com.bossarena.system.WaveSpawnSystem;
+import com.bossarena.system.TickHealthMonitor;
+import com.bossarena.system.TrackingJournal;
 import com.bossarena.loot.LootRegistry;
 import com.bossarena.loot.BossLootHandler;
 import com.bossarena.loot.BossLootChestState;
@@ -24,6 +33,10 @@ import com.bossarena.loot.OpenBossChestInteraction;
 import com.bossarena.shop.BossShopConfig;
 import com.bossarena.shop.BossArenaShopPage;
 import com.bossarena.shop.OpenBossShopNpcInteraction;
+import com.bossarena.shop.ShopRefundLedger;
+import com.bossarena.util.BossArenaClock;
+import com.bossarena.util.StateFiles;
+import com.bossarena.util.StateWriteExecutor;
 import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.server.core.asset.AssetModule;
 import com.hypixel.hytale.assetstore.map.BlockTypeAssetMap;
@@ -76,8 +89,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public final class BossArenaPlugin extends JavaPlugin {
@@ -88,12 +99,7 @@ public final class BossArenaPlugin extends JavaPlugin {
     public static final PluginIdentifier RPG_LEVELING_PLUGIN_ID = new PluginIdentifier("Zuxaw", "RPGLeveling");
     private static final Path MOD_ROOT = Path.of("mods", "BossArena");
     private static final int TIMED_MARKER_SIZE = 64;
-    private static final ScheduledExecutorService SHOP_REBIND_EXECUTOR =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "BossArena-ShopRebind");
-                t.setDaemon(true);
-                return t;
-            });
+    private static final long OWED_REFUND_DELAY_MS = 2000L;
     private static BossArenaPlugin INSTANCE;
     private final java.util.concurrent.atomic.AtomicBoolean cleanedUp = new java.util.concurrent.atomic.AtomicBoolean(false);
     private BossTrackingSystem trackingSystem;
@@ -101,13 +107,17 @@ public final class BossArenaPlugin extends JavaPlugin {
     private BossShopConfig shopConfig = new BossShopConfig();
     private BossSpawnService bossSpawnService;
     private BossTimedSpawnScheduler timedSpawnScheduler;
+    private EventAdmissionController eventAdmissionController;
     private TimedBossMapMarkerService timedBossMapMarkerService;
+    private BossHpThresholdTriggerSystem hpThresholdTriggerSystem;
+    private RPGLevelingBossScaleCompatSystem rpgLevelingCompatSystem;
     private Path bossesJsonPath;
     private Path arenasJsonPath;
     private Path lootTablesPath;
     private Path lootChestStatePath;
     private Path bossFightStatePath;
     private Path timedSpawnStatePath;
+    private Path shopRefundsPath;
     private Path shopJsonPath;
 
     public BossArenaPlugin(JavaPluginInit init) {
@@ -301,6 +311,10 @@ public final class BossArenaPlugin extends JavaPlugin {
         return timedBossMapMarkerService;
     }
 
+    public BossHpThresholdTriggerSystem getHpThresholdTriggerSystem() {
+        return hpThresholdTriggerSystem;
+    }
+
     @Override
     public void setup() {
         INSTANCE = this;
@@ -315,22 +329,38 @@ public final class BossArenaPlugin extends JavaPlugin {
         this.bossesJsonPath = modRoot.resolve("bosses.json");
         this.arenasJsonPath = modRoot.resolve("arenas.json");
         this.lootTablesPath = modRoot.resolve("loot_tables.json");
-        this.lootChestStatePath = modRoot.resolve("loot_chests_state.json");
-        this.bossFightStatePath = modRoot.resolve("boss_fights_state.json");
-        this.timedSpawnStatePath = modRoot.resolve("timed_spawn_state.json");
+        // Binary state files; older .json files with the same base name are migrated on first load.
+        this.lootChestStatePath = modRoot.resolve("loot_chests_state.dat");
+        this.bossFightStatePath = modRoot.resolve("boss_fights_state.dat");
+        this.timedSpawnStatePath = modRoot.resolve("timed_spawn_state.dat");
+        this.shopRefundsPath = modRoot.resolve("shop_refunds_owed.dat");
         this.shopJsonPath = modRoot.resolve("shop.json");
 
         // Create tracking system
         this.trackingSystem = new BossTrackingSystem();
+        this.hpThresholdTriggerSystem = new BossHpThresholdTriggerSystem(trackingSystem);
+
+        // Marker component must be registered before any system that queries it
+        BossArenaTracked.setComponentType(
+                this.getEntityStoreRegistry().registerComponent(BossArenaTracked.class, BossArenaTracked::new)
+        );
 
         // Register ECS systems
+        this.getEntityStoreRegistry().registerSystem(new PlayerSpatialIndexSystem(trackingSystem));
         this.getEntityStoreRegistry().registerSystem(new LootSpawnSystem());
+        this.getEntityStoreRegistry().registerSystem(new WaveSpawnSystem());
         this.getEntityStoreRegistry().registerSystem(new BossDamageScalingSystem(trackingSystem));
+        this.getEntityStoreRegistry().registerSystem(new BossDamageContributionSystem());
+        this.getEntityStoreRegistry().registerSystem(hpThresholdTriggerSystem);
         this.getEntityStoreRegistry().registerSystem(new BossSpeedScalingSystem(trackingSystem));
-        this.getEntityStoreRegistry().registerSystem(new BossDeathSystem(trackingSystem));
+        BossDeathSystem deathSystem = new BossDeathSystem(trackingSystem);
+        BossArenaTracked.setMissedDeathHandler(deathSystem::handleMissedDeath);
+        this.getEntityStoreRegistry().registerSystem(deathSystem);
         this.getEntityStoreRegistry().registerSystem(new BossEventNotificationSystem(trackingSystem));
         this.getEntityStoreRegistry().registerSystem(new BossEntityRemovedSystem(trackingSystem));
-        this.getEntityStoreRegistry().registerSystem(new RPGLevelingBossScaleCompatSystem(trackingSystem));
+        this.getEntityStoreRegistry().registerSystem(new BossMarkerRestoreSystem(trackingSystem));
+        this.rpgLevelingCompatSystem = new RPGLevelingBossScaleCompatSystem(trackingSystem);
+        this.getEntityStoreRegistry().registerSystem(rpgLevelingCompatSystem);
         getLogger().atInfo().log("Registered BossArena HP scale compatibility system "
                 + "(activates only when RPGLeveling is loaded)");
         getLogger().atInfo().log("Successfully registered boss systems");
@@ -388,8 +418,10 @@ public final class BossArenaPlugin extends JavaPlugin {
             getLogger().atSevere().withCause(e).log("Failed to register BossArena commands");
         }
 
-        this.bossSpawnService = new BossSpawnService(trackingSystem, config);
+        this.bossSpawnService = new BossSpawnService(trackingSystem, config, hpThresholdTriggerSystem);
+        this.eventAdmissionController = new EventAdmissionController(trackingSystem, config);
         this.timedSpawnScheduler = new BossTimedSpawnScheduler(bossSpawnService, trackingSystem);
+        this.timedSpawnScheduler.setAdmissionController(eventAdmissionController);
         this.timedBossMapMarkerService = new TimedBossMapMarkerService(this, trackingSystem, timedSpawnScheduler);
         this.timedSpawnScheduler.setMapMarkerService(timedBossMapMarkerService);
 
@@ -872,6 +904,10 @@ public final class BossArenaPlugin extends JavaPlugin {
         if (timedBossMapMarkerService != null) {
             timedBossMapMarkerService.registerForWorld(world);
         }
+        if (ShopRefundLedger.hasOwed()) {
+            // The joining player is not in the world's player list until the add has gone through.
+            BossArenaClock.get().schedule(world, () -> ShopRefundLedger.deliverOwed(world), OWED_REFUND_DELAY_MS);
+        }
     }
 
     private void scheduleShopRebind(World world, int attempt) {
@@ -886,17 +922,13 @@ public final class BossArenaPlugin extends JavaPlugin {
             default -> 5000L;
         };
 
-        SHOP_REBIND_EXECUTOR.schedule(() -> {
-            if (!world.isAlive()) {
-                return;
+        // The clock skips worlds that are no longer alive when the delay elapses.
+        BossArenaClock.get().schedule(world, () -> {
+            int rebound = rebindShopInteractions(world, attempt);
+            if (rebound == 0 && attempt < 3) {
+                scheduleShopRebind(world, attempt + 1);
             }
-            world.execute(() -> {
-                int rebound = rebindShopInteractions(world, attempt);
-                if (rebound == 0 && attempt < 3) {
-                    scheduleShopRebind(world, attempt + 1);
-                }
-            });
-        }, delayMs, TimeUnit.MILLISECONDS);
+        }, delayMs);
     }
 
     private int rebindShopInteractions(World world, int attempt) {
@@ -1082,6 +1114,9 @@ public final class BossArenaPlugin extends JavaPlugin {
         try {
             getLogger().atInfo().log("Starting BossArena systems...");
 
+            // Every plugin is loaded once the universe exists, so optional integrations can bind now.
+            rpgLevelingCompatSystem.bind();
+
             BossLootHandler.initializePersistence(lootChestStatePath);
             getLogger().atInfo().log("Loot chest persistence initialized at " + lootChestStatePath);
             trackingSystem.initializePersistence(bossFightStatePath);
@@ -1091,6 +1126,7 @@ public final class BossArenaPlugin extends JavaPlugin {
                 timedSpawnScheduler.initializePersistence(timedSpawnStatePath);
                 getLogger().atInfo().log("Timed spawn persistence initialized at " + timedSpawnStatePath);
             }
+            ShopRefundLedger.initializePersistence(shopRefundsPath);
 
             if (Files.notExists(bossesJsonPath)) {
                 writeDefaultBosses();
@@ -1135,16 +1171,9 @@ public final class BossArenaPlugin extends JavaPlugin {
         handleShutdown();
 
         try {
-            // Shutdown all executors and services.
-            if (SHOP_REBIND_EXECUTOR != null) {
-                SHOP_REBIND_EXECUTOR.shutdown();
-                try {
-                    if (!SHOP_REBIND_EXECUTOR.awaitTermination(2, TimeUnit.SECONDS)) {
-                        SHOP_REBIND_EXECUTOR.shutdownNow();
-                    }
-                } catch (InterruptedException e) {
-                    SHOP_REBIND_EXECUTOR.shutdownNow();
-                }
+            // Shutdown all services, then the shared clock they schedule on.
+            if (eventAdmissionController != null) {
+                eventAdmissionController.shutdown();
             }
 
             if (bossSpawnService != null) {
@@ -1155,10 +1184,21 @@ public final class BossArenaPlugin extends JavaPlugin {
                 timedSpawnScheduler.shutdown();
             }
 
+            if (hpThresholdTriggerSystem != null) {
+                hpThresholdTriggerSystem.clearAll();
+            }
+
             if (timedBossMapMarkerService != null) {
                 timedBossMapMarkerService.clearAllMarkers();
             }
 
+            TickHealthMonitor.clear();
+            BossArenaTracked.setMissedDeathHandler(null);
+
+            BossArenaClock.get().shutdown();
+            // Let writes queued by the final flushes reach disk before the plugin unloads.
+            StateWriteExecutor.get().shutdown();
+
             getLogger().atInfo().log("BossArena disabled and mod entities cleaned up.");
         } catch (Exception e) {
             getLogger().atWarning().withCause(e).log("Failed to safely shutdown BossArena");
@@ -1364,6 +1404,10 @@ public final class BossArenaPlugin extends JavaPlugin {
         return bossSpawnService;
     }
 
+    public EventAdmissionController getEventAdmissionController() {
+        return eventAdmissionController;
+    }
+
     public BossArenaConfig cfg() {
         return config;
     }
@@ -1587,9 +1631,11 @@ public final class BossArenaPlugin extends JavaPlugin {
 
     public void deletePersistentState() {
         try {
-            Files.deleteIfExists(lootChestStatePath);
-            Files.deleteIfExists(bossFightStatePath);
-            Files.deleteIfExists(timedSpawnStatePath);
+            for (Path statePath : List.of(lootChestStatePath, bossFightStatePath, timedSpawnStatePath)) {
+                Files.deleteIfExists(statePath);
+                Files.deleteIfExists(StateFiles.legacyJsonPath(statePath));
+            }
+            Files.deleteIfExists(TrackingJournal.pathFor(bossFightStatePath));
             getLogger().atInfo().log("Deleted persistent runtime state files (fights, loot chests, timed spawns).");
             getLogger().atInfo().log("User configuration files (bosses, arenas, loot tables, shop) were preserved.");
         } catch (IOException e) {
@@ -1684,7 +1730,7 @@ public final class BossArenaPlugin extends JavaPlugin {
                     persisted.arenaId,
                     mods,
                     0,
-                    new java.util.ArrayList<>(),
+                    null,
                     new java.util.ArrayList<>(),
                     new java.util.concurrent.atomic.AtomicInteger(0),
                     eventId,
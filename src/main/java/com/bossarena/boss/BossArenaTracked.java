@@ -0,0 +1,204 @@
+package com.bossarena.boss;
+
+import com.bossarena.util.BossArenaClock;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Marker component on every entity BossArena tracks (bosses and their adds). Systems that only care about
+ * BossArena entities put it in their query, so the engine filters everything else out by archetype, and read
+ * the modifiers straight from the component. Not persisted: tracking restore re-attaches it, and an entity that
+ * comes back from a chunk unload gets it again through {@link #restore}.
+ */
+public final class BossArenaTracked implements Component<EntityStore> {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final long ATTACH_RETRY_MS = 250L;
+    private static final int ATTACH_ATTEMPTS = 8;
+    private static final Map<UUID, Attachment> ATTACHED = new ConcurrentHashMap<>();
+    private static volatile ComponentType<EntityStore, BossArenaTracked> componentType;
+    private static volatile Consumer<UUID> missedDeathHandler;
+
+    public enum Role {
+        BOSS,
+        ADD
+    }
+
+    private BossModifiers modifiers;
+    private UUID eventId;
+    private Role role;
+    private DamageLedger ledger;
+
+    public BossArenaTracked() {
+        this(null, null, Role.BOSS);
+    }
+
+    public BossArenaTracked(BossModifiers modifiers, UUID eventId, Role role) {
+        this(modifiers, eventId, role, null);
+    }
+
+    public BossArenaTracked(BossModifiers modifiers, UUID eventId, Role role, DamageLedger ledger) {
+        this.modifiers = modifiers;
+        this.eventId = eventId;
+        this.role = role != null ? role : Role.BOSS;
+        this.ledger = ledger;
+    }
+
+    public static ComponentType<EntityStore, BossArenaTracked> getComponentType() {
+        return componentType;
+    }
+
+    public static void setComponentType(ComponentType<EntityStore, BossArenaTracked> type) {
+        componentType = type;
+    }
+
+    /**
+     * Called with the uuid of a tracked entity that was already dead when its marker landed, so the death
+     * system never saw it.
+     */
+    public static void setMissedDeathHandler(Consumer<UUID> handler) {
+        missedDeathHandler = handler;
+    }
+
+    public BossModifiers getModifiers() {
+        return modifiers;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Player damage ledger for a boss; {@code null} on adds.
+     */
+    public DamageLedger getLedger() {
+        return ledger;
+    }
+
+    @Nullable
+    @Override
+    public Component<EntityStore> clone() {
+        return new BossArenaTracked(modifiers, eventId, role, ledger);
+    }
+
+    /**
+     * Puts the component on {@code entityUuid} on the world thread. A freshly spawned entity may not have a ref
+     * until its spawn is committed, so a missing ref is retried a few times. {@code stillTracked} is checked on the
+     * world thread so an entity untracked in the meantime is left alone.
+     */
+    public static void attach(World world,
+                              UUID entityUuid,
+                              BossArenaTracked component,
+                              Predicate<UUID> stillTracked) {
+        if (world == null || entityUuid == null || component == null || componentType == null) {
+            return;
+        }
+        ATTACHED.put(entityUuid, new Attachment(world, component, stillTracked));
+        world.execute(() -> attachOnWorldThread(world, entityUuid, component, stillTracked, ATTACH_ATTEMPTS));
+    }
+
+    /**
+     * Forgets the world {@code entityUuid} was attached in while keeping what to attach, so a stale retry does not
+     * land and {@link #restore} attaches it again when the entity loads back in.
+     */
+    public static void markUnloaded(UUID entityUuid) {
+        if (entityUuid == null) {
+            return;
+        }
+        ATTACHED.computeIfPresent(entityUuid,
+                (ignored, attachment) -> new Attachment(null, attachment.component(), attachment.stillTracked()));
+    }
+
+    /**
+     * Hands a tracked entity that died without its marker to the death handler; call on the entity's world thread.
+     */
+    public static void reportMissedDeath(UUID entityUuid) {
+        Consumer<UUID> handler = missedDeathHandler;
+        if (handler != null && entityUuid != null) {
+            handler.accept(entityUuid);
+        }
+    }
+
+    /**
+     * Re-attaches the component to a tracked entity that was added to {@code world} without it, e.g. after its chunk
+     * was reloaded. Does nothing for entities BossArena does not track.
+     */
+    public static void restore(World world, UUID entityUuid) {
+        Attachment attachment = entityUuid != null ? ATTACHED.get(entityUuid) : null;
+        if (attachment == null) {
+            return;
+        }
+        attach(world, entityUuid, attachment.component(), attachment.stillTracked());
+    }
+
+    /**
+     * Removes the component from {@code entityUuid} if it was attached; safe to call for entities that never had it.
+     */
+    public static void detach(UUID entityUuid) {
+        Attachment attachment = entityUuid != null ? ATTACHED.remove(entityUuid) : null;
+        World world = attachment != null ? attachment.world() : null;
+        if (world == null || componentType == null || !world.isAlive()) {
+            return;
+        }
+        world.execute(() -> {
+            try {
+                var ref = world.getEntityRef(entityUuid);
+                if (ref != null && ref.isValid()) {
+                    world.getEntityStore().getStore().tryRemoveComponent(ref, componentType);
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Failed to detach BossArena marker from " + entityUuid, e);
+            }
+        });
+    }
+
+    private static void attachOnWorldThread(World world,
+                                            UUID entityUuid,
+                                            BossArenaTracked component,
+                                            Predicate<UUID> stillTracked,
+                                            int attemptsLeft) {
+        Attachment attachment = ATTACHED.get(entityUuid);
+        if (attachment == null || attachment.world() != world
+                || (stillTracked != null && !stillTracked.test(entityUuid))) {
+            return;
+        }
+        try {
+            var ref = world.getEntityRef(entityUuid);
+            if (ref != null && ref.isValid()) {
+                Store<EntityStore> store = world.getEntityStore().getStore();
+                store.putComponent(ref, componentType, component);
+                // A death that landed before the marker never reached the death system.
+                if (store.getComponent(ref, DeathComponent.getComponentType()) != null) {
+                    reportMissedDeath(entityUuid);
+                }
+                return;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to attach BossArena marker to " + entityUuid, e);
+        }
+        if (attemptsLeft > 1) {
+            BossArenaClock.get().schedule(world,
+                    () -> attachOnWorldThread(world, entityUuid, component, stillTracked, attemptsLeft - 1),
+                    ATTACH_RETRY_MS);
+        }
+    }
+
+    private record Attachment(@Nullable World world, BossArenaTracked component, Predicate<UUID> stillTracked) {
+    }
+}
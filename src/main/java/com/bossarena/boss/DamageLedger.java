@@ -0,0 +1,137 @@
+package com.bossarena.boss;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Damage dealt to one tracked boss, per player. Recording a hit is a linear scan over a handful of primitive
+ * slots and never allocates once the player has a slot; fights rarely have more than a few dozen contributors.
+ * <p>
+ * A ledger is opened when the boss is tracked, held by its {@link BossArenaTracked} marker so the damage path
+ * needs no lookup, and released once the event's loot has been handed out or the boss is untracked without a kill.
+ */
+public final class DamageLedger {
+    private static final Map<UUID, DamageLedger> BY_BOSS = new ConcurrentHashMap<>();
+    private static final int INITIAL_SLOTS = 8;
+
+    private long[] playerMost = new long[INITIAL_SLOTS];
+    private long[] playerLeast = new long[INITIAL_SLOTS];
+    private double[] damage = new double[INITIAL_SLOTS];
+    private int size;
+
+    private DamageLedger() {
+    }
+
+    public static DamageLedger open(UUID bossUuid) {
+        return bossUuid != null ? BY_BOSS.computeIfAbsent(bossUuid, ignored -> new DamageLedger()) : null;
+    }
+
+    public static void release(UUID bossUuid) {
+        if (bossUuid != null) {
+            BY_BOSS.remove(bossUuid);
+        }
+    }
+
+    public static void release(Collection<UUID> bossUuids) {
+        if (bossUuids == null) {
+            return;
+        }
+        for (UUID bossUuid : bossUuids) {
+            release(bossUuid);
+        }
+    }
+
+    public static void clear() {
+        BY_BOSS.clear();
+    }
+
+    public synchronized void record(UUID playerUuid, float amount) {
+        if (playerUuid == null || !(amount > 0.0f) || !Float.isFinite(amount)) {
+            return;
+        }
+        long most = playerUuid.getMostSignificantBits();
+        long least = playerUuid.getLeastSignificantBits();
+        int slot = 0;
+        while (slot < size && (playerMost[slot] != most || playerLeast[slot] != least)) {
+            slot++;
+        }
+        if (slot == size) {
+            if (size == playerMost.length) {
+                int capacity = size * 2;
+                playerMost = Arrays.copyOf(playerMost, capacity);
+                playerLeast = Arrays.copyOf(playerLeast, capacity);
+                damage = Arrays.copyOf(damage, capacity);
+            }
+            playerMost[slot] = most;
+            playerLeast[slot] = least;
+            damage[slot] = 0.0d;
+            size++;
+        }
+        damage[slot] += amount;
+    }
+
+    private synchronized void addTo(Map<UUID, double[]> out) {
+        for (int slot = 0; slot < size; slot++) {
+            out.computeIfAbsent(new UUID(playerMost[slot], playerLeast[slot]), ignored -> new double[1])[0]
+                    += damage[slot];
+        }
+    }
+
+    /**
+     * Combined contributions to {@code bossUuids} (all bosses of an event), highest first.
+     */
+    public static Contributions collect(Collection<UUID> bossUuids) {
+        if (bossUuids == null || bossUuids.isEmpty()) {
+            return Contributions.EMPTY;
+        }
+        Map<UUID, double[]> merged = new HashMap<>();
+        for (UUID bossUuid : bossUuids) {
+            DamageLedger ledger = bossUuid != null ? BY_BOSS.get(bossUuid) : null;
+            if (ledger != null) {
+                ledger.addTo(merged);
+            }
+        }
+        if (merged.isEmpty()) {
+            return Contributions.EMPTY;
+        }
+
+        double total = 0.0d;
+        for (double[] value : merged.values()) {
+            total += value[0];
+        }
+        List<Contribution> ranked = new ArrayList<>(merged.size());
+        for (Map.Entry<UUID, double[]> entry : merged.entrySet()) {
+            double dealt = entry.getValue()[0];
+            ranked.add(new Contribution(entry.getKey(), dealt, total > 0.0d ? dealt * 100.0d / total : 0.0d));
+        }
+        ranked.sort((a, b) -> Double.compare(b.damage(), a.damage()));
+        return new Contributions(Collections.unmodifiableList(ranked), total);
+    }
+
+    public record Contribution(UUID playerUuid, double damage, double percent) {
+    }
+
+    public record Contributions(List<Contribution> ranked, double totalDamage) {
+        private static final Contributions EMPTY = new Contributions(List.of(), 0.0d);
+
+        public boolean isEmpty() {
+            return ranked.isEmpty() || totalDamage <= 0.0d;
+        }
+
+        public double percentOf(UUID playerUuid) {
+            for (Contribution contribution : ranked) {
+                if (contribution.playerUuid().equals(playerUuid)) {
+                    return contribution.percent();
+                }
+            }
+            return 0.0d;
+        }
+    }
+}
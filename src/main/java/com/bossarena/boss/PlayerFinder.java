@@ -6,9 +6,9 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class PlayerFinder {
 
@@ -19,34 +19,49 @@ public final class PlayerFinder {
             return Collections.emptyList();
         }
 
-        double radiusSq = (double) radius * radius;
-
-        return world.getPlayerRefs().stream()
-                .filter(ref -> {
-                    Vector3d pPos = ref.getTransform().getPosition();
-                    return pPos != null && getDistanceSq(pPos, center) <= radiusSq;
-                })
-                .map(PlayerFinder::resolvePlayerFromRef)
-                .filter(player -> player != null)
-                .collect(Collectors.toList());
+        List<Player> out = new ArrayList<>();
+        for (PlayerRef ref : playerRefsInRadius(world, center, radius)) {
+            Player player = resolvePlayerFromRef(ref);
+            if (player != null) {
+                out.add(player);
+            }
+        }
+        return out;
     }
 
-    public static int countPlayersInRadius(World world, Vector3d center, int radius) {
+    /**
+     * Players within {@code radius} blocks of {@code center}, served from the per-world spatial index.
+     */
+    public static List<PlayerRef> playerRefsInRadius(World world, Vector3d center, double radius) {
         if (world == null || center == null) {
-            return 0;
+            return Collections.emptyList();
         }
 
-        double radiusSq = (double) radius * radius;
-        int count = 0;
+        List<PlayerRef> out = new ArrayList<>();
+        if (PlayerSpatialIndex.forEachInRadius(world, center, radius, out::add)) {
+            return out;
+        }
 
+        // No index for this world (first tick, or no tracked event there); scan directly.
+        double radiusSq = radius * radius;
         for (PlayerRef ref : world.getPlayerRefs()) {
-            Vector3d pos = ref.getTransform().getPosition();
+            Vector3d pos = ref.getTransform() != null ? ref.getTransform().getPosition() : null;
             if (pos != null && getDistanceSq(pos, center) <= radiusSq) {
-                count++;
+                out.add(ref);
             }
         }
+        return out;
+    }
+
+    public static boolean hasPlayerInRadius(World world, Vector3d center, double radius) {
+        return !playerRefsInRadius(world, center, radius).isEmpty();
+    }
 
-        return count;
+    public static int countPlayersInRadius(World world, Vector3d center, int radius) {
+        if (world == null || center == null) {
+            return 0;
+        }
+        return playerRefsInRadius(world, center, radius).size();
     }
 
     private static double getDistanceSq(Vector3d a, Vector3d b) {
@@ -0,0 +1,164 @@
+package com.bossarena.boss;
+
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-world uniform grid of player positions, rebuilt once per world tick by PlayerSpatialIndexSystem while the
+ * world has a tracked event.
+ * Radius queries only visit the grid cells overlapping the query circle; snapshots are immutable so
+ * queries are safe from any thread (positions are at most one tick old).
+ */
+public final class PlayerSpatialIndex {
+    private static final int CELL_SHIFT = 5;
+    private static final Map<String, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private PlayerSpatialIndex() {}
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Rebuilds the grid for {@code world}. Must run on the world thread.
+     */
+    public static void refresh(World world) {
+        if (world == null) {
+            return;
+        }
+        String worldName = world.getName();
+        if (worldName == null) {
+            return;
+        }
+
+        List<Entry> all = new ArrayList<>();
+        Map<Long, List<Entry>> cells = new HashMap<>();
+        try {
+            for (PlayerRef ref : world.getPlayerRefs()) {
+                if (ref == null || !ref.isValid()) {
+                    continue;
+                }
+                Transform transform = ref.getTransform();
+                Vector3d position = transform != null ? transform.getPosition() : null;
+                if (position == null) {
+                    continue;
+                }
+                Entry entry = new Entry(ref, position.x, position.y, position.z);
+                all.add(entry);
+                long key = cellKey(((int) Math.floor(entry.x)) >> CELL_SHIFT, ((int) Math.floor(entry.z)) >> CELL_SHIFT);
+                cells.computeIfAbsent(key, ignored -> new ArrayList<>(2)).add(entry);
+            }
+        } catch (Exception ignored) {
+            // Keep the previous snapshot if the player list could not be read this tick.
+            return;
+        }
+        SNAPSHOTS.put(worldName, new Snapshot(world, all, cells));
+    }
+
+    public static void forget(World world) {
+        if (world != null && world.getName() != null) {
+            SNAPSHOTS.remove(world.getName());
+        }
+    }
+
+    /**
+     * Visits every indexed player within {@code radius} blocks of {@code center}. Returns {@code false} when the
+     * world has no snapshot yet, in which case nothing was visited and the caller should fall back to a scan.
+     */
+    static boolean forEachInRadius(World world, Vector3d center, double radius, Consumer<PlayerRef> visitor) {
+        Snapshot snapshot = resolveSnapshot(world);
+        if (snapshot == null) {
+            return false;
+        }
+        if (center == null || !(radius >= 0d)) {
+            return true;
+        }
+
+        double radiusSq = radius * radius;
+        int minCellX = ((int) Math.floor(center.x - radius)) >> CELL_SHIFT;
+        int maxCellX = ((int) Math.floor(center.x + radius)) >> CELL_SHIFT;
+        int minCellZ = ((int) Math.floor(center.z - radius)) >> CELL_SHIFT;
+        int maxCellZ = ((int) Math.floor(center.z + radius)) >> CELL_SHIFT;
+        long cellCount = ((long) maxCellX - minCellX + 1L) * ((long) maxCellZ - minCellZ + 1L);
+
+        // Huge radii cover more cells than there are players; a flat pass is cheaper then.
+        if (cellCount > snapshot.all.length) {
+            for (Entry entry : snapshot.all) {
+                if (entry.distanceSq(center) <= radiusSq) {
+                    visitor.accept(entry.ref);
+                }
+            }
+            return true;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Entry[] cell = snapshot.cells.get(cellKey(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell) {
+                    if (entry.distanceSq(center) <= radiusSq) {
+                        visitor.accept(entry.ref);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Snapshot resolveSnapshot(World world) {
+        if (world == null || world.getName() == null) {
+            return null;
+        }
+        Snapshot snapshot = SNAPSHOTS.get(world.getName());
+        // A reloaded world with the same name must not see the old instance's players.
+        return snapshot != null && snapshot.world == world ? snapshot : null;
+    }
+
+    private static final class Snapshot {
+        private final World world;
+        private final Entry[] all;
+        private final Map<Long, Entry[]> cells;
+
+        private Snapshot(World world, List<Entry> all, Map<Long, List<Entry>> cells) {
+            this.world = world;
+            this.all = all.toArray(new Entry[0]);
+            Map<Long, Entry[]> frozen = new HashMap<>(Math.max(4, cells.size() * 2));
+            for (Map.Entry<Long, List<Entry>> cell : cells.entrySet()) {
+                frozen.put(cell.getKey(), cell.getValue().toArray(new Entry[0]));
+            }
+            this.cells = frozen;
+        }
+    }
+
+    private static final class Entry {
+        private final PlayerRef ref;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Entry(PlayerRef ref, double x, double y, double z) {
+            this.ref = ref;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        private double distanceSq(Vector3d center) {
+            double dx = x - center.x;
+            double dy = y - center.y;
+            double dz = z - center.z;
+            return (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.bossarena.command;
 
+import com.bossarena.BossArenaConfig;
 import com.bossarena.BossArenaPlugin;
 import com.bossarena.config.BossArenaConfigPage;
 import com.bossarena.data.Arena;
 import com.bossarena.data.ArenaRegistry;
 import com.bossarena.data.BossDefinition;
 import com.bossarena.data.BossRegistry;
+import com.bossarena.loot.BossLootHandler;
 import com.bossarena.spawn.BossSpawnService;
+import com.bossarena.spawn.BossTimedSpawnScheduler;
+import com.bossarena.spawn.EventAdmissionController;
+import com.bossarena.spawn.WaveLoadSimulator;
 import com.bossarena.system.BossTrackingSystem;
+import com.bossarena.system.TickHealthMonitor;
 import com.bossarena.shop.BossArenaShopPage;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
@@ -17,6 +23,7 @@ import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.CommandSender;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.system.FlagArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -41,6 +48,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
@@ -51,6 +59,7 @@ import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.query.Query;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,6 +80,8 @@ public final class BossArenaCommand extends AbstractCommand {
         addSubCommand(new Config(plugin));
         addSubCommand(new ShopRoot(plugin));
         addSubCommand(new Cleanup(plugin));
+        addSubCommand(new StateRoot(plugin));
+        addSubCommand(new BossRoot(plugin));
     }
 
     private static void requireAdminPermission(AbstractCommand command) {
@@ -472,7 +483,7 @@ public final class BossArenaCommand extends AbstractCommand {
             final Vector3d finalSpawnPos = spawnPos;
             final String arenaId = finalArenaId;
 
-            world.execute(() -> {
+            Runnable start = () -> {
                 UUID uuid = plugin.getBossSpawnService().spawnBossFromJson(
                         player,
                         bossId,
@@ -488,9 +499,29 @@ public final class BossArenaCommand extends AbstractCommand {
                 } else {
                     ctx.sendMessage(Message.raw("§aSpawned boss: " + bossId + " (UUID: " + uuid + ")"));
                 }
-            });
+            };
 
-            ctx.sendMessage(Message.raw("Spawning boss: " + bossId + "..."));
+            EventAdmissionController admission = plugin.getEventAdmissionController();
+            if (admission == null) {
+                world.execute(start);
+                ctx.sendMessage(Message.raw("Spawning boss: " + bossId + "..."));
+                return CompletableFuture.completedFuture(null);
+            }
+            EventAdmissionController.Admission admitted = admission.submit(
+                    EventAdmissionController.Lane.STANDARD,
+                    world,
+                    "command:" + bossId + "@" + (arenaId != null ? arenaId : "here"),
+                    start,
+                    () -> ctx.sendMessage(Message.raw("§cQueued spawn of '" + bossId + "' expired before a slot freed up."))
+            );
+            switch (admitted.status()) {
+                case STARTED -> ctx.sendMessage(Message.raw("Spawning boss: " + bossId + "..."));
+                case QUEUED -> ctx.sendMessage(Message.raw("§eEvent slots are full; '" + bossId + "' is queued at #"
+                        + admitted.position() + (admitted.etaMs() >= 0L
+                        ? " (ETA ~" + Math.max(1L, TimeUnit.MILLISECONDS.toMinutes(admitted.etaMs())) + " min)" : "")
+                        + ". See /bossarena state queue."));
+                case REJECTED -> ctx.sendMessage(Message.raw("§cEvent slots are full and the event queue is full. Try again later."));
+            }
             return CompletableFuture.completedFuture(null);
         }
     }
@@ -757,6 +788,232 @@ public final class BossArenaCommand extends AbstractCommand {
         }
     }
 
+    // ============================================================
+    // /bossarena state ...
+    // ============================================================
+    static final class StateRoot extends AbstractCommand {
+
+        StateRoot(BossArenaPlugin plugin) {
+            super("state", "Runtime state files");
+            requireAdminPermission(this);
+            addSubCommand(new StateExport(plugin));
+            addSubCommand(new StateSpawns(plugin));
+            addSubCommand(new StateQueue(plugin));
+            addSubCommand(new StateHealth());
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            ctx.sendMessage(Message.raw("Use: /bossarena state <export|spawns|queue|health>"));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class StateExport extends AbstractCommand {
+        private final BossArenaPlugin plugin;
+
+        StateExport(BossArenaPlugin plugin) {
+            super("export", "Write the binary state files as JSON for debugging: /bossarena state export");
+            this.plugin = plugin;
+            requireAdminPermission(this);
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            try {
+                reportExport(ctx, "Loot chests", BossLootHandler.exportStateJson());
+                BossTrackingSystem tracking = plugin.getTrackingSystem();
+                reportExport(ctx, "Boss fights", tracking != null ? tracking.exportStateJson() : null);
+                BossTimedSpawnScheduler scheduler = plugin.getTimedSpawnScheduler();
+                reportExport(ctx, "Timed spawns", scheduler != null ? scheduler.exportStateJson() : null);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to export BossArena state", e);
+                ctx.sendMessage(Message.raw("✗ State export failed: " + e.getMessage()));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private static void reportExport(CommandContext ctx, String label, Path exported) {
+            if (exported == null) {
+                ctx.sendMessage(Message.raw("  • " + label + ": no state file"));
+            } else {
+                ctx.sendMessage(Message.raw("✓ " + label + " exported to " + exported));
+            }
+        }
+    }
+
+    private static final class StateSpawns extends AbstractCommand {
+        private final BossArenaPlugin plugin;
+
+        StateSpawns(BossArenaPlugin plugin) {
+            super("spawns", "Show wave spawn queue depth and latency per world: /bossarena state spawns");
+            this.plugin = plugin;
+            requireAdminPermission(this);
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            BossSpawnService spawnService = plugin.getBossSpawnService();
+            Universe universe = Universe.get();
+            if (spawnService == null || universe == null) {
+                ctx.sendMessage(Message.raw("✗ Spawn service not ready."));
+                return CompletableFuture.completedFuture(null);
+            }
+            for (World world : universe.getWorlds().values()) {
+                ctx.sendMessage(Message.raw("  • " + world.getName() + ": " + spawnService.describeWaveSpawnStats(world)));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class StateQueue extends AbstractCommand {
+        private final BossArenaPlugin plugin;
+
+        StateQueue(BossArenaPlugin plugin) {
+            super("queue", "Show running event slots and queued event requests: /bossarena state queue");
+            this.plugin = plugin;
+            requireAdminPermission(this);
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            EventAdmissionController admission = plugin.getEventAdmissionController();
+            if (admission == null) {
+                ctx.sendMessage(Message.raw("✗ Event admission not ready."));
+                return CompletableFuture.completedFuture(null);
+            }
+            for (String line : admission.describeQueue()) {
+                ctx.sendMessage(Message.raw("  • " + line));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class StateHealth extends AbstractCommand {
+
+        StateHealth() {
+            super("health", "Show tick health and load-shedding tier per world: /bossarena state health");
+            requireAdminPermission(this);
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            Universe universe = Universe.get();
+            if (universe == null) {
+                ctx.sendMessage(Message.raw("✗ Universe not ready."));
+                return CompletableFuture.completedFuture(null);
+            }
+            for (World world : universe.getWorlds().values()) {
+                ctx.sendMessage(Message.raw("  • " + world.getName() + ": " + TickHealthMonitor.describe(world)));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // ============================================================
+    // /bossarena boss ...
+    // ============================================================
+    static final class BossRoot extends AbstractCommand {
+
+        BossRoot(BossArenaPlugin plugin) {
+            super("boss", "Boss definition tools");
+            requireAdminPermission(this);
+            addSubCommand(new BossSimulate(plugin));
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            ctx.sendMessage(Message.raw("Use: /bossarena boss simulate <bossId> [players] [minutes]"));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class BossSimulate extends AbstractCommand {
+        private static final int MAX_TIMELINE_LINES = 15;
+        private static final int MAX_MINUTES = 240;
+        private final BossArenaPlugin plugin;
+        private final RequiredArg<String> bossIdArg;
+        private final OptionalArg<Integer> playersArg;
+        private final OptionalArg<Integer> minutesArg;
+
+        BossSimulate(BossArenaPlugin plugin) {
+            super("simulate", "Dry-run a boss wave schedule: /bossarena boss simulate <bossId> [players] [minutes]");
+            this.plugin = plugin;
+            requireAdminPermission(this);
+            this.bossIdArg = withRequiredArg("bossId", "Boss ID to simulate", ArgTypes.STRING);
+            this.playersArg = withOptionalArg("players", "Player count for scaling (default 1)", ArgTypes.INTEGER);
+            this.minutesArg = withOptionalArg("minutes", "Event length in minutes (default: tier countdown)", ArgTypes.INTEGER);
+        }
+
+        @Override
+        protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+            String bossId = ctx.get(bossIdArg);
+            BossDefinition def = BossRegistry.get(bossId);
+            if (def == null) {
+                ctx.sendMessage(Message.raw("§cBoss '" + bossId + "' not found in registry."));
+                return CompletableFuture.completedFuture(null);
+            }
+
+            Integer players = ctx.get(playersArg);
+            Integer minutes = ctx.get(minutesArg);
+            int playerCount = players != null ? Math.max(1, players) : 1;
+            long horizonMs;
+            if (minutes != null) {
+                horizonMs = Math.max(1, Math.min(MAX_MINUTES, minutes)) * 60_000L;
+            } else {
+                BossSpawnService spawnService = plugin.getBossSpawnService();
+                horizonMs = spawnService != null ? spawnService.getCountdownDurationMs(def) : 30 * 60_000L;
+            }
+            BossArenaConfig config = plugin.getConfigHandle();
+            int spawnsPerTick = config != null ? config.getWaveSpawnsPerTick() : 8;
+
+            WaveLoadSimulator.Result result = WaveLoadSimulator.simulate(def, playerCount, horizonMs, spawnsPerTick);
+            ctx.sendMessage(Message.raw("Simulating '" + def.bossName + "' for " + playerCount + " player(s) over "
+                    + (horizonMs / 60_000L) + " min (no kills assumed):"));
+            var mods = result.modifiers();
+            ctx.sendMessage(Message.raw("  Boss x" + result.bossCount()
+                    + ": hp=" + formatMultiplier(mods.hpMultiplier())
+                    + ", dmg=" + formatMultiplier(mods.damageMultiplier())
+                    + ", spd=" + formatMultiplier(mods.speedMultiplier())
+                    + ", size=" + formatMultiplier(mods.scaleMultiplier())
+                    + (result.bossDelayMs() > 0L ? ", spawns after " + formatSimSeconds(result.bossDelayMs()) : "")));
+
+            int cumulative = 0;
+            int shown = 0;
+            for (WaveLoadSimulator.Step step : result.steps()) {
+                cumulative += step.adds();
+                if (shown++ < MAX_TIMELINE_LINES) {
+                    ctx.sendMessage(Message.raw("  " + (step.atMs() < 0L ? "-" : "+") + formatSimSeconds(Math.abs(step.atMs()))
+                            + " " + step.label() + ": +" + step.adds() + " add(s) over " + step.spawnTicks()
+                            + " tick(s), total " + cumulative));
+                }
+            }
+            if (shown > MAX_TIMELINE_LINES) {
+                ctx.sendMessage(Message.raw("  ... " + (shown - MAX_TIMELINE_LINES) + " more wave(s)"
+                        + (result.truncated() ? " (long repeat series cut short)" : "")));
+            } else if (shown == 0) {
+                ctx.sendMessage(Message.raw("  No waves configured."));
+            }
+
+            ctx.sendMessage(Message.raw("  Peak: " + result.peakConcurrentAdds() + " add(s), " + result.peakEntities()
+                    + " entities; largest wave " + result.largestWave() + " add(s) over " + result.largestWaveTicks()
+                    + " tick(s); cost ~" + Math.round(result.entitySeconds()) + " entity-seconds."));
+            int budget = config != null ? config.getEventEntityBudget() : 0;
+            if (budget > 0 && result.peakEntities() > budget) {
+                ctx.sendMessage(Message.raw("§e  Exceeds eventEntityBudget (" + budget + ")."));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private static String formatMultiplier(float value) {
+            return String.format("%.2f", value);
+        }
+
+        private static String formatSimSeconds(long millis) {
+            return String.format("%.1fs", millis / 1000.0d);
+        }
+    }
+
     static final class Cleanup extends AbstractCommand {
         private final BossArenaPlugin plugin;
         private final FlagArg confirmArg;
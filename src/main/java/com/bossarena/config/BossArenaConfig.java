@@ -24,7 +24,8 @@ public final class BossArenaConfig {
     public static final String DEFAULT_EVENT_ACTIVE_SUBTITLE_TEMPLATE =
             "$ContextLine$CountdownLineBoss alive: $BossAlive | Wave mobs alive: $AddsAlive";
     public static final String DEFAULT_EVENT_VICTORY_TITLE_TEMPLATE = "VICTORY! Claim your spoils!";
-    public static final String DEFAULT_EVENT_VICTORY_SUBTITLE_TEMPLATE = "Boss alive: 0 | Wave mobs alive: 0";
+    public static final String DEFAULT_EVENT_VICTORY_SUBTITLE_TEMPLATE =
+            "$TopContributorsLineBoss alive: 0 | Wave mobs alive: 0";
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final String DEFAULT_CURRENCY_ITEM_ID = "Coin";
     private static final String DEFAULT_FALLBACK_CURRENCY_ITEM_ID = "Ingredient_Bar_Iron";
@@ -32,11 +33,46 @@ public final class BossArenaConfig {
     private static final double DEFAULT_NOTIFICATION_RADIUS = 100.0d;
     private static final double MIN_NOTIFICATION_RADIUS = 10.0d;
     private static final double MAX_NOTIFICATION_RADIUS = 500.0d;
+    private static final int DEFAULT_LOOT_SPAWNS_PER_TICK = 4;
+    private static final int MAX_LOOT_SPAWNS_PER_TICK = 64;
+    private static final int DEFAULT_WAVE_SPAWNS_PER_TICK = 8;
+    private static final int MAX_WAVE_SPAWNS_PER_TICK = 128;
+    private static final int DEFAULT_EVENT_ENTITY_BUDGET = 150;
+    private static final int MAX_EVENT_ENTITY_BUDGET = 10_000;
+    private static final int DEFAULT_MAX_ACTIVE_ADDS_PER_EVENT = 60;
+    private static final int DEFAULT_MAX_ACTIVE_ADDS_PER_WORLD = 200;
+    private static final int MAX_ACTIVE_ADDS_LIMIT = 10_000;
+    private static final int DEFAULT_MAX_CONCURRENT_EVENTS_PER_WORLD = 1;
+    private static final int DEFAULT_MAX_CONCURRENT_EVENTS = 3;
+    private static final int MAX_CONCURRENT_EVENTS_LIMIT = 100;
+    private static final int DEFAULT_EVENT_QUEUE_SIZE = 10;
+    private static final int MAX_EVENT_QUEUE_SIZE = 100;
+    private static final int DEFAULT_EVENT_QUEUE_TIMEOUT_MINUTES = 10;
+    private static final int MAX_EVENT_QUEUE_TIMEOUT_MINUTES = 240;
+    public static final String ADD_CAP_POLICY_QUEUE = "queue";
+    public static final String ADD_CAP_POLICY_PARTIAL = "partial";
+    public static final String ADD_CAP_POLICY_SKIP = "skip";
     private static final Path CONFIG_PATH = Path.of("mods", "BossArena", "config.json");
 
     public ArenaDef[] arenas = new ArenaDef[0];
     /** Distance (blocks) within which players see boss event title/subtitle. */
     public double notificationRadius = DEFAULT_NOTIFICATION_RADIUS;
+    public int lootSpawnsPerTick = DEFAULT_LOOT_SPAWNS_PER_TICK;
+    public int waveSpawnsPerTick = DEFAULT_WAVE_SPAWNS_PER_TICK;
+    /** Entities one boss event may reach before the config GUI warns on save; 0 disables the warning. */
+    public int eventEntityBudget = DEFAULT_EVENT_ENTITY_BUDGET;
+    /** Live wave adds allowed per event / per world; 0 = unlimited. */
+    public int maxActiveAddsPerEvent = DEFAULT_MAX_ACTIVE_ADDS_PER_EVENT;
+    public int maxActiveAddsPerWorld = DEFAULT_MAX_ACTIVE_ADDS_PER_WORLD;
+    /** What happens to a wave that would pass a cap: queue, partial or skip. */
+    public String addCapPolicy = ADD_CAP_POLICY_QUEUE;
+    /** Boss events allowed to run at once per world / server wide; 0 = unlimited. */
+    public int maxConcurrentEventsPerWorld = DEFAULT_MAX_CONCURRENT_EVENTS_PER_WORLD;
+    public int maxConcurrentEvents = DEFAULT_MAX_CONCURRENT_EVENTS;
+    /** Event requests that may wait for a free slot; 0 rejects instead of queueing. */
+    public int eventQueueSize = DEFAULT_EVENT_QUEUE_SIZE;
+    /** Minutes a queued request waits before it expires (queued purchases are refunded). */
+    public int eventQueueTimeoutMinutes = DEFAULT_EVENT_QUEUE_TIMEOUT_MINUTES;
     public String currencyItemId = DEFAULT_CURRENCY_ITEM_ID;
     public String fallbackCurrencyItemId = DEFAULT_FALLBACK_CURRENCY_ITEM_ID;
     public Map<String, Integer> bossTierCountdownMinutes = createDefaultBossTierCountdownMinutes();
@@ -45,6 +81,8 @@ public final class BossArenaConfig {
     public List<TimedBossSpawn> timedBossSpawns = new ArrayList<>();
     // JSON does not support real comments. This is a docs-only block.
     public PlaceholderDocs _comment_placeholders = createDefaultPlaceholderDocs();
+    // Bumped whenever a config is applied so derived caches (compiled templates) know to rebuild.
+    private transient volatile long revision;
 
     public static long resolveMinutes(long hours, long minutes) {
         long safeHours = Math.max(0L, hours);
@@ -233,6 +271,8 @@ public final class BossArenaConfig {
         out.put("$CountdownLabel / {CountdownLabel}", "Time left label (for example 'Time left: 14:22').");
         out.put("$CountdownLine / {CountdownLine}", "Countdown label with trailing ' | ' when timer exists.");
         out.put("$State / {State}", "Event state: active or victory.");
+        out.put("$TopContributors / {TopContributors}", "Victory only: top damage dealers (for example 'Ann 54%, Bo 30%').");
+        out.put("$TopContributorsLine / {TopContributorsLine}", "Top damage dealers with label and trailing ' | ' when any.");
         out.put("Legacy aliases", "$ContextPrefix and $CountdownPrefix are still supported.");
         return out;
     }
@@ -358,6 +398,19 @@ public final class BossArenaConfig {
     private void applyLoadedConfig(BossArenaConfig loaded) {
         this.arenas = loaded.arenas != null ? loaded.arenas : new ArenaDef[0];
         this.notificationRadius = sanitizeNotificationRadius(loaded.notificationRadius);
+        this.lootSpawnsPerTick = sanitizeLootSpawnsPerTick(loaded.lootSpawnsPerTick);
+        this.waveSpawnsPerTick = sanitizeWaveSpawnsPerTick(loaded.waveSpawnsPerTick);
+        this.eventEntityBudget = sanitizeEventEntityBudget(loaded.eventEntityBudget);
+        this.maxActiveAddsPerEvent = sanitizeMaxActiveAdds(loaded.maxActiveAddsPerEvent, DEFAULT_MAX_ACTIVE_ADDS_PER_EVENT);
+        this.maxActiveAddsPerWorld = sanitizeMaxActiveAdds(loaded.maxActiveAddsPerWorld, DEFAULT_MAX_ACTIVE_ADDS_PER_WORLD);
+        this.addCapPolicy = sanitizeAddCapPolicy(loaded.addCapPolicy);
+        this.maxConcurrentEventsPerWorld = sanitizeMaxConcurrentEvents(
+                loaded.maxConcurrentEventsPerWorld,
+                DEFAULT_MAX_CONCURRENT_EVENTS_PER_WORLD
+        );
+        this.maxConcurrentEvents = sanitizeMaxConcurrentEvents(loaded.maxConcurrentEvents, DEFAULT_MAX_CONCURRENT_EVENTS);
+        this.eventQueueSize = sanitizeEventQueueSize(loaded.eventQueueSize);
+        this.eventQueueTimeoutMinutes = sanitizeEventQueueTimeoutMinutes(loaded.eventQueueTimeoutMinutes);
         this.currencyItemId = sanitizeItemId(loaded.currencyItemId, DEFAULT_CURRENCY_ITEM_ID);
         this.fallbackCurrencyItemId = sanitizeItemId(
                 loaded.fallbackCurrencyItemId,
@@ -368,6 +421,7 @@ public final class BossArenaConfig {
         this.timedMapMarker = sanitizeTimedMapMarkerSettings(loaded.timedMapMarker);
         this.timedBossSpawns = sanitizeTimedBossSpawns(loaded.timedBossSpawns);
         this._comment_placeholders = sanitizePlaceholderDocs(loaded._comment_placeholders);
+        this.revision++;
     }
 
     private static double sanitizeNotificationRadius(double value) {
@@ -377,14 +431,135 @@ public final class BossArenaConfig {
         return Math.min(value, MAX_NOTIFICATION_RADIUS);
     }
 
+    private static int sanitizeLootSpawnsPerTick(int value) {
+        if (value <= 0) {
+            return DEFAULT_LOOT_SPAWNS_PER_TICK;
+        }
+        return Math.min(value, MAX_LOOT_SPAWNS_PER_TICK);
+    }
+
+    private static int sanitizeWaveSpawnsPerTick(int value) {
+        if (value <= 0) {
+            return DEFAULT_WAVE_SPAWNS_PER_TICK;
+        }
+        return Math.min(value, MAX_WAVE_SPAWNS_PER_TICK);
+    }
+
+    private static int sanitizeEventEntityBudget(int value) {
+        if (value < 0) {
+            return DEFAULT_EVENT_ENTITY_BUDGET;
+        }
+        return Math.min(value, MAX_EVENT_ENTITY_BUDGET);
+    }
+
+    private static int sanitizeMaxActiveAdds(int value, int fallback) {
+        if (value < 0) {
+            return fallback;
+        }
+        return Math.min(value, MAX_ACTIVE_ADDS_LIMIT);
+    }
+
+    private static String sanitizeAddCapPolicy(String value) {
+        String policy = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        return switch (policy) {
+            case ADD_CAP_POLICY_QUEUE, ADD_CAP_POLICY_PARTIAL, ADD_CAP_POLICY_SKIP -> policy;
+            default -> ADD_CAP_POLICY_QUEUE;
+        };
+    }
+
+    private static int sanitizeMaxConcurrentEvents(int value, int fallback) {
+        if (value < 0) {
+            return fallback;
+        }
+        return Math.min(value, MAX_CONCURRENT_EVENTS_LIMIT);
+    }
+
+    private static int sanitizeEventQueueSize(int value) {
+        if (value < 0) {
+            return DEFAULT_EVENT_QUEUE_SIZE;
+        }
+        return Math.min(value, MAX_EVENT_QUEUE_SIZE);
+    }
+
+    private static int sanitizeEventQueueTimeoutMinutes(int value) {
+        if (value <= 0) {
+            return DEFAULT_EVENT_QUEUE_TIMEOUT_MINUTES;
+        }
+        return Math.min(value, MAX_EVENT_QUEUE_TIMEOUT_MINUTES);
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
     /** Returns the configured notification radius (blocks), clamped to valid range. */
     public double getNotificationRadius() {
         return sanitizeNotificationRadius(notificationRadius);
     }
 
+    /** Returns how many queued loot chests a world may generate per tick, clamped to valid range. */
+    public int getLootSpawnsPerTick() {
+        return sanitizeLootSpawnsPerTick(lootSpawnsPerTick);
+    }
+
+    /** Returns how many queued wave adds a world may spawn per tick, clamped to valid range. */
+    public int getWaveSpawnsPerTick() {
+        return sanitizeWaveSpawnsPerTick(waveSpawnsPerTick);
+    }
+
+    /** Returns the per-event entity budget used for config warnings; 0 means disabled. */
+    public int getEventEntityBudget() {
+        return sanitizeEventEntityBudget(eventEntityBudget);
+    }
+
+    /** Returns the live wave add cap per event; 0 means unlimited. */
+    public int getMaxActiveAddsPerEvent() {
+        return sanitizeMaxActiveAdds(maxActiveAddsPerEvent, DEFAULT_MAX_ACTIVE_ADDS_PER_EVENT);
+    }
+
+    /** Returns the live wave add cap per world; 0 means unlimited. */
+    public int getMaxActiveAddsPerWorld() {
+        return sanitizeMaxActiveAdds(maxActiveAddsPerWorld, DEFAULT_MAX_ACTIVE_ADDS_PER_WORLD);
+    }
+
+    /** Returns one of the {@code ADD_CAP_POLICY_*} values. */
+    public String getAddCapPolicy() {
+        return sanitizeAddCapPolicy(addCapPolicy);
+    }
+
+    /** Returns how many boss events may run at once in one world; 0 means unlimited. */
+    public int getMaxConcurrentEventsPerWorld() {
+        return sanitizeMaxConcurrentEvents(maxConcurrentEventsPerWorld, DEFAULT_MAX_CONCURRENT_EVENTS_PER_WORLD);
+    }
+
+    /** Returns how many boss events may run at once server wide; 0 means unlimited. */
+    public int getMaxConcurrentEvents() {
+        return sanitizeMaxConcurrentEvents(maxConcurrentEvents, DEFAULT_MAX_CONCURRENT_EVENTS);
+    }
+
+    /** Returns how many event requests may wait for a free slot; 0 means requests are rejected instead. */
+    public int getEventQueueSize() {
+        return sanitizeEventQueueSize(eventQueueSize);
+    }
+
+    /** Returns how long a queued event request waits before it expires, in minutes. */
+    public int getEventQueueTimeoutMinutes() {
+        return sanitizeEventQueueTimeoutMinutes(eventQueueTimeoutMinutes);
+    }
+
     private void applyDefaultConfig() {
         this.arenas = new ArenaDef[0];
         this.notificationRadius = DEFAULT_NOTIFICATION_RADIUS;
+        this.lootSpawnsPerTick = DEFAULT_LOOT_SPAWNS_PER_TICK;
+        this.waveSpawnsPerTick = DEFAULT_WAVE_SPAWNS_PER_TICK;
+        this.eventEntityBudget = DEFAULT_EVENT_ENTITY_BUDGET;
+        this.maxActiveAddsPerEvent = DEFAULT_MAX_ACTIVE_ADDS_PER_EVENT;
+        this.maxActiveAddsPerWorld = DEFAULT_MAX_ACTIVE_ADDS_PER_WORLD;
+        this.addCapPolicy = ADD_CAP_POLICY_QUEUE;
+        this.maxConcurrentEventsPerWorld = DEFAULT_MAX_CONCURRENT_EVENTS_PER_WORLD;
+        this.maxConcurrentEvents = DEFAULT_MAX_CONCURRENT_EVENTS;
+        this.eventQueueSize = DEFAULT_EVENT_QUEUE_SIZE;
+        this.eventQueueTimeoutMinutes = DEFAULT_EVENT_QUEUE_TIMEOUT_MINUTES;
         this.currencyItemId = DEFAULT_CURRENCY_ITEM_ID;
         this.fallbackCurrencyItemId = DEFAULT_FALLBACK_CURRENCY_ITEM_ID;
         this.bossTierCountdownMinutes = createDefaultBossTierCountdownMinutes();
@@ -392,6 +567,7 @@ public final class BossArenaConfig {
         this.timedMapMarker = createDefaultTimedMapMarkerSettings();
         this.timedBossSpawns = new ArrayList<>();
         this._comment_placeholders = createDefaultPlaceholderDocs();
+        this.revision++;
     }
 
     private boolean shouldPersistMergedConfig(String originalContent) {
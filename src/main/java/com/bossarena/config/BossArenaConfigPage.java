@@ -11,6 +11,8 @@ import com.bossarena.loot.LootRegistry;
 import com.bossarena.loot.LootTable;
 import com.bossarena.shop.BossShopConfig;
 import com.bossarena.shop.ShopEntry;
+import com.bossarena.spawn.BossSpawnService;
+import com.bossarena.spawn.WaveLoadSimulator;
 import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.codec.KeyedCodec;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
@@ -893,6 +895,7 @@ public final class BossArenaConfigPage extends InteractiveCustomUIPage<BossArena
                 ? source.bossName
                 : fallbackBossName;
         out.lootRadius = source != null ? source.lootRadius : 40.0d;
+        out.minContributionPercent = source != null ? source.minContributionPercent : 0.0d;
         out.items = new ArrayList<>();
         out.commands = new ArrayList<>();
 
@@ -2656,6 +2659,10 @@ public final class BossArenaConfigPage extends InteractiveCustomUIPage<BossArena
                     0.0d,
                     Double.MAX_VALUE
             );
+            // Not editable on this page; keep whatever loot_tables.json had.
+            outLoot.minContributionPercent = bossEditorState.loot != null
+                    ? bossEditorState.loot.minContributionPercent
+                    : 0.0d;
             outLoot.items = new ArrayList<>();
 
             boolean unresolvedLootBindingDetected = false;
@@ -2730,7 +2737,7 @@ public final class BossArenaConfigPage extends InteractiveCustomUIPage<BossArena
             bossEditorState = new BossEditorState(outBoss.bossName, cloneBoss(outBoss), cloneLoot(outLoot, outBoss.bossName));
             bossWavesOverlayOpen = false;
             bossScalersOverlayOpen = false;
-            bossStatusText = "Saved boss '" + outBoss.bossName + "'.";
+            bossStatusText = "Saved boss '" + outBoss.bossName + "'." + describeEntityBudgetWarning(outBoss);
             rebuild();
         } catch (IllegalArgumentException ex) {
             bossStatusText = ex.getMessage();
@@ -2880,6 +2887,21 @@ public final class BossArenaConfigPage extends InteractiveCustomUIPage<BossArena
         }
     }
 
+    private String describeEntityBudgetWarning(BossDefinition boss) {
+        BossArenaConfig cfg = plugin.getConfigHandle();
+        int budget = cfg != null ? cfg.getEventEntityBudget() : 0;
+        if (budget <= 0) {
+            return "";
+        }
+        BossSpawnService spawnService = plugin.getBossSpawnService();
+        long horizonMs = spawnService != null ? spawnService.getCountdownDurationMs(boss) : 30 * 60_000L;
+        WaveLoadSimulator.Result result = WaveLoadSimulator.simulate(boss, 1, horizonMs, cfg.getWaveSpawnsPerTick());
+        if (result.peakEntities() <= budget) {
+            return "";
+        }
+        return " Warning: up to " + result.peakEntities() + " entities if no adds die (budget " + budget + ").";
+    }
+
     private void handleBossWavesSave(ConfigEventData data) {
         if (bossEditorState == null) {
             return;
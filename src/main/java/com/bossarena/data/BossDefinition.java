@@ -15,6 +15,8 @@ public class BossDefinition {
     public Modifiers modifiers = new Modifiers();
     public PerPlayerIncrease perPlayerIncrease = new PerPlayerIncrease();
     public ExtraMobs extraMobs = new ExtraMobs();
+    // Set by BossRegistry on every register; keys the compiled wave plan. Never serialized.
+    public transient long definitionVersion;
 
     public static class Modifiers {
         public float hp = 1.0f;
@@ -1,13 +1,17 @@
 package com.bossarena.data;
 
+import com.bossarena.spawn.WaveTimelinePlan;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 public final class BossRegistry {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final Map<String, BossDefinition> BOSSES = new LinkedHashMap<>();
     private static final String DEFAULT_TIER = "common";
+    private static final AtomicLong NEXT_VERSION = new AtomicLong();
 
     private BossRegistry() {
     }
@@ -25,6 +29,9 @@ public final class BossRegistry {
             }
             def.tier = normalizeTier(def.tier);
             def.extraMobs.sanitize();
+            def.definitionVersion = NEXT_VERSION.incrementAndGet();
+            // Compile the wave plan here, once per loaded or saved version, so spawns never touch the definition.
+            WaveTimelinePlan.compileFor(def);
             BOSSES.put(def.bossName.toLowerCase(), def);
         }
     }
@@ -1,11 +1,18 @@
 package com.bossarena.loot;
 
 import com.bossarena.BossArenaPlugin;
+import com.bossarena.boss.DamageLedger;
+import com.bossarena.boss.PlayerFinder;
+import com.bossarena.util.BossArenaClock;
+import com.bossarena.util.StateCodec;
+import com.bossarena.util.StateFiles;
+import com.bossarena.util.StateReader;
+import com.bossarena.util.StateWriteExecutor;
+import com.bossarena.util.StateWriter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.hypixel.hytale.assetstore.map.BlockTypeAssetMap;
 import com.hypixel.hytale.math.util.ChunkUtil;
-import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
@@ -21,78 +28,150 @@ import com.hypixel.hytale.server.core.console.ConsoleSender;
 import com.hypixel.hytale.function.consumer.TriIntConsumer;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class BossLootHandler {
-    public static final Queue<PendingLootSpawn> PENDING_SPAWNS = new ConcurrentLinkedQueue<>();
     private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final Map<String, Queue<PendingLootSpawn>> PENDING_SPAWNS_BY_WORLD = new ConcurrentHashMap<>();
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final int PERSISTENCE_VERSION = 1;
-    private static final Map<Vector3d, Map<UUID, List<GeneratedLoot>>> CHEST_LOOT = new ConcurrentHashMap<>();
-    private static final Map<Vector3d, String> CHEST_WORLD = new ConcurrentHashMap<>();
-    private static final Map<Vector3d, ScheduledFuture<?>> CHEST_EXPIRY_TASKS = new ConcurrentHashMap<>();
-    private static final Map<Vector3d, Long> CHEST_EXPIRY_DEADLINES = new ConcurrentHashMap<>();
-    private static final ScheduledExecutorService CHEST_EXPIRY_EXECUTOR =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "BossArena-ChestExpiry");
-                t.setDaemon(true);
-                return t;
-            });
+    private static final StateCodec<PersistedLootState> STATE_CODEC = new PersistedLootStateCodec();
+    private static final StateCodec<Map<Vector3d, ChestState>> CHEST_TABLE_CODEC = new ChestTableCodec();
+    // Pending chests by block key. The map and every ChestState in it are immutable: each change publishes a new
+    // map with one swap, and the state writer encodes whichever map it reads as is.
+    private static final AtomicReference<Map<Vector3d, ChestState>> CHESTS =
+            new AtomicReference<>(Collections.emptyMap());
+    private static final ChestSpatialIndex CHEST_INDEX = new ChestSpatialIndex();
+    private static final Map<Vector3d, BossArenaClock.Timer> CHEST_EXPIRY_TASKS = new ConcurrentHashMap<>();
     private static final long CHEST_CLOSE_EXPIRY_MS = 30_000L;
     private static final long CHEST_UNTOUCHED_EXPIRY_MS = 60_000L;
+    private static final double CHEST_MATCH_RADIUS = 2.0d;
     private static final Random RANDOM = new Random();
+    private static final AtomicBoolean WRITE_SCHEDULED = new AtomicBoolean();
+    private static final Object WRITE_LOCK = new Object();
     private static volatile Path persistencePath;
+    private static volatile boolean legacyStateMigrationPending;
+    // Last table written and where, guarded by WRITE_LOCK.
+    private static Map<Vector3d, ChestState> writtenChests;
+    private static Path writtenPath;
 
     public static synchronized void initializePersistence(Path stateFilePath) {
         persistencePath = stateFilePath;
         clearRuntimeState();
         loadPersistentState();
         restorePendingExpiryTasks();
+        if (legacyStateMigrationPending) {
+            persistState();
+        }
     }
 
     public static synchronized void flushPersistence() {
         persistState();
     }
 
+    /**
+     * Writes the on-disk loot chest state as pretty JSON next to it.
+     *
+     * @return the export file, or {@code null} if there is no state file (no pending chests)
+     */
+    public static synchronized Path exportStateJson() throws IOException {
+        if (persistencePath == null) {
+            return null;
+        }
+        persistState();
+        return StateFiles.exportJson(persistencePath, STATE_CODEC, GSON);
+    }
+
     private static void clearRuntimeState() {
-        for (ScheduledFuture<?> future : CHEST_EXPIRY_TASKS.values()) {
-            if (future != null) {
-                future.cancel(false);
+        for (BossArenaClock.Timer timer : CHEST_EXPIRY_TASKS.values()) {
+            if (timer != null) {
+                timer.cancel();
             }
         }
         CHEST_EXPIRY_TASKS.clear();
-        CHEST_EXPIRY_DEADLINES.clear();
-        CHEST_WORLD.clear();
-        CHEST_LOOT.clear();
+        CHESTS.set(Collections.emptyMap());
+        CHEST_INDEX.clear();
     }
 
     // Queue a loot spawn
     public static void queueLootSpawn(World world, Vector3d location, String bossName) {
+        queueLootSpawn(world, location, bossName, Set.of());
+    }
+
+    /**
+     * Queues a loot spawn for the event whose bosses are {@code bossUuids}; their damage ledgers decide eligibility
+     * for tables with {@code minContributionPercent} and are released once the spawn is handled.
+     */
+    public static void queueLootSpawn(World world, Vector3d location, String bossName, Set<UUID> bossUuids) {
         if (world == null) {
             LOGGER.warning("Skipping loot spawn queue for '" + bossName + "' because world is null.");
+            DamageLedger.release(bossUuids);
             return;
         }
         if (location == null) {
             LOGGER.warning("Skipping loot spawn queue for '" + bossName + "' because location is null.");
+            DamageLedger.release(bossUuids);
+            return;
+        }
+        String worldKey = pendingSpawnKey(world);
+        if (worldKey == null) {
+            LOGGER.warning("Skipping loot spawn queue for '" + bossName + "' because world has no name.");
+            DamageLedger.release(bossUuids);
             return;
         }
-        PENDING_SPAWNS.add(new PendingLootSpawn(world, location, bossName));
+        PENDING_SPAWNS_BY_WORLD.computeIfAbsent(worldKey, ignored -> new ConcurrentLinkedQueue<>())
+                .add(new PendingLootSpawn(world, location, bossName, bossUuids));
         LOGGER.info("Queued loot spawn for: " + bossName + " at " + location);
     }
 
+    /**
+     * Generates up to {@code budget} queued loot chests for {@code world}. Must run on that world's thread; spawns
+     * queued for other worlds are left for their own ticks.
+     *
+     * @return the number of spawns processed
+     */
+    public static int drainPendingLootSpawns(World world, int budget) {
+        String worldKey = pendingSpawnKey(world);
+        Queue<PendingLootSpawn> queue = worldKey != null ? PENDING_SPAWNS_BY_WORLD.get(worldKey) : null;
+        if (queue == null) {
+            return 0;
+        }
+        int processed = 0;
+        PendingLootSpawn spawn;
+        while (processed < budget && (spawn = queue.poll()) != null) {
+            processed++;
+            LOGGER.info("Processing queued loot spawn for: " + spawn.bossName);
+            // The ticking world is the live instance even if the queued one was replaced by a reload.
+            try {
+                handleBossDeath(world, spawn.location, spawn.bossName, spawn.bossUuids);
+            } finally {
+                DamageLedger.release(spawn.bossUuids);
+            }
+        }
+        return processed;
+    }
+
+    private static String pendingSpawnKey(World world) {
+        String name = world != null ? world.getName() : null;
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
     // Main handler called from LootSpawnSystem
     public static void handleBossDeath(World world, Vector3d chestLocation, String bossName) {
+        handleBossDeath(world, chestLocation, bossName, Set.of());
+    }
+
+    public static void handleBossDeath(World world, Vector3d chestLocation, String bossName, Set<UUID> bossUuids) {
         LOGGER.info("=== BOSS LOOT DEBUG ===");
         LOGGER.info("Boss: " + bossName + " died at: " + chestLocation);
         if (world == null) {
@@ -119,31 +198,7 @@ public class BossLootHandler {
             return;
         }
 
-        List<PlayerRef> eligiblePlayers = new ArrayList<>();
-        var playerRefs = world.getPlayerRefs();
-        LOGGER.info("Total players in world: " + playerRefs.size());
-
-        for (PlayerRef ref : playerRefs) {
-            UUID playerUuid = ref.getUuid();
-            Transform playerTransform = ref.getTransform();
-            if (playerTransform == null) {
-                continue;
-            }
-            Vector3d playerPos = playerTransform.getPosition();
-            if (playerPos == null) {
-                continue;
-            }
-            double distance = calculateDistance(playerPos, chestLocation);
-
-            LOGGER.info("Player " + playerUuid + " at " + playerPos + ", distance: " + distance);
-
-            if (distance <= table.lootRadius) {
-                eligiblePlayers.add(ref);
-                LOGGER.info("  -> Player IS eligible!");
-            } else {
-                LOGGER.info("  -> Player too far (radius: " + table.lootRadius + ")");
-            }
-        }
+        List<PlayerRef> eligiblePlayers = resolveEligiblePlayers(world, chestLocation, table, bossUuids);
 
         LOGGER.info("Total eligible players: " + eligiblePlayers.size());
 
@@ -203,6 +258,44 @@ public class BossLootHandler {
         scheduleUntouchedChestExpiry(world, chestCopy);
     }
 
+    /**
+     * Players within the table's loot radius, or, when the table sets {@code minContributionPercent}, online players
+     * in the world who dealt at least that share of the event's boss damage. Falls back to the radius when no
+     * player damage was recorded (for example a boss killed by the environment).
+     */
+    private static List<PlayerRef> resolveEligiblePlayers(World world,
+                                                          Vector3d chestLocation,
+                                                          LootTable table,
+                                                          Set<UUID> bossUuids) {
+        double minPercent = table.minContributionPercent;
+        if (Double.isFinite(minPercent) && minPercent > 0.0d) {
+            DamageLedger.Contributions contributions = DamageLedger.collect(bossUuids);
+            if (!contributions.isEmpty()) {
+                List<PlayerRef> eligible = new ArrayList<>();
+                for (PlayerRef ref : world.getPlayerRefs()) {
+                    UUID playerUuid = ref != null ? ref.getUuid() : null;
+                    if (playerUuid == null) {
+                        continue;
+                    }
+                    double percent = contributions.percentOf(playerUuid);
+                    if (percent >= minPercent) {
+                        LOGGER.info("Player " + playerUuid + " dealt " + String.format(Locale.ROOT, "%.1f", percent)
+                                + "% of boss damage (min " + minPercent + "%) -> eligible");
+                        eligible.add(ref);
+                    }
+                }
+                return eligible;
+            }
+            LOGGER.info("No player damage recorded for '" + table.bossName + "', using loot radius instead.");
+        }
+
+        List<PlayerRef> eligiblePlayers = PlayerFinder.playerRefsInRadius(world, chestLocation, table.lootRadius);
+        for (PlayerRef ref : eligiblePlayers) {
+            LOGGER.info("Player " + ref.getUuid() + " is within loot radius " + table.lootRadius + " -> eligible");
+        }
+        return eligiblePlayers;
+    }
+
     private static void executeConsoleCommand(PlayerRef player, String cmd, String bossName) {
         if (cmd == null || cmd.trim().isEmpty()) return;
         CommandManager cm = CommandManager.get();
@@ -231,11 +324,7 @@ public class BossLootHandler {
     // Store loot at chest location
     private static void storeLootAtChest(World world, Vector3d location, Map<UUID, List<GeneratedLoot>> playerLoot) {
         Vector3d key = normalizeChestKey(location);
-        CHEST_LOOT.put(key, new ConcurrentHashMap<>(playerLoot));
-        if (world != null) {
-            CHEST_WORLD.put(key, world.getName());
-        }
-        CHEST_EXPIRY_DEADLINES.remove(key);
+        putChest(key, world != null ? world.getName() : null, playerLoot);
         LOGGER.info("Stored loot at chest location: " + key + " for " + playerLoot.size() + " players");
         persistStateSafe();
     }
@@ -246,17 +335,7 @@ public class BossLootHandler {
     }
 
     public static boolean hasLootAtLocation(World world, Vector3d location) {
-        Vector3d key = normalizeChestKey(location);
-        if (CHEST_LOOT.containsKey(key) && isWorldMatch(world, key)) {
-            return true;
-        }
-        for (Vector3d chestLoc : CHEST_LOOT.keySet()) {
-            double dist = chestLoc.distanceTo(location);
-            if (dist < 2.0 && isWorldMatch(world, chestLoc)) {
-                return true;
-            }
-        }
-        return false;
+        return findChestKey(world, location) != null;
     }
 
     // Get loot chest location near a position
@@ -265,17 +344,7 @@ public class BossLootHandler {
     }
 
     public static Vector3d getChestLocationNear(World world, Vector3d location) {
-        Vector3d key = normalizeChestKey(location);
-        if (CHEST_LOOT.containsKey(key) && isWorldMatch(world, key)) {
-            return key;
-        }
-        for (Vector3d chestLoc : CHEST_LOOT.keySet()) {
-            double dist = chestLoc.distanceTo(location);
-            if (dist < 2.0 && isWorldMatch(world, chestLoc)) {
-                return chestLoc;
-            }
-        }
-        return null;
+        return findChestKey(world, location);
     }
 
     // Claim loot for a player
@@ -288,13 +357,13 @@ public class BossLootHandler {
             return null;
         }
 
-        Map<UUID, List<GeneratedLoot>> playerLoot = CHEST_LOOT.get(chestLoc);
-        if (playerLoot == null) {
+        ChestState before = updateChest(chestLoc, chest -> chest.withoutPlayer(playerUuid));
+        if (before == null) {
             LOGGER.info("No loot data at chest location " + chestLoc);
             return null;
         }
 
-        List<GeneratedLoot> loot = playerLoot.remove(playerUuid);
+        List<GeneratedLoot> loot = before.loot().get(playerUuid);
 
         if (loot == null) {
             LOGGER.info("Player " + playerUuid + " has no loot at this chest (already claimed or not eligible)");
@@ -304,7 +373,7 @@ public class BossLootHandler {
         LOGGER.info("Player " + playerUuid + " claimed " + loot.size() + " items from chest");
 
         // If no more players have loot, mark it empty (cleanup handled on chest close)
-        if (playerLoot.isEmpty()) {
+        if (before.loot().size() == 1) {
             LOGGER.info("All loot claimed at " + chestLoc + ", waiting for chest close to remove");
         }
 
@@ -318,8 +387,8 @@ public class BossLootHandler {
             return;
         }
 
-        Map<UUID, List<GeneratedLoot>> playerLoot = CHEST_LOOT.get(chestLoc);
-        if (playerLoot == null || playerLoot.isEmpty()) {
+        ChestState chest = chest(chestLoc);
+        if (chest == null || chest.loot().isEmpty()) {
             // Keep the block alive until expiry after the last window closes.
             LOGGER.info("All loot claimed at " + chestLoc + ", waiting for close-expiry cleanup.");
             persistStateSafe();
@@ -374,12 +443,8 @@ public class BossLootHandler {
             return false;
         }
 
-        Map<UUID, List<GeneratedLoot>> playerLoot = CHEST_LOOT.get(chestLoc);
-        if (playerLoot == null) {
-            return false;
-        }
-
-        return playerLoot.containsKey(playerUuid);
+        ChestState chest = chest(chestLoc);
+        return chest != null && chest.loot().containsKey(playerUuid);
     }
 
 
@@ -389,25 +454,10 @@ public class BossLootHandler {
     }
 
     public static List<GeneratedLoot> getStoredLootForPlayer(World world, Vector3d location, UUID playerUuid) {
-        Vector3d key = normalizeChestKey(location);
-        Map<UUID, List<GeneratedLoot>> chestLoot = CHEST_LOOT.get(key);
-
-        if (chestLoot == null || !isWorldMatch(world, key)) {
-            chestLoot = null;
-            // Try to find nearby chest (in case of floating point precision issues)
-            for (Vector3d chestLoc : CHEST_LOOT.keySet()) {
-                if (chestLoc.distanceTo(location) < 2.0 && isWorldMatch(world, chestLoc)) {
-                    chestLoot = CHEST_LOOT.get(chestLoc);
-                    break;
-                }
-            }
-        }
-
-        if (chestLoot == null) {
-            return null;
-        }
-
-        return chestLoot.get(playerUuid);
+        // Nearby match covers floating point precision issues in the interaction position.
+        Vector3d key = findChestKey(world, location);
+        ChestState chest = chest(key);
+        return chest != null ? chest.loot().get(playerUuid) : null;
     }
 
     // Spawn the chest block
@@ -585,14 +635,6 @@ public class BossLootHandler {
         }
     }
 
-    // Calculate distance between two points
-    private static double calculateDistance(Vector3d pos1, Vector3d pos2) {
-        double dx = pos1.x - pos2.x;
-        double dy = pos1.y - pos2.y;
-        double dz = pos1.z - pos2.z;
-        return Math.sqrt(dx * dx + dy * dy + dz * dz);
-    }
-
     private static Vector3d normalizeChestKey(Vector3d location) {
         return new Vector3d(
                 Math.floor(location.x),
@@ -601,16 +643,122 @@ public class BossLootHandler {
         );
     }
 
+    // Exact block first, then the closest chest within CHEST_MATCH_RADIUS in the same world.
+    private static Vector3d findChestKey(World world, Vector3d location) {
+        if (location == null) {
+            return null;
+        }
+        String worldName = world != null ? world.getName() : null;
+        Vector3d exact = CHEST_INDEX.findExact(
+                worldName,
+                (int) Math.floor(location.x),
+                (int) Math.floor(location.y),
+                (int) Math.floor(location.z)
+        );
+        if (exact != null) {
+            return exact;
+        }
+        return CHEST_INDEX.findNearest(worldName, location, CHEST_MATCH_RADIUS);
+    }
+
+    private static ChestState chest(Vector3d key) {
+        return key != null ? CHESTS.get().get(key) : null;
+    }
+
+    /**
+     * Applies {@code change} to a copy of the chest table and publishes the copy with one swap. {@code change} may
+     * run more than once under contention, so it must only touch the map it is given. Returns the replaced table.
+     */
+    private static Map<Vector3d, ChestState> swapChests(Consumer<Map<Vector3d, ChestState>> change) {
+        while (true) {
+            Map<Vector3d, ChestState> current = CHESTS.get();
+            Map<Vector3d, ChestState> next = new HashMap<>(current);
+            change.accept(next);
+            if (CHESTS.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Replaces the chest at {@code key} with {@code change} applied to it ({@code null} removes it). Returns the chest
+     * as it was before, or {@code null} when there is none; nothing is published when {@code change} returns its
+     * argument.
+     */
+    private static ChestState updateChest(Vector3d key, UnaryOperator<ChestState> change) {
+        if (key == null) {
+            return null;
+        }
+        while (true) {
+            Map<Vector3d, ChestState> current = CHESTS.get();
+            ChestState before = current.get(key);
+            if (before == null) {
+                return null;
+            }
+            ChestState after = change.apply(before);
+            if (after == before) {
+                return before;
+            }
+            Map<Vector3d, ChestState> next = new HashMap<>(current);
+            if (after != null) {
+                next.put(key, after);
+            } else {
+                next.remove(key);
+            }
+            if (CHESTS.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return before;
+            }
+        }
+    }
+
+    private static void putChest(Vector3d key, String worldName, Map<UUID, List<GeneratedLoot>> playerLoot) {
+        Map<UUID, List<GeneratedLoot>> loot = freezeLoot(playerLoot);
+        ChestState before = swapChests(chests -> {
+            ChestState previous = chests.get(key);
+            String world = worldName != null ? worldName : previous != null ? previous.world() : null;
+            chests.put(key, new ChestState(world, loot, null));
+        }).get(key);
+        if (before != null) {
+            CHEST_INDEX.remove(before.world(), key);
+        }
+        CHEST_INDEX.add(worldName != null ? worldName : before != null ? before.world() : null, key);
+    }
+
+    private static void removeChest(Vector3d key) {
+        ChestState before = updateChest(key, chest -> null);
+        CHEST_INDEX.remove(before != null ? before.world() : null, key);
+    }
+
+    private static Map<UUID, List<GeneratedLoot>> freezeLoot(Map<UUID, List<GeneratedLoot>> playerLoot) {
+        Map<UUID, List<GeneratedLoot>> frozen = new HashMap<>();
+        if (playerLoot != null) {
+            for (Map.Entry<UUID, List<GeneratedLoot>> entry : playerLoot.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                List<GeneratedLoot> items = new ArrayList<>(entry.getValue());
+                items.removeIf(Objects::isNull);
+                frozen.put(entry.getKey(), Collections.unmodifiableList(items));
+            }
+        }
+        return Collections.unmodifiableMap(frozen);
+    }
+
     private static boolean isWorldMatch(World world, Vector3d chestLoc) {
         if (world == null) {
             return true;
         }
-        String expectedWorld = CHEST_WORLD.get(chestLoc);
+        ChestState chest = chest(chestLoc);
+        String expectedWorld = chest != null ? chest.world() : null;
         return expectedWorld == null || expectedWorld.equalsIgnoreCase(world.getName());
     }
 
     private static World resolveWorldForChest(Vector3d chestLoc) {
-        String worldName = CHEST_WORLD.get(chestLoc);
+        ChestState chest = chest(chestLoc);
+        return resolveWorld(chest != null ? chest.world() : null);
+    }
+
+    private static World resolveWorld(String worldName) {
         if (worldName == null || worldName.isBlank()) {
             return null;
         }
@@ -622,22 +770,34 @@ public class BossLootHandler {
     }
 
     public static void restorePendingExpiryTasks() {
+        restorePendingExpiryTasks(null);
+    }
+
+    /**
+     * Re-arms expiry timers for restored chests in {@code world}, or in every loaded world when {@code null}.
+     */
+    public static void restorePendingExpiryTasks(World world) {
+        String worldName = world != null ? world.getName() : null;
         long now = System.currentTimeMillis();
-        List<Map.Entry<Vector3d, Long>> pending = new ArrayList<>(CHEST_EXPIRY_DEADLINES.entrySet());
-        for (Map.Entry<Vector3d, Long> entry : pending) {
+        // The published table never changes, so scheduling below can swap in new ones while this walks the old.
+        for (Map.Entry<Vector3d, ChestState> entry : CHESTS.get().entrySet()) {
             Vector3d key = entry.getKey();
-            Long expiresAt = entry.getValue();
-            if (key == null || expiresAt == null || CHEST_EXPIRY_TASKS.containsKey(key)) {
+            ChestState chest = entry.getValue();
+            Long expiresAt = chest.expiresAtEpochMs();
+            if (expiresAt == null || CHEST_EXPIRY_TASKS.containsKey(key)) {
+                continue;
+            }
+            if (worldName != null && !worldName.equalsIgnoreCase(chest.world())) {
                 continue;
             }
 
-            World world = resolveWorldForChest(key);
-            if (world == null) {
+            World chestWorld = world != null ? world : resolveWorld(chest.world());
+            if (chestWorld == null) {
                 continue;
             }
 
             long delay = Math.max(0L, expiresAt - now);
-            scheduleChestExpiryInternal(world, key, delay, expiresAt, false);
+            scheduleChestExpiryInternal(chestWorld, key, delay, expiresAt, false);
         }
     }
 
@@ -650,16 +810,24 @@ public class BossLootHandler {
             return;
         }
 
-        cancelChestExpiry(key, false);
-        CHEST_WORLD.putIfAbsent(key, world.getName());
-        CHEST_EXPIRY_DEADLINES.put(key, expiresAtEpochMs);
+        BossArenaClock.Timer previous = CHEST_EXPIRY_TASKS.remove(key);
+        if (previous != null) {
+            previous.cancel();
+        }
+        String worldName = world.getName();
+        ChestState before = updateChest(key,
+                chest -> chest.withWorldIfAbsent(worldName).withExpiry(expiresAtEpochMs));
+        if (before != null && before.world() == null && worldName != null) {
+            CHEST_INDEX.remove(null, key);
+            CHEST_INDEX.add(worldName, key);
+        }
 
-        ScheduledFuture<?> future = CHEST_EXPIRY_EXECUTOR.schedule(
+        BossArenaClock.Timer timer = BossArenaClock.get().schedule(
+                world,
                 () -> expireChestOnWorldThread(world, key),
-                Math.max(0L, delayMs),
-                TimeUnit.MILLISECONDS
+                Math.max(0L, delayMs)
         );
-        CHEST_EXPIRY_TASKS.put(key, future);
+        CHEST_EXPIRY_TASKS.put(key, timer);
 
         if (persist) {
             persistStateSafe();
@@ -667,30 +835,28 @@ public class BossLootHandler {
     }
 
     private static void expireChestOnWorldThread(World world, Vector3d key) {
-        world.execute(() -> {
-            CHEST_LOOT.remove(key);
-            CHEST_WORLD.remove(key);
-            CHEST_EXPIRY_DEADLINES.remove(key);
-            CHEST_EXPIRY_TASKS.remove(key);
-            removeChestBlock(world, key);
-            LOGGER.info("Chest expired after inactivity: " + key);
-            persistStateSafe();
-        });
+        removeChest(key);
+        CHEST_EXPIRY_TASKS.remove(key);
+        removeChestBlock(world, key);
+        LOGGER.info("Chest expired after inactivity: " + key);
+        persistStateSafe();
     }
 
     public static void cleanupAllChests(World world) {
         if (world == null) return;
         String worldName = world.getName();
-        List<Vector3d> toRemove = new ArrayList<>();
-        for (Map.Entry<Vector3d, String> entry : CHEST_WORLD.entrySet()) {
-            if (worldName.equals(entry.getValue())) {
-                toRemove.add(entry.getKey());
+        Map<Vector3d, ChestState> before =
+                swapChests(chests -> chests.values().removeIf(chest -> worldName.equals(chest.world())));
+        for (Map.Entry<Vector3d, ChestState> entry : before.entrySet()) {
+            if (!worldName.equals(entry.getValue().world())) {
+                continue;
+            }
+            Vector3d loc = entry.getKey();
+            CHEST_INDEX.remove(worldName, loc);
+            BossArenaClock.Timer timer = CHEST_EXPIRY_TASKS.remove(loc);
+            if (timer != null) {
+                timer.cancel();
             }
-        }
-        for (Vector3d loc : toRemove) {
-            CHEST_LOOT.remove(loc);
-            CHEST_WORLD.remove(loc);
-            cancelChestExpiry(loc, false);
             removeChestBlockDirectly(world, loc);
         }
         persistStateSafe();
@@ -813,102 +979,57 @@ public class BossLootHandler {
 
     private static void cancelChestExpiry(Vector3d location, boolean persist) {
         Vector3d key = normalizeChestKey(location);
-        ScheduledFuture<?> future = CHEST_EXPIRY_TASKS.remove(key);
-        if (future != null) {
-            future.cancel(false);
+        BossArenaClock.Timer timer = CHEST_EXPIRY_TASKS.remove(key);
+        if (timer != null) {
+            timer.cancel();
         }
-        CHEST_EXPIRY_DEADLINES.remove(key);
+        updateChest(key, chest -> chest.withExpiry(null));
         if (persist) {
             persistStateSafe();
         }
     }
 
     private static synchronized void loadPersistentState() {
-        if (persistencePath == null || !Files.exists(persistencePath)) {
+        if (persistencePath == null) {
             return;
         }
 
         try {
-            String json = Files.readString(persistencePath, StandardCharsets.UTF_8);
-            if (json.isBlank()) {
+            StateFiles.Loaded<PersistedLootState> loaded =
+                    StateFiles.read(persistencePath, STATE_CODEC, GSON, PersistedLootState.class);
+            if (loaded == null) {
                 return;
             }
-
-            PersistedLootState state = GSON.fromJson(json, PersistedLootState.class);
-            if (state == null || state.chests == null || state.chests.isEmpty()) {
+            legacyStateMigrationPending = loaded.legacyJson();
+            Map<Vector3d, ChestState> persisted = toChestTable(loaded.state());
+            if (persisted.isEmpty()) {
                 return;
             }
 
             long now = System.currentTimeMillis();
-            int restored = 0;
-
-            for (PersistedChest persistedChest : state.chests) {
-                if (persistedChest == null) {
-                    continue;
-                }
-
-                Vector3d key = normalizeChestKey(new Vector3d(persistedChest.x, persistedChest.y, persistedChest.z));
-                Map<UUID, List<GeneratedLoot>> playerLoot = new ConcurrentHashMap<>();
-
-                if (persistedChest.players != null) {
-                    for (PersistedPlayerLoot player : persistedChest.players) {
-                        if (player == null || player.playerUuid == null || player.playerUuid.isBlank()) {
-                            continue;
-                        }
-
-                        UUID playerUuid;
-                        try {
-                            playerUuid = UUID.fromString(player.playerUuid.trim());
-                        } catch (IllegalArgumentException ignored) {
-                            continue;
-                        }
-
-                        List<GeneratedLoot> loot = new ArrayList<>();
-                        if (player.loot != null) {
-                            for (PersistedLootItem item : player.loot) {
-                                if (item == null || item.itemId == null || item.itemId.isBlank() || item.amount <= 0) {
-                                    continue;
-                                }
-                                loot.add(new GeneratedLoot(item.itemId, item.amount));
-                            }
-                        }
-
-                        if (!loot.isEmpty()) {
-                            playerLoot.put(playerUuid, loot);
-                        }
+            Map<Vector3d, ChestState> restored = new HashMap<>();
+            List<Vector3d> overdue = new ArrayList<>();
+            for (Map.Entry<Vector3d, ChestState> entry : persisted.entrySet()) {
+                Vector3d key = entry.getKey();
+                ChestState chest = entry.getValue();
+                Long expiresAt = chest.expiresAtEpochMs();
+                if (expiresAt != null && expiresAt <= now) {
+                    if (resolveWorld(chest.world()) == null) {
+                        continue;
                     }
+                    overdue.add(key);
                 }
+                restored.put(key, chest);
+                CHEST_INDEX.add(chest.world(), key);
+            }
+            CHESTS.set(Collections.unmodifiableMap(restored));
 
-                if (playerLoot.isEmpty()) {
-                    continue;
-                }
-
-                CHEST_LOOT.put(key, playerLoot);
-                restored++;
-
-                if (persistedChest.world != null && !persistedChest.world.isBlank()) {
-                    CHEST_WORLD.put(key, persistedChest.world.trim());
-                }
-
-                if (persistedChest.expiresAtEpochMs != null) {
-                    long expiresAt = persistedChest.expiresAtEpochMs;
-                    if (expiresAt <= now) {
-                        World world = resolveWorldForChest(key);
-                        if (world != null) {
-                            scheduleChestExpiryInternal(world, key, 0L, now, false);
-                        } else {
-                            CHEST_LOOT.remove(key);
-                            CHEST_WORLD.remove(key);
-                            CHEST_EXPIRY_DEADLINES.remove(key);
-                        }
-                    } else {
-                        CHEST_EXPIRY_DEADLINES.put(key, expiresAt);
-                    }
-                }
+            for (Vector3d key : overdue) {
+                scheduleChestExpiryInternal(resolveWorldForChest(key), key, 0L, now, false);
             }
 
-            if (restored > 0) {
-                LOGGER.info("Restored " + restored + " pending loot chest(s) from disk");
+            if (!restored.isEmpty()) {
+                LOGGER.info("Restored " + restored.size() + " pending loot chest(s) from disk");
             }
         } catch (IOException e) {
             LOGGER.log(Level.WARNING, "Failed to load persisted loot chest state", e);
@@ -917,83 +1038,118 @@ public class BossLootHandler {
         }
     }
 
-    private static synchronized void persistState() {
-        if (persistencePath == null) {
-            return;
+    /** Chests with at least one player's loot, as read from disk or legacy JSON. */
+    private static Map<Vector3d, ChestState> toChestTable(PersistedLootState state) {
+        Map<Vector3d, ChestState> chests = new HashMap<>();
+        if (state == null || state.chests == null) {
+            return chests;
         }
 
-        PersistedLootState state = new PersistedLootState();
-
-        for (Map.Entry<Vector3d, Map<UUID, List<GeneratedLoot>>> entry : CHEST_LOOT.entrySet()) {
-            Vector3d key = entry.getKey();
-            Map<UUID, List<GeneratedLoot>> byPlayer = entry.getValue();
-
-            if (key == null || byPlayer == null || byPlayer.isEmpty()) {
+        for (PersistedChest persistedChest : state.chests) {
+            if (persistedChest == null) {
                 continue;
             }
 
-            PersistedChest chest = new PersistedChest();
-            chest.world = CHEST_WORLD.get(key);
-            chest.x = Math.floor(key.x);
-            chest.y = Math.floor(key.y);
-            chest.z = Math.floor(key.z);
-            chest.expiresAtEpochMs = CHEST_EXPIRY_DEADLINES.get(key);
-
-            for (Map.Entry<UUID, List<GeneratedLoot>> playerEntry : byPlayer.entrySet()) {
-                UUID playerUuid = playerEntry.getKey();
-                List<GeneratedLoot> lootList = playerEntry.getValue();
-                if (playerUuid == null || lootList == null || lootList.isEmpty()) {
-                    continue;
-                }
-
-                PersistedPlayerLoot persistedPlayerLoot = new PersistedPlayerLoot();
-                persistedPlayerLoot.playerUuid = playerUuid.toString();
+            Map<UUID, List<GeneratedLoot>> playerLoot = new HashMap<>();
+            if (persistedChest.players != null) {
+                for (PersistedPlayerLoot player : persistedChest.players) {
+                    if (player == null || player.playerUuid == null || player.playerUuid.isBlank()) {
+                        continue;
+                    }
 
-                for (GeneratedLoot loot : lootList) {
-                    if (loot == null || loot.itemId == null || loot.itemId.isBlank() || loot.amount <= 0) {
+                    UUID playerUuid;
+                    try {
+                        playerUuid = UUID.fromString(player.playerUuid.trim());
+                    } catch (IllegalArgumentException ignored) {
                         continue;
                     }
-                    PersistedLootItem persistedLootItem = new PersistedLootItem();
-                    persistedLootItem.itemId = loot.itemId;
-                    persistedLootItem.amount = loot.amount;
-                    persistedPlayerLoot.loot.add(persistedLootItem);
-                }
 
-                if (!persistedPlayerLoot.loot.isEmpty()) {
-                    chest.players.add(persistedPlayerLoot);
+                    List<GeneratedLoot> loot = new ArrayList<>();
+                    if (player.loot != null) {
+                        for (PersistedLootItem item : player.loot) {
+                            if (item == null || item.itemId == null || item.itemId.isBlank() || item.amount <= 0) {
+                                continue;
+                            }
+                            loot.add(new GeneratedLoot(item.itemId, item.amount));
+                        }
+                    }
+
+                    if (!loot.isEmpty()) {
+                        playerLoot.put(playerUuid, loot);
+                    }
                 }
             }
 
-            if (!chest.players.isEmpty()) {
-                state.chests.add(chest);
+            if (playerLoot.isEmpty()) {
+                continue;
             }
+
+            Vector3d key = normalizeChestKey(new Vector3d(persistedChest.x, persistedChest.y, persistedChest.z));
+            String persistedWorld = persistedChest.world != null && !persistedChest.world.isBlank()
+                    ? persistedChest.world.trim()
+                    : null;
+            chests.put(key, new ChestState(persistedWorld, freezeLoot(playerLoot), persistedChest.expiresAtEpochMs));
         }
+        return chests;
+    }
 
-        try {
-            if (state.chests.isEmpty()) {
-                Files.deleteIfExists(persistencePath);
-                return;
-            }
+    /**
+     * Writes the current chest table on this thread. Used where the caller needs the file to be current on return
+     * (flush, export, migration).
+     */
+    private static void persistState() {
+        writeChestTable();
+    }
 
-            Path parent = persistencePath.getParent();
-            if (parent != null) {
-                Files.createDirectories(parent);
-            }
-            String json = GSON.toJson(state);
-            Files.writeString(persistencePath, json, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Failed to persist loot chest state", e);
+    /**
+     * Hands the write to the state writer thread, so claim and expiry paths (and the clock's timers) never wait on
+     * disk. Bursts of changes coalesce into one write of the newest table.
+     */
+    private static void persistStateSafe() {
+        if (WRITE_SCHEDULED.compareAndSet(false, true)) {
+            StateWriteExecutor.get().execute(BossLootHandler::writeChestTableSafe);
         }
     }
 
-    private static void persistStateSafe() {
+    private static void writeChestTableSafe() {
         try {
-            persistState();
+            writeChestTable();
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Unexpected error while persisting loot chest state", e);
         }
     }
 
+    private static void writeChestTable() {
+        // Clear first so a change racing with this write schedules a follow-up.
+        WRITE_SCHEDULED.set(false);
+        Path path = persistencePath;
+        if (path == null) {
+            return;
+        }
+        synchronized (WRITE_LOCK) {
+            Map<Vector3d, ChestState> chests = CHESTS.get();
+            if (chests == writtenChests && path.equals(writtenPath)) {
+                return;
+            }
+            // The published table is never mutated, so it is encoded as is, with no copy and no lock.
+            try {
+                if (ChestTableCodec.persistedChestCount(chests) == 0) {
+                    Files.deleteIfExists(path);
+                } else {
+                    StateFiles.write(path, CHEST_TABLE_CODEC, chests);
+                }
+                writtenChests = chests;
+                writtenPath = path;
+                if (legacyStateMigrationPending) {
+                    legacyStateMigrationPending = false;
+                    StateFiles.retireLegacyJson(path);
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to persist loot chest state", e);
+            }
+        }
+    }
+
     private static BlockType findBlockType(BlockTypeAssetMap<String, BlockType> map, String baseId) {
         BlockType direct = map.getAsset(baseId);
         if (direct != null) {
@@ -1016,11 +1172,37 @@ public class BossLootHandler {
         public final World world;
         public final Vector3d location;
         public final String bossName;
+        public final Set<UUID> bossUuids;
 
         public PendingLootSpawn(World world, Vector3d location, String bossName) {
+            this(world, location, bossName, Set.of());
+        }
+
+        public PendingLootSpawn(World world, Vector3d location, String bossName, Set<UUID> bossUuids) {
             this.world = world;
             this.location = new Vector3d(location.x, location.y, location.z);
             this.bossName = bossName;
+            this.bossUuids = bossUuids == null ? Set.of() : Set.copyOf(bossUuids);
+        }
+    }
+
+    /** One pending chest. Never mutated; every change publishes a replacement in a new {@link #CHESTS} table. */
+    private record ChestState(String world, Map<UUID, List<GeneratedLoot>> loot, Long expiresAtEpochMs) {
+        private ChestState withoutPlayer(UUID playerUuid) {
+            if (!loot.containsKey(playerUuid)) {
+                return this;
+            }
+            Map<UUID, List<GeneratedLoot>> remaining = new HashMap<>(loot);
+            remaining.remove(playerUuid);
+            return new ChestState(world, Collections.unmodifiableMap(remaining), expiresAtEpochMs);
+        }
+
+        private ChestState withExpiry(Long expiresAt) {
+            return Objects.equals(expiresAtEpochMs, expiresAt) ? this : new ChestState(world, loot, expiresAt);
+        }
+
+        private ChestState withWorldIfAbsent(String worldName) {
+            return world != null || worldName == null ? this : new ChestState(worldName, loot, expiresAtEpochMs);
         }
     }
 
@@ -1047,4 +1229,163 @@ public class BossLootHandler {
         String itemId;
         int amount;
     }
+
+    private static final class PersistedLootStateCodec implements StateCodec<PersistedLootState> {
+        @Override
+        public int formatVersion() {
+            return 2;
+        }
+
+        @Override
+        public void encode(PersistedLootState state, StateWriter out) throws IOException {
+            out.writeVarInt(state.chests.size());
+            for (PersistedChest chest : state.chests) {
+                out.writeInterned(chest.world);
+                out.writeSignedVarInt((int) Math.floor(chest.x));
+                out.writeSignedVarInt((int) Math.floor(chest.y));
+                out.writeSignedVarInt((int) Math.floor(chest.z));
+                out.writeBoolean(chest.expiresAtEpochMs != null);
+                if (chest.expiresAtEpochMs != null) {
+                    out.writeVarLong(Math.max(0L, chest.expiresAtEpochMs));
+                }
+                out.writeVarInt(chest.players.size());
+                for (PersistedPlayerLoot player : chest.players) {
+                    out.writeUuid(parseUuid(player.playerUuid));
+                    out.writeVarInt(player.loot.size());
+                    for (PersistedLootItem item : player.loot) {
+                        out.writeInterned(item.itemId);
+                        out.writeVarInt(Math.max(0, item.amount));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public PersistedLootState decode(StateReader in, int formatVersion) throws IOException {
+            PersistedLootState state = new PersistedLootState();
+            int chestCount = in.readCount();
+            for (int c = 0; c < chestCount; c++) {
+                PersistedChest chest = new PersistedChest();
+                chest.world = in.readInterned();
+                chest.x = in.readSignedVarInt();
+                chest.y = in.readSignedVarInt();
+                chest.z = in.readSignedVarInt();
+                chest.expiresAtEpochMs = in.readBoolean() ? in.readVarLong() : null;
+                int playerCount = in.readCount();
+                for (int p = 0; p < playerCount; p++) {
+                    PersistedPlayerLoot player = new PersistedPlayerLoot();
+                    UUID playerUuid = in.readUuid();
+                    player.playerUuid = playerUuid != null ? playerUuid.toString() : null;
+                    int itemCount = in.readCount();
+                    for (int i = 0; i < itemCount; i++) {
+                        PersistedLootItem item = new PersistedLootItem();
+                        item.itemId = in.readInterned();
+                        item.amount = in.readVarInt();
+                        player.loot.add(item);
+                    }
+                    chest.players.add(player);
+                }
+                state.chests.add(chest);
+            }
+            return state;
+        }
+
+        private static UUID parseUuid(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return UUID.fromString(value.trim());
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Writes the live chest table in {@link PersistedLootStateCodec}'s layout, skipping what that encoder's input
+     * never held: chests with nothing left to claim, players without loot and empty items. Reads go back through
+     * the persisted types.
+     */
+    private static final class ChestTableCodec implements StateCodec<Map<Vector3d, ChestState>> {
+        @Override
+        public int formatVersion() {
+            return STATE_CODEC.formatVersion();
+        }
+
+        @Override
+        public void encode(Map<Vector3d, ChestState> chests, StateWriter out) throws IOException {
+            out.writeVarInt(persistedChestCount(chests));
+            for (Map.Entry<Vector3d, ChestState> entry : chests.entrySet()) {
+                ChestState chest = entry.getValue();
+                int playerCount = persistedPlayerCount(chest);
+                if (playerCount == 0) {
+                    continue;
+                }
+                Vector3d key = entry.getKey();
+                out.writeInterned(chest.world());
+                out.writeSignedVarInt((int) Math.floor(key.x));
+                out.writeSignedVarInt((int) Math.floor(key.y));
+                out.writeSignedVarInt((int) Math.floor(key.z));
+                out.writeBoolean(chest.expiresAtEpochMs() != null);
+                if (chest.expiresAtEpochMs() != null) {
+                    out.writeVarLong(Math.max(0L, chest.expiresAtEpochMs()));
+                }
+                out.writeVarInt(playerCount);
+                for (Map.Entry<UUID, List<GeneratedLoot>> player : chest.loot().entrySet()) {
+                    int itemCount = persistedItemCount(player.getValue());
+                    if (itemCount == 0) {
+                        continue;
+                    }
+                    out.writeUuid(player.getKey());
+                    out.writeVarInt(itemCount);
+                    for (GeneratedLoot item : player.getValue()) {
+                        if (isPersisted(item)) {
+                            out.writeInterned(item.itemId);
+                            out.writeVarInt(item.amount);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Map<Vector3d, ChestState> decode(StateReader in, int formatVersion) throws IOException {
+            return toChestTable(STATE_CODEC.decode(in, formatVersion));
+        }
+
+        private static int persistedChestCount(Map<Vector3d, ChestState> chests) {
+            int count = 0;
+            for (ChestState chest : chests.values()) {
+                if (persistedPlayerCount(chest) > 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private static int persistedPlayerCount(ChestState chest) {
+            int count = 0;
+            for (List<GeneratedLoot> loot : chest.loot().values()) {
+                if (persistedItemCount(loot) > 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private static int persistedItemCount(List<GeneratedLoot> loot) {
+            int count = 0;
+            for (GeneratedLoot item : loot) {
+                if (isPersisted(item)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private static boolean isPersisted(GeneratedLoot item) {
+            return item.itemId != null && !item.itemId.isBlank() && item.amount > 0;
+        }
+    }
 }
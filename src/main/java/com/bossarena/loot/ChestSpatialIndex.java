@@ -0,0 +1,165 @@
+package com.bossarena.loot;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world lookup of loot chest keys by packed block coordinate, with a chunk-column cell list for
+ * the small "near this block" queries used by chest interactions.
+ */
+final class ChestSpatialIndex {
+    /** Index bucket for chests whose world is unknown (legacy state); these match any world. */
+    private static final String UNKNOWN_WORLD = "";
+
+    private final Map<String, WorldCells> byWorld = new ConcurrentHashMap<>();
+
+    static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static String normalizeWorld(String worldName) {
+        return worldName == null ? UNKNOWN_WORLD : worldName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    void add(String worldName, Vector3d chestKey) {
+        if (chestKey == null) {
+            return;
+        }
+        byWorld.computeIfAbsent(normalizeWorld(worldName), ignored -> new WorldCells()).add(chestKey);
+    }
+
+    void remove(String worldName, Vector3d chestKey) {
+        if (chestKey == null) {
+            return;
+        }
+        String worldKey = normalizeWorld(worldName);
+        WorldCells cells = byWorld.get(worldKey);
+        if (cells == null) {
+            return;
+        }
+        cells.remove(chestKey);
+        if (cells.isEmpty()) {
+            byWorld.remove(worldKey, cells);
+        }
+    }
+
+    void clear() {
+        byWorld.clear();
+    }
+
+    /**
+     * Returns the stored chest key at exactly this block, or {@code null}. A {@code null} world matches any world.
+     */
+    Vector3d findExact(String worldName, int x, int y, int z) {
+        long packed = packBlock(x, y, z);
+        if (worldName == null) {
+            for (WorldCells cells : byWorld.values()) {
+                Vector3d hit = cells.byBlock.get(packed);
+                if (hit != null) {
+                    return hit;
+                }
+            }
+            return null;
+        }
+        Vector3d hit = lookupExact(normalizeWorld(worldName), packed);
+        return hit != null ? hit : lookupExact(UNKNOWN_WORLD, packed);
+    }
+
+    /**
+     * Returns the closest stored chest key strictly within {@code radius} blocks of {@code location}, or {@code null}.
+     */
+    Vector3d findNearest(String worldName, Vector3d location, double radius) {
+        if (location == null) {
+            return null;
+        }
+        double radiusSq = radius * radius;
+        Nearest nearest = new Nearest();
+        if (worldName == null) {
+            for (WorldCells cells : byWorld.values()) {
+                cells.collectNearest(location, radius, radiusSq, nearest);
+            }
+        } else {
+            WorldCells cells = byWorld.get(normalizeWorld(worldName));
+            if (cells != null) {
+                cells.collectNearest(location, radius, radiusSq, nearest);
+            }
+            WorldCells unknown = byWorld.get(UNKNOWN_WORLD);
+            if (unknown != null) {
+                unknown.collectNearest(location, radius, radiusSq, nearest);
+            }
+        }
+        return nearest.key;
+    }
+
+    private Vector3d lookupExact(String worldKey, long packed) {
+        WorldCells cells = byWorld.get(worldKey);
+        return cells != null ? cells.byBlock.get(packed) : null;
+    }
+
+    private static final class Nearest {
+        private Vector3d key;
+        private double distanceSq = Double.MAX_VALUE;
+    }
+
+    private static final class WorldCells {
+        private final Map<Long, Vector3d> byBlock = new ConcurrentHashMap<>();
+        private final Map<Long, List<Vector3d>> byChunk = new ConcurrentHashMap<>();
+
+        private void add(Vector3d chestKey) {
+            int x = (int) Math.floor(chestKey.x);
+            int y = (int) Math.floor(chestKey.y);
+            int z = (int) Math.floor(chestKey.z);
+            byBlock.put(packBlock(x, y, z), chestKey);
+            byChunk.compute(ChunkUtil.indexChunkFromBlock(x, z), (ignored, existing) -> {
+                List<Vector3d> next = existing == null ? new ArrayList<>(1) : new ArrayList<>(existing);
+                next.remove(chestKey);
+                next.add(chestKey);
+                return List.copyOf(next);
+            });
+        }
+
+        private void remove(Vector3d chestKey) {
+            int x = (int) Math.floor(chestKey.x);
+            int y = (int) Math.floor(chestKey.y);
+            int z = (int) Math.floor(chestKey.z);
+            byBlock.remove(packBlock(x, y, z));
+            byChunk.computeIfPresent(ChunkUtil.indexChunkFromBlock(x, z), (ignored, existing) -> {
+                List<Vector3d> next = new ArrayList<>(existing);
+                next.remove(chestKey);
+                return next.isEmpty() ? null : List.copyOf(next);
+            });
+        }
+
+        private boolean isEmpty() {
+            return byBlock.isEmpty();
+        }
+
+        private void collectNearest(Vector3d location, double radius, double radiusSq, Nearest nearest) {
+            int minChunkX = ((int) Math.floor(location.x - radius)) >> 5;
+            int maxChunkX = ((int) Math.floor(location.x + radius)) >> 5;
+            int minChunkZ = ((int) Math.floor(location.z - radius)) >> 5;
+            int maxChunkZ = ((int) Math.floor(location.z + radius)) >> 5;
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                    List<Vector3d> cell = byChunk.get(ChunkUtil.indexChunk(cx, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Vector3d chestKey : cell) {
+                        double distanceSq = chestKey.distanceSquaredTo(location);
+                        if (distanceSq < radiusSq && distanceSq < nearest.distanceSq) {
+                            nearest.key = chestKey;
+                            nearest.distanceSq = distanceSq;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
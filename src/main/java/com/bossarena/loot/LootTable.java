@@ -6,6 +6,7 @@ import java.util.List;
 public class LootTable {
     public String bossName;           // Which boss this loot is for
     public double lootRadius;         // How close players need to be to get loot
+    public double minContributionPercent; // >0: eligible by share of boss damage dealt instead of radius
     public List<LootItem> items;      // List of possible drops
     public List<String> commands;     // List of console commands to execute for each player
 
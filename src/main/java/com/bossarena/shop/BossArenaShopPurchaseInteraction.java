@@ -7,6 +7,7 @@ import com.bossarena.data.ArenaRegistry;
 import com.bossarena.data.BossDefinition;
 import com.bossarena.data.BossRegistry;
 import com.bossarena.spawn.BossSpawnService;
+import com.bossarena.spawn.EventAdmissionController;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
@@ -20,11 +21,15 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
+    // A buyer who keeps changing worlds while a refund is queued gets it through the owed ledger instead.
+    private static final int ITEM_REFUND_ATTEMPTS = 3;
 
     private final String bossId;
     private final String arenaId;
@@ -82,39 +87,159 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
                 return;
             }
 
-            if (spawnService.hasAnyEventInProgress()) {
-                player.sendMessage(Message.raw("A boss event is already in progress. Wait for all bosses and waves to be cleared."));
-                return;
-            }
-
+            ChargeResult paid = ChargeResult.free();
             if (cost > 0) {
-                ChargeResult result = chargeCost(plugin, player, playerRef, cost);
-                if (!result.success()) {
-                    player.sendMessage(Message.raw(result.message()));
+                paid = chargeCost(plugin, player, playerRef, cost);
+                if (!paid.success()) {
+                    player.sendMessage(Message.raw(paid.message()));
                     return;
                 }
             }
 
-            var uuid = spawnService.spawnBossFromJson(
-                    player,
-                    bossId,
+            final ChargeResult charge = paid;
+            final UUID playerUuid = playerRef.getUuid();
+            Runnable start = () -> startEvent(plugin, playerUuid, world, arena, charge);
+            EventAdmissionController admission = plugin.getEventAdmissionController();
+            if (admission == null) {
+                start.run();
+                return;
+            }
+
+            EventAdmissionController.Admission admitted = admission.submit(
+                    EventAdmissionController.Lane.STANDARD,
                     world,
-                    arena.getPosition(),
-                    arenaId
+                    "shop:" + bossId + "@" + arenaId + " for " + playerRef.getUuid(),
+                    start,
+                    () -> refund(playerUuid, charge, "Your queued " + bossId + " event could not start in time.")
             );
-
-            if (uuid == null) {
-                player.sendMessage(Message.raw("Failed to spawn boss: " + bossId));
-            } else if (BossSpawnService.DEFERRED_SPAWN_UUID.equals(uuid)) {
-                player.sendMessage(Message.raw("Spawn sequence started for boss: " + bossId + ". Boss will spawn after pre-boss waves."));
-            } else {
-                player.sendMessage(Message.raw("Spawned boss: " + bossId));
+            if (admitted.status() == EventAdmissionController.Status.REJECTED) {
+                refund(playerUuid, charge, "All boss event slots are busy and the queue is full.");
+            } else if (admitted.status() == EventAdmissionController.Status.QUEUED) {
+                BossArenaConfig global = plugin.getConfigHandle();
+                int timeoutMinutes = global != null ? global.getEventQueueTimeoutMinutes() : 0;
+                player.sendMessage(Message.raw("All boss event slots are busy. " + bossId + " is queued at #"
+                        + admitted.position() + " (" + formatEta(admitted.etaMs()) + ") and starts automatically"
+                        + (cost > 0 ? "; you are refunded if it has not started within " + timeoutMinutes + " min." : ".")));
             }
         });
 
         LOGGER.info("Shop purchase: " + playerRef + " -> " + bossId + " @ " + arenaId + ", cost=" + cost);
     }
 
+    /**
+     * Runs on {@code world}'s thread once the event is admitted, possibly long after the purchase; the buyer is
+     * looked up again rather than trusting the entity captured at purchase time.
+     */
+    private void startEvent(BossArenaPlugin plugin,
+                            UUID playerUuid,
+                            World world,
+                            Arena arena,
+                            ChargeResult charge) {
+        BossSpawnService spawnService = plugin.getBossSpawnService();
+        if (spawnService == null) {
+            refund(playerUuid, charge, "Boss spawn service is unavailable.");
+            return;
+        }
+
+        Player player = ShopRefundLedger.findOnlinePlayer(playerUuid);
+        var uuid = spawnService.spawnBossFromJson(
+                player,
+                bossId,
+                world,
+                arena.getPosition(),
+                arenaId
+        );
+
+        if (uuid == null) {
+            refund(playerUuid, charge, "Failed to spawn boss: " + bossId + ".");
+        } else if (BossSpawnService.DEFERRED_SPAWN_UUID.equals(uuid)) {
+            notifyPlayer(playerUuid, "Spawn sequence started for boss: " + bossId + ". Boss will spawn after pre-boss waves.");
+        } else {
+            notifyPlayer(playerUuid, "Spawned boss: " + bossId);
+        }
+    }
+
+    /**
+     * Refunds {@code charge} and tells the player why, prefixed with {@code reason}. May run on any thread: provider
+     * currencies refund by uuid, item refunds go to the player's current world or are kept owed in
+     * {@link ShopRefundLedger} while the player is offline or the server is shutting down.
+     */
+    private void refund(UUID playerUuid, ChargeResult charge, String reason) {
+        if (charge == null || charge.provider() == null || cost <= 0) {
+            notifyPlayer(playerUuid, reason);
+            return;
+        }
+        if (ShopCurrencySupport.PROVIDER_ITEM.equals(charge.provider())) {
+            refundItems(playerUuid, charge, reason, ITEM_REFUND_ATTEMPTS);
+            return;
+        }
+
+        boolean refunded = ShopCurrencySupport.PROVIDER_ECONOMY_SYSTEM.equals(charge.provider())
+                ? ShopCurrencySupport.addEconomySystemBalance(playerUuid, cost)
+                : ShopCurrencySupport.addHyMarketCopper(playerUuid, cost);
+        if (!refunded) {
+            LOGGER.warning("Shop refund failed: " + playerUuid + " is owed " + cost + " via " + charge.provider()
+                    + " for " + bossId + " @ " + arenaId);
+            notifyPlayer(playerUuid, reason + " The refund failed; please contact an admin.");
+            return;
+        }
+        LOGGER.info("Shop refund: " + playerUuid + " <- " + cost + " via " + charge.provider() + " for " + bossId);
+        notifyPlayer(playerUuid, reason + " Your payment was refunded.");
+    }
+
+    private void refundItems(UUID playerUuid, ChargeResult charge, String reason, int attemptsLeft) {
+        Player player = ShopRefundLedger.findOnlinePlayer(playerUuid);
+        World world = player != null ? player.getWorld() : null;
+        if (world != null && world.isAlive() && attemptsLeft > 0 && !isShuttingDown()) {
+            try {
+                world.execute(() -> giveRefundItems(playerUuid, world, charge, reason, attemptsLeft));
+                return;
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Could not refund on world thread; keeping the refund owed", e);
+            }
+        }
+        ShopRefundLedger.owe(playerUuid, charge.itemId(), cost, charge.stackSize());
+    }
+
+    private void giveRefundItems(UUID playerUuid, World world, ChargeResult charge, String reason, int attemptsLeft) {
+        Player player = ShopRefundLedger.findOnlinePlayer(playerUuid);
+        if (player == null || player.getWorld() != world) {
+            // Left or changed worlds while the refund was queued; try again where the player is now.
+            refundItems(playerUuid, charge, reason, attemptsLeft - 1);
+            return;
+        }
+        int remaining = ShopRefundLedger.giveItems(player, charge.itemId(), cost, charge.stackSize());
+        if (remaining > 0) {
+            ShopRefundLedger.owe(playerUuid, charge.itemId(), remaining, charge.stackSize());
+            player.sendMessage(Message.raw(reason + " Your inventory is full; " + remaining + " of your payment is kept"
+                    + " for you and returned the next time you enter a world."));
+            return;
+        }
+        LOGGER.info("Shop refund: " + playerUuid + " <- " + cost + "x " + charge.itemId() + " for " + bossId);
+        player.sendMessage(Message.raw(reason + " Your payment was refunded."));
+    }
+
+    private static void notifyPlayer(UUID playerUuid, String message) {
+        Player player = ShopRefundLedger.findOnlinePlayer(playerUuid);
+        if (player != null && message != null && !message.isBlank()) {
+            player.sendMessage(Message.raw(message));
+        }
+    }
+
+    private static boolean isShuttingDown() {
+        BossArenaPlugin plugin = BossArenaPlugin.getInstance();
+        EventAdmissionController admission = plugin != null ? plugin.getEventAdmissionController() : null;
+        return plugin == null || (admission != null && admission.isShutdown());
+    }
+
+    private static String formatEta(long etaMs) {
+        if (etaMs < 0L) {
+            return "no ETA yet";
+        }
+        long minutes = Math.max(1L, (etaMs + TimeUnit.MINUTES.toMillis(1L) - 1L) / TimeUnit.MINUTES.toMillis(1L));
+        return "ETA ~" + minutes + " min";
+    }
+
     private static ChargeResult chargeCost(BossArenaPlugin plugin, Player player, PlayerRef playerRef, int amount) {
         CurrencySettings currency = resolveCurrencySettings(plugin);
         String provider = ShopCurrencySupport.sanitizeProvider(currency.provider);
@@ -172,11 +297,12 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
         if (currencyItemId == null || currencyItemId.isBlank()) {
             return ChargeResult.fail("Shop currency is not configured.");
         }
-        if (!consumeCurrency(player, currencyItemId, amount)) {
+        int stackSize = consumeCurrency(player, currencyItemId, amount);
+        if (stackSize <= 0) {
             return ChargeResult.fail("Not enough currency. Need "
                     + amount + " " + ItemNameResolver.resolveCommonName(currencyItemId) + ".");
         }
-        return ChargeResult.ok();
+        return ChargeResult.ok(ShopCurrencySupport.PROVIDER_ITEM, currencyItemId, stackSize);
     }
 
     private static ChargeResult tryChargeHyMarket(UUID playerUuid, int amountCopper) {
@@ -186,7 +312,7 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
         if (!ShopCurrencySupport.removeHyMarketCopper(playerUuid, amountCopper)) {
             return ChargeResult.fail("Not enough HyMarket currency. Need " + ShopCurrencySupport.formatHyMarketCost(amountCopper) + ".");
         }
-        return ChargeResult.ok();
+        return ChargeResult.ok(ShopCurrencySupport.PROVIDER_HYMARKET, null, 0);
     }
 
     private static ChargeResult tryChargeEconomySystem(UUID playerUuid, int amount) {
@@ -197,26 +323,31 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
             return ChargeResult.fail("Not enough EconomySystem currency. Need "
                     + ShopCurrencySupport.formatEconomySystemCost(amount) + ".");
         }
-        return ChargeResult.ok();
+        return ChargeResult.ok(ShopCurrencySupport.PROVIDER_ECONOMY_SYSTEM, null, 0);
     }
 
-    private static boolean consumeCurrency(Player player, String currencyItemId, int amount) {
+    /**
+     * Removes {@code amount} of the currency item. Returns the largest stack it took from, which is a known-valid
+     * stack size for refunds, or 0 if the player does not have enough.
+     */
+    private static int consumeCurrency(Player player, String currencyItemId, int amount) {
         Inventory inventory = player.getInventory();
         if (inventory == null) {
-            return false;
+            return 0;
         }
 
         ItemContainer container = inventory.getCombinedBackpackStorageHotbar();
         if (container == null) {
-            return false;
+            return 0;
         }
 
         int total = countItem(container, currencyItemId);
         if (total < amount) {
-            return false;
+            return 0;
         }
 
         int remaining = amount;
+        int largestStack = 1;
         short capacity = container.getCapacity();
         for (short slot = 0; slot < capacity && remaining > 0; slot++) {
             ItemStack stack = container.getItemStack(slot);
@@ -227,13 +358,14 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
                 continue;
             }
 
+            largestStack = Math.max(largestStack, stack.getQuantity());
             int removeAmount = Math.min(remaining, stack.getQuantity());
             container.removeItemStackFromSlot(slot, removeAmount);
             remaining -= removeAmount;
         }
 
         player.sendInventory();
-        return remaining == 0;
+        return remaining == 0 ? largestStack : 0;
     }
 
     private static int countItem(ItemContainer container, String itemId) {
@@ -263,18 +395,29 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
     private static final class ChargeResult {
         private final boolean success;
         private final String message;
+        // How the cost was paid, kept so a queued purchase can be refunded the same way.
+        private final String provider;
+        private final String itemId;
+        private final int stackSize;
 
-        private ChargeResult(boolean success, String message) {
+        private ChargeResult(boolean success, String message, String provider, String itemId, int stackSize) {
             this.success = success;
             this.message = message;
+            this.provider = provider;
+            this.itemId = itemId;
+            this.stackSize = stackSize;
+        }
+
+        private static ChargeResult ok(String provider, String itemId, int stackSize) {
+            return new ChargeResult(true, "", provider, itemId, stackSize);
         }
 
-        private static ChargeResult ok() {
-            return new ChargeResult(true, "");
+        private static ChargeResult free() {
+            return new ChargeResult(true, "", null, null, 0);
         }
 
         private static ChargeResult fail(String message) {
-            return new ChargeResult(false, message);
+            return new ChargeResult(false, message, null, null, 0);
         }
 
         private boolean success() {
@@ -284,5 +427,17 @@ public final class BossArenaShopPurchaseInteraction extends ChoiceInteraction {
         private String message() {
             return message;
         }
+
+        private String provider() {
+            return provider;
+        }
+
+        private String itemId() {
+            return itemId;
+        }
+
+        private int stackSize() {
+            return stackSize;
+        }
     }
 }
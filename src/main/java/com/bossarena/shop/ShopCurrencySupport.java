@@ -59,6 +59,14 @@ final class ShopCurrencySupport {
         return EconomySystemBridge.removeBalance(playerUuid, amount);
     }
 
+    static boolean addHyMarketCopper(UUID playerUuid, long amountCopper) {
+        return HyMarketBridge.addCopper(playerUuid, amountCopper);
+    }
+
+    static boolean addEconomySystemBalance(UUID playerUuid, double amount) {
+        return EconomySystemBridge.addBalance(playerUuid, amount);
+    }
+
     static String formatHyMarketCost(long copper) {
         if (copper <= 0) {
             return "0c";
@@ -91,11 +99,21 @@ final class ShopCurrencySupport {
         return EconomySystemBridge.formatAmount(amount);
     }
 
+    /** Refund-only methods are optional, so providers without them can still charge. */
+    private static Method findOptionalMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return owner.getMethod(name, parameterTypes);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
     private static final class HyMarketBridge {
         private static boolean initialized = false;
         private static boolean available = false;
         private static Method marketplaceGetInstance;
         private static Method removeCopperMethod;
+        private static Method addCopperMethod;
 
         private static synchronized boolean isActive() {
             if (!initialized) {
@@ -105,6 +123,7 @@ final class ShopCurrencySupport {
                     marketplaceGetInstance = economyManagerClass.getMethod("getInstance");
                     removeCopperMethod = economyManagerClass.getMethod("removeCopper", UUID.class, long.class);
                     available = true;
+                    addCopperMethod = findOptionalMethod(economyManagerClass, "addCopper", UUID.class, long.class);
                 } catch (Throwable ignored) {
                     available = false;
                 }
@@ -136,6 +155,25 @@ final class ShopCurrencySupport {
                 return false;
             }
         }
+
+        private static boolean addCopper(UUID playerUuid, long amountCopper) {
+            if (!isActive() || addCopperMethod == null) {
+                return false;
+            }
+            try {
+                Object economyManager = marketplaceGetInstance.invoke(null);
+                if (economyManager == null) {
+                    return false;
+                }
+                if (amountCopper <= 0) {
+                    return true;
+                }
+                // Void on some versions; only an explicit false is a failure.
+                return !Boolean.FALSE.equals(addCopperMethod.invoke(economyManager, playerUuid, amountCopper));
+            } catch (Throwable ignored) {
+                return false;
+            }
+        }
     }
 
     private static final class EconomySystemBridge {
@@ -144,6 +182,7 @@ final class ShopCurrencySupport {
         private static Method mainGetInstance;
         private static Method economyApiGetInstance;
         private static Method removeBalanceMethod;
+        private static Method addBalanceMethod;
         private static Method formatCurrency;
 
         private static synchronized boolean isActive() {
@@ -159,6 +198,7 @@ final class ShopCurrencySupport {
                     removeBalanceMethod = economyApiClass.getMethod("removeBalance", UUID.class, double.class);
                     formatCurrency = formatterClass.getMethod("format", double.class);
                     available = true;
+                    addBalanceMethod = findOptionalMethod(economyApiClass, "addBalance", UUID.class, double.class);
                 } catch (Throwable ignored) {
                     available = false;
                 }
@@ -193,6 +233,24 @@ final class ShopCurrencySupport {
             }
         }
 
+        private static boolean addBalance(UUID playerUuid, double amount) {
+            if (!isActive() || addBalanceMethod == null) {
+                return false;
+            }
+            try {
+                if (amount <= 0.0d) {
+                    return true;
+                }
+                Object api = economyApiGetInstance.invoke(null);
+                if (api == null) {
+                    return false;
+                }
+                return !Boolean.FALSE.equals(addBalanceMethod.invoke(api, playerUuid, amount));
+            } catch (Throwable ignored) {
+                return false;
+            }
+        }
+
         private static String formatAmount(double amount) {
             if (isActive()) {
                 try {
@@ -0,0 +1,244 @@
+package com.bossarena.shop;
+
+import com.bossarena.util.StateCodec;
+import com.bossarena.util.StateFiles;
+import com.bossarena.util.StateReader;
+import com.bossarena.util.StateWriter;
+import com.google.gson.Gson;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Item-currency refunds that could not be put into a player's inventory when they were issued: the player was
+ * offline, the server was shutting down, or the inventory was full. They are persisted and handed out the next
+ * time the player enters a world. Provider currencies (EconomySystem, HyMarketPlus) refund by uuid and never land
+ * here.
+ */
+public final class ShopRefundLedger {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final Gson GSON = new Gson();
+    private static final StateCodec<PersistedRefunds> STATE_CODEC = new PersistedRefundsCodec();
+    private static final Map<UUID, List<OwedRefund>> OWED = new ConcurrentHashMap<>();
+    private static final Object PERSISTENCE_LOCK = new Object();
+    private static volatile Path persistencePath;
+
+    private record OwedRefund(String itemId, int amount, int stackSize) {
+    }
+
+    private ShopRefundLedger() {
+    }
+
+    public static void initializePersistence(Path path) {
+        persistencePath = path;
+        OWED.clear();
+        if (path == null) {
+            return;
+        }
+        synchronized (PERSISTENCE_LOCK) {
+            try {
+                StateFiles.Loaded<PersistedRefunds> loaded = StateFiles.read(path, STATE_CODEC, GSON, PersistedRefunds.class);
+                if (loaded == null || loaded.state() == null || loaded.state().rows == null) {
+                    return;
+                }
+                for (PersistedRefund row : loaded.state().rows) {
+                    if (row != null && row.playerUuid != null && row.itemId != null && row.amount > 0) {
+                        OWED.computeIfAbsent(row.playerUuid, ignored -> new ArrayList<>())
+                                .add(new OwedRefund(row.itemId, row.amount, row.stackSize));
+                    }
+                }
+                if (!OWED.isEmpty()) {
+                    LOGGER.info("Loaded owed shop refunds for " + OWED.size() + " player(s).");
+                }
+            } catch (Exception e) {
+                LOGGER.warning("Failed to load owed shop refunds: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Records {@code amount} of {@code itemId} as owed to {@code playerUuid} and writes the ledger right away. */
+    public static void owe(UUID playerUuid, String itemId, int amount, int stackSize) {
+        if (playerUuid == null || itemId == null || itemId.isBlank() || amount <= 0) {
+            return;
+        }
+        synchronized (PERSISTENCE_LOCK) {
+            OWED.computeIfAbsent(playerUuid, ignored -> new ArrayList<>())
+                    .add(new OwedRefund(itemId, amount, stackSize));
+            save();
+        }
+        LOGGER.info("Shop refund owed: " + playerUuid + " <- " + amount + "x " + itemId);
+    }
+
+    public static boolean hasOwed() {
+        return !OWED.isEmpty();
+    }
+
+    /**
+     * Hands out what is owed to the players currently in {@code world}; call on the world thread. Whatever does
+     * not fit stays owed.
+     */
+    public static void deliverOwed(World world) {
+        if (world == null || OWED.isEmpty()) {
+            return;
+        }
+        for (Player player : world.getPlayers()) {
+            UUID playerUuid = player != null ? player.getUuid() : null;
+            if (playerUuid == null || !OWED.containsKey(playerUuid)) {
+                continue;
+            }
+            int delivered = 0;
+            synchronized (PERSISTENCE_LOCK) {
+                List<OwedRefund> owed = OWED.remove(playerUuid);
+                if (owed == null) {
+                    continue;
+                }
+                List<OwedRefund> left = new ArrayList<>();
+                for (OwedRefund refund : owed) {
+                    int remaining = giveItems(player, refund.itemId(), refund.amount(), refund.stackSize());
+                    delivered += refund.amount() - remaining;
+                    if (remaining > 0) {
+                        left.add(new OwedRefund(refund.itemId(), remaining, refund.stackSize()));
+                    }
+                }
+                if (!left.isEmpty()) {
+                    OWED.put(playerUuid, left);
+                }
+                save();
+            }
+            if (delivered > 0) {
+                LOGGER.info("Shop refund delivered: " + playerUuid + " <- " + delivered + " owed item(s)");
+                player.sendMessage(Message.raw("A refunded shop payment was returned to your inventory."
+                        + (OWED.containsKey(playerUuid) ? " The rest did not fit and is kept for you." : "")));
+            }
+        }
+    }
+
+    /** The player's live entity, or {@code null} when {@code playerUuid} is not online. */
+    static Player findOnlinePlayer(UUID playerUuid) {
+        Universe universe = Universe.get();
+        if (universe == null || playerUuid == null) {
+            return null;
+        }
+        for (PlayerRef playerRef : universe.getPlayers()) {
+            if (playerRef == null || !playerUuid.equals(playerRef.getUuid())) {
+                continue;
+            }
+            try {
+                return (Player) playerRef.getComponent(Player.getComponentType());
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts {@code amount} of the item into empty slots, in stacks no larger than {@code stackSize}. Returns how many
+     * did not fit; what did fit stays given.
+     */
+    static int giveItems(Player player, String itemId, int amount, int stackSize) {
+        Inventory inventory = player != null ? player.getInventory() : null;
+        ItemContainer container = inventory != null ? inventory.getCombinedBackpackStorageHotbar() : null;
+        if (container == null || itemId == null || itemId.isBlank()) {
+            return amount;
+        }
+
+        int remaining = amount;
+        int perStack = Math.max(1, stackSize);
+        short capacity = container.getCapacity();
+        for (short slot = 0; slot < capacity && remaining > 0; slot++) {
+            if (!ItemStack.isEmpty(container.getItemStack(slot))) {
+                continue;
+            }
+            int quantity = Math.min(remaining, perStack);
+            container.setItemStackForSlot(slot, new ItemStack(itemId, quantity));
+            remaining -= quantity;
+        }
+
+        if (remaining < amount) {
+            player.sendInventory();
+        }
+        return remaining;
+    }
+
+    private static void save() {
+        Path path = persistencePath;
+        if (path == null) {
+            return;
+        }
+        PersistedRefunds state = new PersistedRefunds();
+        for (Map.Entry<UUID, List<OwedRefund>> entry : OWED.entrySet()) {
+            for (OwedRefund refund : entry.getValue()) {
+                PersistedRefund row = new PersistedRefund();
+                row.playerUuid = entry.getKey();
+                row.itemId = refund.itemId();
+                row.amount = refund.amount();
+                row.stackSize = refund.stackSize();
+                state.rows.add(row);
+            }
+        }
+        try {
+            StateFiles.write(path, STATE_CODEC, state);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to persist owed shop refunds: " + e.getMessage());
+        }
+    }
+
+    private static final class PersistedRefunds {
+        List<PersistedRefund> rows = new ArrayList<>();
+    }
+
+    private static final class PersistedRefund {
+        UUID playerUuid;
+        String itemId;
+        int amount;
+        int stackSize;
+    }
+
+    private static final class PersistedRefundsCodec implements StateCodec<PersistedRefunds> {
+        @Override
+        public int formatVersion() {
+            return 1;
+        }
+
+        @Override
+        public void encode(PersistedRefunds state, StateWriter out) throws IOException {
+            out.writeVarInt(state.rows.size());
+            for (PersistedRefund row : state.rows) {
+                out.writeUuid(row.playerUuid);
+                out.writeString(row.itemId);
+                out.writeVarInt(row.amount);
+                out.writeVarInt(Math.max(0, row.stackSize));
+            }
+        }
+
+        @Override
+        public PersistedRefunds decode(StateReader in, int formatVersion) throws IOException {
+            PersistedRefunds state = new PersistedRefunds();
+            int count = in.readCount();
+            for (int i = 0; i < count; i++) {
+                PersistedRefund row = new PersistedRefund();
+                row.playerUuid = in.readUuid();
+                row.itemId = in.readString();
+                row.amount = in.readVarInt();
+                row.stackSize = in.readVarInt();
+                state.rows.add(row);
+            }
+            return state;
+        }
+    }
+}
@@ -4,11 +4,14 @@ import com.bossarena.BossArenaConfig;
 import com.bossarena.BossArenaPlugin;
 import com.bossarena.data.BossDefinition;
 import com.bossarena.data.BossRegistry;
+import com.bossarena.util.BossArenaClock;
 import com.bossarena.util.BossScaler;
 import com.bossarena.boss.BossModifiers;
 import com.bossarena.boss.PlayerFinder;
+import com.bossarena.system.BossHpThresholdTriggerSystem;
 import com.bossarena.system.BossTrackingSystem;
 import com.bossarena.system.BossWaveNotificationService;
+import com.bossarena.system.TickHealthMonitor;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.server.core.command.system.CommandSender;
@@ -29,15 +32,11 @@ import com.hypixel.hytale.protocol.InteractionType;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -50,73 +49,59 @@ public final class BossSpawnService {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final double GOLDEN_ANGLE_RADIANS = 2.399963229728653d;
     private static final double BOSS_SPAWN_SPACING_BLOCKS = 2.75d;
-    private static final long DEFAULT_REPEAT_INTERVAL_MS = 1_000L;
-    private static final long HP_TRIGGER_POLL_INTERVAL_MS = 250L;
-    private static final double HP_TRIGGER_EPSILON = 0.01d;
-    private static final ScheduledExecutorService EXTRA_WAVE_SCHEDULER =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "BossArena-ExtraWaves");
-                t.setDaemon(true);
-                return t;
-            });
+    // A repeat wave held back by tick load spawns anyway after this, so a world that never recovers still gets it.
+    private static final long MAX_LOAD_HOLD_MS = 15_000L;
 
     private final BossTrackingSystem tracking;
     private final BossArenaConfig config;
+    private final BossHpThresholdTriggerSystem hpThresholdTriggers;
     private final Map<UUID, BossModifiers> pendingDetachedAddModifiers = new ConcurrentHashMap<>();
+    private final WaveSpawnQueue waveSpawns = new WaveSpawnQueue();
 
-    public BossSpawnService(BossTrackingSystem tracking, BossArenaConfig config) {
+    public BossSpawnService(BossTrackingSystem tracking,
+                            BossArenaConfig config,
+                            BossHpThresholdTriggerSystem hpThresholdTriggers) {
         this.tracking = tracking;
         this.config = config;
+        this.hpThresholdTriggers = hpThresholdTriggers;
     }
 
-    private static List<BossDefinition.ExtraMobs.ScheduledWave> filterSchedulesByTrigger(
-            List<BossDefinition.ExtraMobs.ScheduledWave> schedules,
-            String trigger
-    ) {
-        if (schedules == null || schedules.isEmpty()) {
-            return List.of();
-        }
-        List<BossDefinition.ExtraMobs.ScheduledWave> out = new ArrayList<>();
-        for (BossDefinition.ExtraMobs.ScheduledWave wave : schedules) {
-            if (wave != null && trigger.equals(wave.trigger)) {
-                out.add(wave);
-            }
-        }
-        return out;
+    private static String formatSeconds(double value) {
+        return String.format("%.2f", value);
     }
 
-    private static double reverseHealthThresholdOrder(BossDefinition.ExtraMobs.ScheduledWave wave) {
-        if (wave == null) {
-            return Double.MAX_VALUE;
-        }
-        return -wave.triggerValue;
+    public void shutdown() {
+        // Pending wave timers live on the shared BossArenaClock, which the plugin stops on shutdown.
+        pendingDetachedAddModifiers.clear();
+        waveSpawns.clear();
     }
 
-    private static long toMillisOrDefault(double seconds, long defaultMs) {
-        if (!Double.isFinite(seconds)) {
-            return Math.max(0L, defaultMs);
-        }
-        if (seconds <= 0.0d) {
-            return Math.max(0L, defaultMs);
-        }
-        return Math.max(0L, Math.round(seconds * 1000.0d));
+    /**
+     * Spawns up to {@code budget} queued wave adds for {@code world}; called from {@code WaveSpawnSystem}.
+     */
+    public int drainWaveSpawns(World world, int budget) {
+        return waveSpawns.drain(world, budget);
     }
 
-    private static String formatSeconds(double value) {
-        return String.format("%.2f", value);
+    /** Adds still waiting in {@code world}'s wave spawn queue. */
+    public int getQueuedWaveAdds(World world) {
+        return waveSpawns.pendingAdds(world);
     }
 
-    public void shutdown() {
-        if (EXTRA_WAVE_SCHEDULER != null) {
-            EXTRA_WAVE_SCHEDULER.shutdown();
-            try {
-                if (!EXTRA_WAVE_SCHEDULER.awaitTermination(2, TimeUnit.SECONDS)) {
-                    EXTRA_WAVE_SCHEDULER.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                EXTRA_WAVE_SCHEDULER.shutdownNow();
-            }
-        }
+    /** Queue depth, spawn latency and add-cap hits of {@code world}'s wave spawn pipeline since startup. */
+    public String describeWaveSpawnStats(World world) {
+        WaveSpawnQueue.Snapshot stats = waveSpawns.snapshot(world);
+        return "queued waves=" + stats.queuedWaves()
+                + ", queued adds=" + stats.queuedAdds()
+                + ", peak queued adds=" + stats.peakDepth()
+                + ", spawned adds=" + stats.spawnedAdds()
+                + ", avg wait=" + stats.avgWaitMs() + "ms"
+                + ", max wait=" + stats.maxWaitMs() + "ms"
+                + ", cap deferred waves=" + stats.capDeferredWaves()
+                + ", cap trimmed waves=" + stats.capTrimmedWaves()
+                + ", cap skipped waves=" + stats.capSkippedWaves()
+                + ", cap dropped adds=" + stats.capDroppedAdds()
+                + ", load-held waves=" + stats.loadHeldWaves();
     }
 
     public boolean hasAnyEventInProgress() {
@@ -206,20 +191,11 @@ public final class BossSpawnService {
                 + ", Regen: " + mods.regenMultiplier());
 
         long countdownDurationMs = resolveCountdownDurationMs(def, countdownOverrideMinutes);
-        List<BossDefinition.ExtraMobs.ScheduledWave> resolvedWavesBuffer = List.of();
+        WaveTimelinePlan plan = WaveTimelinePlan.of(def);
         List<UUID> pendingPreBossAdds = Collections.synchronizedList(new ArrayList<>());
         AtomicInteger nextWaveNumber = new AtomicInteger(1);
 
-        if (def.extraMobs != null) {
-            def.extraMobs.sanitize();
-            resolvedWavesBuffer = def.extraMobs.getResolvedScheduledWaves();
-        }
-        final List<BossDefinition.ExtraMobs.ScheduledWave> resolvedWaves = resolvedWavesBuffer;
-        boolean hasBeforeBossSchedule = !filterSchedulesByTrigger(
-                resolvedWaves,
-                BossDefinition.ExtraMobs.TRIGGER_BEFORE_BOSS
-        ).isEmpty();
-        final UUID deferredEventId = hasBeforeBossSchedule
+        final UUID deferredEventId = plan.hasBeforeBoss()
                 ? tracking.createEvent(
                 world,
                 spawnPos,
@@ -234,28 +210,30 @@ public final class BossSpawnService {
                 world,
                 def,
                 spawnPos,
-                resolvedWaves,
+                deferredEventId,
+                plan,
                 nextWaveNumber,
                 pendingPreBossAdds
         );
         if (preBossDelayMs > 0L) {
             LOGGER.info("Delaying boss spawn for '" + def.bossName + "' by " + preBossDelayMs + "ms due to before_boss schedule.");
-            EXTRA_WAVE_SCHEDULER.schedule(
-                    () -> world.execute(() -> spawnBossNow(
+            BossArenaClock.get().schedule(
+                    world,
+                    deferredEventId,
+                    () -> spawnBossNow(
                             world,
                             def,
                             spawnPos,
                             arenaId,
                             mods,
                             countdownDurationMs,
-                            resolvedWaves,
+                            plan,
                             pendingPreBossAdds,
                             nextWaveNumber,
                             deferredEventId,
                             onPrimaryBossSpawned
-                    )),
-                    preBossDelayMs,
-                    TimeUnit.MILLISECONDS
+                    ),
+                    preBossDelayMs
             );
             return DEFERRED_SPAWN_UUID;
         }
@@ -267,7 +245,7 @@ public final class BossSpawnService {
                 arenaId,
                 mods,
                 countdownDurationMs,
-                resolvedWaves,
+                plan,
                 pendingPreBossAdds,
                 nextWaveNumber,
                 deferredEventId,
@@ -281,13 +259,15 @@ public final class BossSpawnService {
                              String arenaId,
                              BossModifiers mods,
                              long countdownDurationMs,
-                             List<BossDefinition.ExtraMobs.ScheduledWave> resolvedWaves,
+                             WaveTimelinePlan plan,
                              List<UUID> pendingPreBossAdds,
                              AtomicInteger nextWaveNumber,
                              UUID existingEventId,
                              Consumer<UUID> onPrimaryBossSpawned) {
         UUID primaryBossUuid = null;
         UUID bossEventId = existingEventId;
+        // Pre-boss adds still streaming in must exist (and be collected) before the boss spawns.
+        waveSpawns.flush(world, bossEventId);
 
         // Spawn the boss(es)
         for (int i = 0; i < def.amount; i++) {
@@ -373,7 +353,7 @@ public final class BossSpawnService {
 
         if (primaryBossUuid != null && def.extraMobs != null && def.extraMobs.hasConfiguredAdds()) {
             attachPreBossAddsToEvent(world, primaryBossUuid, pendingPreBossAdds);
-            scheduleConfiguredWaves(world, def, spawnPos, primaryBossUuid, resolvedWaves, nextWaveNumber);
+            scheduleConfiguredWaves(world, def, spawnPos, primaryBossUuid, plan, nextWaveNumber);
         }
 
         if (primaryBossUuid == null && bossEventId != null) {
@@ -412,6 +392,11 @@ public final class BossSpawnService {
         return primaryBossUuid;
     }
 
+    /** Event countdown for {@code def}'s tier, as used for manual spawns. */
+    public long getCountdownDurationMs(BossDefinition def) {
+        return resolveCountdownDurationMs(def, null);
+    }
+
     private long resolveCountdownDurationMs(BossDefinition def, Long countdownOverrideMinutes) {
         if (countdownOverrideMinutes != null) {
             long timedMinutes = Math.max(0L, countdownOverrideMinutes);
@@ -493,236 +478,34 @@ public final class BossSpawnService {
     private long scheduleBeforeBossWaveTimeline(World world,
                                                 BossDefinition def,
                                                 Vector3d spawnPos,
-                                                List<BossDefinition.ExtraMobs.ScheduledWave> schedules,
+                                                UUID eventId,
+                                                WaveTimelinePlan plan,
                                                 AtomicInteger nextWaveNumber,
                                                 List<UUID> pendingPreBossAdds) {
-        List<BossDefinition.ExtraMobs.ScheduledWave> beforeBoss = filterSchedulesByTrigger(
-                schedules,
-                BossDefinition.ExtraMobs.TRIGGER_BEFORE_BOSS
-        );
-        if (beforeBoss.isEmpty()) {
-            return 0L;
-        }
-
-        List<PreBossExecution> executions = new ArrayList<>();
-        int scheduleIndex = 0;
-        long bossSpawnIntervalMs = DEFAULT_REPEAT_INTERVAL_MS;
-        for (BossDefinition.ExtraMobs.ScheduledWave scheduledWave : beforeBoss) {
-            scheduleIndex++;
-            int repeatCount = Math.max(1, scheduledWave.repeatCount);
-            if (scheduledWave.repeatCount < 0) {
-                LOGGER.info("before_boss trigger requested infinite repeats; limiting to 1 execution for '" + def.bossName + "'.");
-                repeatCount = 1;
-            }
-            long firstDelayMs = toMillisOrDefault(scheduledWave.triggerValue, 0L);
-            long repeatStepMs = toMillisOrDefault(scheduledWave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
-            long scheduleBossIntervalMs = repeatStepMs;
-            if (scheduledWave.repeatEverySeconds <= 0.0d && scheduledWave.triggerValue > 0.0d) {
-                scheduleBossIntervalMs = toMillisOrDefault(scheduledWave.triggerValue, DEFAULT_REPEAT_INTERVAL_MS);
-            }
-            bossSpawnIntervalMs = Math.max(bossSpawnIntervalMs, scheduleBossIntervalMs);
-
-            for (int execution = 1; execution <= repeatCount; execution++) {
-                long triggerDelayMs = firstDelayMs + ((long) (execution - 1) * repeatStepMs);
-                executions.add(new PreBossExecution(triggerDelayMs, execution, scheduleIndex, scheduledWave));
-            }
-        }
-
-        if (executions.isEmpty()) {
+        if (plan == null || !plan.hasBeforeBoss()) {
             return 0L;
         }
 
-        long bossDelayMs = 0L;
-        for (PreBossExecution execution : executions) {
-            bossDelayMs = Math.max(bossDelayMs, execution.triggerDelayMs);
-        }
-        bossDelayMs += Math.max(1L, bossSpawnIntervalMs);
-
-        executions.sort(Comparator
-                .comparingLong((PreBossExecution execution) -> execution.triggerDelayMs)
-                .thenComparingInt(execution -> execution.scheduleIndex)
-                .thenComparingInt(execution -> execution.executionNumber));
-
-        LOGGER.info("Scheduling " + executions.size() + " pre-boss wave execution(s) over " + bossDelayMs
-                + "ms for boss '" + def.bossName + "' (boss interval=" + bossSpawnIntervalMs + "ms).");
-
-        for (PreBossExecution execution : executions) {
-            long delayMs = Math.max(0L, execution.triggerDelayMs);
-            Runnable runExecution = () -> {
-                int waveNumber = nextWaveNumber.getAndIncrement();
-                List<UUID> spawned = spawnConfiguredWave(
-                        world,
-                        def,
-                        spawnPos,
-                        waveNumber,
-                        null,
-                        execution.wave.adds,
-                        "before_boss@+" + formatSeconds(execution.triggerDelayMs / 1000.0d) + "s#" + execution.executionNumber
-                );
-                if (!spawned.isEmpty()) {
-                    synchronized (pendingPreBossAdds) {
-                        pendingPreBossAdds.addAll(spawned);
-                    }
-                }
-            };
-
-            if (delayMs <= 0L) {
-                runExecution.run();
-                continue;
-            }
-
-            LOGGER.info("Scheduled before_boss wave execution " + execution.executionNumber
-                    + " in " + delayMs + "ms (schedule row " + execution.scheduleIndex + ").");
-            EXTRA_WAVE_SCHEDULER.schedule(() -> world.execute(runExecution), delayMs, TimeUnit.MILLISECONDS);
-        }
-
-        return bossDelayMs;
+        LOGGER.info("Scheduling " + plan.getBeforeBossCount() + " pre-boss wave execution(s) over " + plan.getBossDelayMs()
+                + "ms for boss '" + def.bossName + "'.");
+        new PreBossCursor(plan, world, def, spawnPos, eventId, nextWaveNumber, pendingPreBossAdds).run();
+        return plan.getBossDelayMs();
     }
 
     private void scheduleConfiguredWaves(World world,
                                          BossDefinition def,
                                          Vector3d spawnPos,
                                          UUID bossUuid,
-                                         List<BossDefinition.ExtraMobs.ScheduledWave> resolvedWaves,
+                                         WaveTimelinePlan plan,
                                          AtomicInteger nextWaveNumber) {
-        if (resolvedWaves == null || resolvedWaves.isEmpty()) {
+        if (plan == null || (plan.getTimedCount() == 0 && plan.getHpThresholdCount() == 0)) {
             LOGGER.info("No resolved wave schedule for boss '" + def.bossName + "'.");
             return;
         }
-
-        List<BossDefinition.ExtraMobs.ScheduledWave> onSpawn = filterSchedulesByTrigger(
-                resolvedWaves,
-                BossDefinition.ExtraMobs.TRIGGER_ON_SPAWN
-        );
-        List<BossDefinition.ExtraMobs.ScheduledWave> afterSpawn = filterSchedulesByTrigger(
-                resolvedWaves,
-                BossDefinition.ExtraMobs.TRIGGER_AFTER_SPAWN_SECONDS
-        );
-        List<BossDefinition.ExtraMobs.ScheduledWave> sinceLastWave = filterSchedulesByTrigger(
-                resolvedWaves,
-                BossDefinition.ExtraMobs.TRIGGER_SINCE_LAST_WAVE
-        );
-        List<BossDefinition.ExtraMobs.ScheduledWave> hpThreshold = filterSchedulesByTrigger(
-                resolvedWaves,
-                BossDefinition.ExtraMobs.TRIGGER_BOSS_HP_PERCENT
-        );
-        afterSpawn.sort(Comparator.comparingDouble(wave -> wave.triggerValue));
-        hpThreshold.sort(Comparator.comparingDouble(BossSpawnService::reverseHealthThresholdOrder));
-
-        LOGGER.info("Resolved wave schedule for '" + def.bossName + "': onSpawn=" + onSpawn.size()
-                + ", afterSpawn=" + afterSpawn.size()
-                + ", sinceLastWave=" + sinceLastWave.size()
-                + ", hpThreshold=" + hpThreshold.size());
-
-        boolean hasSinceLastAnchor = false;
-        long lastScheduledWaveDelayMs = 0L;
-
-        for (BossDefinition.ExtraMobs.ScheduledWave scheduledWave : onSpawn) {
-            int waveNumber = nextWaveNumber.getAndIncrement();
-            spawnConfiguredWave(
-                    world,
-                    def,
-                    spawnPos,
-                    waveNumber,
-                    bossUuid,
-                    scheduledWave.adds,
-                    "on_spawn"
-            );
-            hasSinceLastAnchor = true;
-            lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, 0L);
-
-            if (scheduledWave.repeatCount < 0 || scheduledWave.repeatCount > 1) {
-                long repeatDelayMs = toMillisOrDefault(scheduledWave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
-                scheduleTimedWaveExecution(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        scheduledWave.adds,
-                        nextWaveNumber,
-                        "on_spawn_repeat",
-                        2,
-                        scheduledWave.repeatCount,
-                        repeatDelayMs,
-                        repeatDelayMs
-                );
-
-                if (scheduledWave.repeatCount > 1) {
-                    long lastRepeatDelayMs = repeatDelayMs * (scheduledWave.repeatCount - 1L);
-                    lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, lastRepeatDelayMs);
-                }
-            }
-        }
-
-        for (BossDefinition.ExtraMobs.ScheduledWave scheduledWave : afterSpawn) {
-            long firstDelayMs = toMillisOrDefault(scheduledWave.triggerValue, 0L);
-            long repeatDelayMs = toMillisOrDefault(scheduledWave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
-            hasSinceLastAnchor = true;
-            lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, firstDelayMs);
-            scheduleTimedWaveExecution(
-                    world,
-                    def,
-                    spawnPos,
-                    bossUuid,
-                    scheduledWave.adds,
-                    nextWaveNumber,
-                    "after_spawn@" + formatSeconds(scheduledWave.triggerValue) + "s",
-                    1,
-                    scheduledWave.repeatCount,
-                    firstDelayMs,
-                    repeatDelayMs
-            );
-
-            if (scheduledWave.repeatCount > 1) {
-                long lastRepeatDelayMs = firstDelayMs + (repeatDelayMs * (scheduledWave.repeatCount - 1L));
-                lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, lastRepeatDelayMs);
-            }
-        }
-
-        if (!sinceLastWave.isEmpty() && !hasSinceLastAnchor) {
-            LOGGER.info("Skipping since_last_wave schedules for '" + def.bossName
-                    + "' because no prior wave trigger is configured. Boss spawn is not treated as a wave.");
-        } else {
-            long sinceLastCumulativeDelayMs = lastScheduledWaveDelayMs;
-            for (BossDefinition.ExtraMobs.ScheduledWave scheduledWave : sinceLastWave) {
-                long stepDelayMs = toMillisOrDefault(scheduledWave.triggerValue, 0L);
-                sinceLastCumulativeDelayMs += stepDelayMs;
-                long repeatDelayMs = toMillisOrDefault(scheduledWave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
-                scheduleTimedWaveExecution(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        scheduledWave.adds,
-                        nextWaveNumber,
-                        "since_last_wave@" + formatSeconds(scheduledWave.triggerValue) + "s",
-                        1,
-                        scheduledWave.repeatCount,
-                        sinceLastCumulativeDelayMs,
-                        repeatDelayMs
-                );
-
-                if (scheduledWave.repeatCount < 0) {
-                    LOGGER.info("since_last_wave schedule for '" + def.bossName
-                            + "' has infinite repeats; remaining since_last_wave rows will be ignored.");
-                    break;
-                }
-                if (scheduledWave.repeatCount > 1) {
-                    sinceLastCumulativeDelayMs += repeatDelayMs * (scheduledWave.repeatCount - 1L);
-                }
-            }
-        }
-
-        for (BossDefinition.ExtraMobs.ScheduledWave scheduledWave : hpThreshold) {
-            scheduleHpThresholdWave(
-                    world,
-                    def,
-                    spawnPos,
-                    bossUuid,
-                    scheduledWave,
-                    nextWaveNumber
-            );
+        if (plan.getHpThresholdCount() > 0 && hpThresholdTriggers == null) {
+            LOGGER.warning("HP-trigger waves skipped for boss " + bossUuid + " because the trigger system is unavailable.");
         }
+        new WaveCursor(plan, world, def, spawnPos, bossUuid, nextWaveNumber).start();
     }
 
     private void attachPreBossAddsToEvent(World world, UUID bossUuid, List<UUID> preBossAdds) {
@@ -744,220 +527,6 @@ public final class BossSpawnService {
         }
     }
 
-    private void scheduleTimedWaveExecution(World world,
-                                            BossDefinition def,
-                                            Vector3d spawnPos,
-                                            UUID bossUuid,
-                                            List<BossDefinition.ExtraMobs.WaveAdd> adds,
-                                            AtomicInteger nextWaveNumber,
-                                            String triggerLabel,
-                                            int executionNumber,
-                                            int repeatCount,
-                                            long delayMs,
-                                            long repeatDelayMs) {
-        if (repeatCount > 0 && executionNumber > repeatCount) {
-            return;
-        }
-
-        long safeDelayMs = Math.max(0L, delayMs);
-        long safeRepeatDelayMs = Math.max(1L, repeatDelayMs);
-        LOGGER.info("Scheduled wave trigger '" + triggerLabel + "' execution " + executionNumber
-                + " in " + safeDelayMs + "ms for boss " + bossUuid + ".");
-
-        EXTRA_WAVE_SCHEDULER.schedule(() -> world.execute(() -> {
-            if (!isBossAlive(world, bossUuid, triggerLabel + "#" + executionNumber)) {
-                return;
-            }
-
-            int waveNumber = nextWaveNumber.getAndIncrement();
-            spawnConfiguredWave(world, def, spawnPos, waveNumber, bossUuid, adds, triggerLabel + "#" + executionNumber);
-
-            if (repeatCount < 0 || executionNumber < repeatCount) {
-                scheduleTimedWaveExecution(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        adds,
-                        nextWaveNumber,
-                        triggerLabel,
-                        executionNumber + 1,
-                        repeatCount,
-                        safeRepeatDelayMs,
-                        safeRepeatDelayMs
-                );
-            }
-        }), safeDelayMs, TimeUnit.MILLISECONDS);
-    }
-
-    private void scheduleHpThresholdWave(World world,
-                                         BossDefinition def,
-                                         Vector3d spawnPos,
-                                         UUID bossUuid,
-                                         BossDefinition.ExtraMobs.ScheduledWave scheduledWave,
-                                         AtomicInteger nextWaveNumber) {
-        double threshold = Math.max(0d, Math.min(100d, scheduledWave.triggerValue));
-        long repeatDelayMs = toMillisOrDefault(scheduledWave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
-        int remainingRepeatsAfterThreshold = scheduledWave.repeatCount < 0
-                ? -1
-                : Math.max(0, scheduledWave.repeatCount - 1);
-        AtomicBoolean thresholdTriggered = new AtomicBoolean(false);
-        LOGGER.info("Scheduled HP-trigger wave at <= " + formatSeconds(threshold) + "% for boss " + bossUuid + ".");
-
-        scheduleHpThresholdPoll(
-                world,
-                def,
-                spawnPos,
-                bossUuid,
-                threshold,
-                scheduledWave.adds,
-                nextWaveNumber,
-                remainingRepeatsAfterThreshold,
-                repeatDelayMs,
-                thresholdTriggered
-        );
-    }
-
-    private void scheduleHpThresholdPoll(World world,
-                                         BossDefinition def,
-                                         Vector3d spawnPos,
-                                         UUID bossUuid,
-                                         double thresholdPercent,
-                                         List<BossDefinition.ExtraMobs.WaveAdd> adds,
-                                         AtomicInteger nextWaveNumber,
-                                         int remainingRepeatsAfterThreshold,
-                                         long repeatDelayMs,
-                                         AtomicBoolean thresholdTriggered) {
-        EXTRA_WAVE_SCHEDULER.schedule(() -> world.execute(() -> {
-            if (!isBossAlive(world, bossUuid, "boss_hp_percent<=" + formatSeconds(thresholdPercent))) {
-                return;
-            }
-            if (thresholdTriggered.get()) {
-                return;
-            }
-
-            double currentHpPercent = getBossHealthPercent(world, bossUuid);
-            if (currentHpPercent < 0d) {
-                scheduleHpThresholdPoll(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        thresholdPercent,
-                        adds,
-                        nextWaveNumber,
-                        remainingRepeatsAfterThreshold,
-                        repeatDelayMs,
-                        thresholdTriggered
-                );
-                return;
-            }
-
-            if (currentHpPercent > thresholdPercent + HP_TRIGGER_EPSILON) {
-                scheduleHpThresholdPoll(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        thresholdPercent,
-                        adds,
-                        nextWaveNumber,
-                        remainingRepeatsAfterThreshold,
-                        repeatDelayMs,
-                        thresholdTriggered
-                );
-                return;
-            }
-            if (!thresholdTriggered.compareAndSet(false, true)) {
-                return;
-            }
-
-            int waveNumber = nextWaveNumber.getAndIncrement();
-            LOGGER.info("HP trigger reached for boss " + bossUuid + ": current=" + formatSeconds(currentHpPercent)
-                    + "% threshold=" + formatSeconds(thresholdPercent) + "%.");
-            spawnConfiguredWave(
-                    world,
-                    def,
-                    spawnPos,
-                    waveNumber,
-                    bossUuid,
-                    adds,
-                    "boss_hp_percent<=" + formatSeconds(thresholdPercent)
-            );
-
-            if (remainingRepeatsAfterThreshold != 0) {
-                LOGGER.info("Scheduling HP follow-up waves for boss " + bossUuid + ": remaining="
-                        + (remainingRepeatsAfterThreshold < 0 ? "infinite" : remainingRepeatsAfterThreshold)
-                        + ", every=" + repeatDelayMs + "ms.");
-                scheduleHpFollowupWave(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        thresholdPercent,
-                        adds,
-                        nextWaveNumber,
-                        remainingRepeatsAfterThreshold,
-                        repeatDelayMs
-                );
-            }
-        }), HP_TRIGGER_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
-    }
-
-    private void scheduleHpFollowupWave(World world,
-                                        BossDefinition def,
-                                        Vector3d spawnPos,
-                                        UUID bossUuid,
-                                        double thresholdPercent,
-                                        List<BossDefinition.ExtraMobs.WaveAdd> adds,
-                                        AtomicInteger nextWaveNumber,
-                                        int remainingRepeats,
-                                        long repeatDelayMs) {
-        long safeDelayMs = Math.max(1L, repeatDelayMs);
-        EXTRA_WAVE_SCHEDULER.schedule(() -> world.execute(() -> {
-            if (!isBossAlive(world, bossUuid, "boss_hp_percent_repeat<=" + formatSeconds(thresholdPercent))) {
-                return;
-            }
-
-            int waveNumber = nextWaveNumber.getAndIncrement();
-            spawnConfiguredWave(
-                    world,
-                    def,
-                    spawnPos,
-                    waveNumber,
-                    bossUuid,
-                    adds,
-                    "boss_hp_percent_repeat<=" + formatSeconds(thresholdPercent)
-            );
-
-            if (remainingRepeats < 0) {
-                scheduleHpFollowupWave(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        thresholdPercent,
-                        adds,
-                        nextWaveNumber,
-                        -1,
-                        safeDelayMs
-                );
-            } else if (remainingRepeats > 1) {
-                scheduleHpFollowupWave(
-                        world,
-                        def,
-                        spawnPos,
-                        bossUuid,
-                        thresholdPercent,
-                        adds,
-                        nextWaveNumber,
-                        remainingRepeats - 1,
-                        safeDelayMs
-                );
-            }
-        }), safeDelayMs, TimeUnit.MILLISECONDS);
-    }
-
     private boolean isBossAlive(World world, UUID bossUuid, String triggerLabel) {
         if (bossUuid == null) {
             LOGGER.info("Skipping wave trigger '" + triggerLabel + "' because boss UUID is null.");
@@ -1032,109 +601,210 @@ public final class BossSpawnService {
         }
     }
 
-    private List<UUID> spawnConfiguredWave(World world,
-                                           BossDefinition def,
-                                           Vector3d spawnPos,
-                                           int waveNumber,
-                                           UUID bossUuid,
-                                           List<BossDefinition.ExtraMobs.WaveAdd> adds,
-                                           String triggerLabel) {
-        if (adds == null || adds.isEmpty()) {
-            return List.of();
+    /**
+     * Queues a wave on {@code world}'s spawn pipeline; its adds stream in at {@code waveSpawnsPerTick}. The wave
+     * number is fixed now, and the wave banner is shown once the last add is in. Pre-boss adds (no boss yet) are
+     * handed to {@code onAddSpawned} instead of being tracked. A {@code sheddable} wave waits, for a bounded time,
+     * while the world's tick is shedding load.
+     */
+    private void spawnConfiguredWave(World world,
+                                     BossDefinition def,
+                                     Vector3d spawnPos,
+                                     int waveNumber,
+                                     UUID bossUuid,
+                                     UUID eventId,
+                                     List<BossDefinition.ExtraMobs.WaveAdd> spawnOrder,
+                                     String triggerLabel,
+                                     boolean sheddable,
+                                     Consumer<UUID> onAddSpawned) {
+        if (spawnOrder == null || spawnOrder.isEmpty()) {
+            return;
+        }
+
+        List<BossDefinition.ExtraMobs.WaveAdd> order = spawnOrder;
+        boolean waitForCap = false;
+        if (bossUuid != null) {
+            String policy = config != null ? config.getAddCapPolicy() : BossArenaConfig.ADD_CAP_POLICY_QUEUE;
+            int headroom = resolveAddHeadroom(world, bossUuid, eventId);
+            waitForCap = BossArenaConfig.ADD_CAP_POLICY_QUEUE.equals(policy);
+            if (headroom < order.size()) {
+                if (BossArenaConfig.ADD_CAP_POLICY_PARTIAL.equals(policy) && headroom > 0) {
+                    waveSpawns.noteCapTrimmed(world, order.size() - headroom);
+                    LOGGER.info("Wave " + waveNumber + " for '" + def.bossName + "' trimmed to " + headroom + "/"
+                            + order.size() + " add(s) by the active add cap.");
+                    order = order.subList(0, headroom);
+                } else if (!waitForCap || waveSpawns.pendingAdds(world, eventId) >= resolveQueuedAddLimit()) {
+                    // Under the queue policy an event may only have one cap's worth of adds waiting.
+                    waveSpawns.noteCapSkipped(world, order.size());
+                    LOGGER.info("Wave " + waveNumber + " for '" + def.bossName + "' skipped by the active add cap ("
+                            + policy + ").");
+                    return;
+                }
+            }
         }
 
-        LOGGER.info("Executing wave " + waveNumber + " for '" + def.bossName + "' via trigger '" + triggerLabel + "'.");
+        List<BossDefinition.ExtraMobs.WaveAdd> finalOrder = order;
+        boolean finalWaitForCap = waitForCap;
+        LOGGER.info("Queued wave " + waveNumber + " for '" + def.bossName + "' via trigger '" + triggerLabel
+                + "' (" + finalOrder.size() + " add(s), " + waveSpawns.pendingAdds(world) + " already queued).");
+        long holdUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_LOAD_HOLD_MS);
+        waveSpawns.enqueue(world, eventId, new WaveSpawnQueue.Job() {
+            private int trackedAddsSpawned;
+
+            @Override
+            public int size() {
+                return finalOrder.size();
+            }
 
-        int trackedAddsSpawned = 0;
-        List<UUID> spawnedAddUuids = new ArrayList<>();
-        for (BossDefinition.ExtraMobs.WaveAdd add : adds) {
-            if (add == null || add.npcId == null || add.npcId.isBlank()) {
-                continue;
+            @Override
+            public boolean isCancelled() {
+                return bossUuid != null && !tracking.isTracked(bossUuid);
             }
-            int mobCount = Math.max(1, add.mobsPerWave);
-            for (int i = 0; i < mobCount; i++) {
-                Vector3d mobPos = computeWaveSpawnPosition(spawnPos, def.extraMobs);
 
-                var result = NPCPlugin.get().spawnNPC(
-                        world.getEntityStore().getStore(),
-                        add.npcId,
-                        null,
-                        mobPos,
-                        new Vector3f(0, 0, 0)
-                );
-                if (result == null) {
-                    LOGGER.warning("Failed to spawn add '" + add.npcId + "' for wave " + waveNumber + ".");
-                    continue;
-                }
+            @Override
+            public boolean isBlocked() {
+                return finalWaitForCap && isAtAddCap(world, bossUuid);
+            }
 
-                Ref<EntityStore> addRef = result.first();
-                if (addRef == null || !addRef.isValid()) {
-                    LOGGER.warning("Spawned add '" + add.npcId + "' has invalid entity reference; skipping.");
-                    continue;
+            @Override
+            public boolean isHeld() {
+                return sheddable && TickHealthMonitor.isShedding(world) && System.nanoTime() - holdUntilNanos < 0L;
+            }
+
+            @Override
+            public void spawn(World liveWorld, int index) {
+                UUID addUuid = spawnWaveAdd(liveWorld, def, spawnPos, waveNumber, finalOrder.get(index), bossUuid);
+                if (addUuid == null) {
+                    return;
                 }
-                BossModifiers addMods = new BossModifiers(
-                        Math.max(0.01f, add.hp),
-                        Math.max(0.01f, add.damage),
-                        1.0f,
-                        Math.max(0.01f, add.size),
-                        1.0f,
-                        1.0f,
-                        1.0f,
-                        1.0f,
-                        1.0f,
-                        1.0f
-                );
-                applyModifiers(world.getEntityStore().getStore(), addRef, addMods);
-                disableDefaultEntityLoot(world.getEntityStore().getStore(), addRef, add.npcId);
-                if (!addRef.isValid()) {
-                    LOGGER.warning("Spawned add '" + add.npcId + "' became invalid during setup; skipping tracking.");
-                    continue;
+                if (bossUuid != null) {
+                    trackedAddsSpawned++;
+                } else if (onAddSpawned != null) {
+                    onAddSpawned.accept(addUuid);
                 }
+            }
 
-                Object addUuidObj = world.getEntityStore().getStore().getComponent(addRef, UUIDComponent.getComponentType());
-                if (addUuidObj instanceof UUIDComponent addUuidComp) {
-                    UUID addUuid = addUuidComp.getUuid();
-                    spawnedAddUuids.add(addUuid);
-                    if (bossUuid != null) {
-                        tracking.trackAdd(bossUuid, addUuid, addMods);
-                        trackedAddsSpawned++;
-                    } else {
-                        pendingDetachedAddModifiers.put(addUuid, addMods);
+            @Override
+            public void complete(World liveWorld, int spawned, int ticks, long maxWaitMs) {
+                LOGGER.info("Wave " + waveNumber + " for '" + def.bossName + "' spawned " + spawned + "/" + finalOrder.size()
+                        + " add(s) over " + ticks + " tick(s), max queue wait " + maxWaitMs + "ms.");
+                if (bossUuid == null) {
+                    if (spawned > 0) {
+                        LOGGER.info("Wave " + waveNumber + " spawned " + spawned
+                                + " pre-boss add(s). They will be linked after the boss spawns.");
                     }
+                    return;
+                }
+                if (trackedAddsSpawned <= 0 || !tracking.isTracked(bossUuid)) {
+                    return;
+                }
+                BossTrackingSystem.BossData bossData = tracking.getBossData(bossUuid);
+                if (bossData != null) {
+                    BossWaveNotificationService.notifyWaveSpawn(
+                            liveWorld,
+                            bossData.spawnLocation,
+                            bossData.bossName,
+                            waveNumber,
+                            trackedAddsSpawned,
+                            tracking.getActiveAddCountForEvent(bossUuid),
+                            tracking.getRemainingCountdownMillis(bossUuid)
+                    );
                 }
-
-                LOGGER.info("Spawned add '" + add.npcId + "' " + (i + 1) + "/" + mobCount
-                        + " (wave " + waveNumber
-                        + ", hp=" + addMods.hpMultiplier()
-                        + ", dmg=" + addMods.damageMultiplier()
-                        + ", size=" + addMods.scaleMultiplier() + ")");
             }
+        });
+    }
+
+    /** Adds a boss wave may still queue before reaching a cap, counting adds already waiting in the queue. */
+    private int resolveAddHeadroom(World world, UUID bossUuid, UUID eventId) {
+        int headroom = Integer.MAX_VALUE;
+        int eventCap = config != null ? config.getMaxActiveAddsPerEvent() : 0;
+        if (eventCap > 0) {
+            headroom = eventCap - tracking.getActiveAddCountForEvent(bossUuid) - waveSpawns.pendingAdds(world, eventId);
         }
+        int worldCap = config != null ? config.getMaxActiveAddsPerWorld() : 0;
+        if (worldCap > 0) {
+            headroom = Math.min(headroom,
+                    worldCap - tracking.getActiveAddCountForWorld(world) - waveSpawns.pendingAdds(world));
+        }
+        return Math.max(0, headroom);
+    }
 
-        if (bossUuid == null) {
-            if (!spawnedAddUuids.isEmpty()) {
-                LOGGER.info("Wave " + waveNumber + " spawned " + spawnedAddUuids.size()
-                        + " pre-boss add(s). They will be linked after the boss spawns.");
-            }
-            return spawnedAddUuids;
+    private int resolveQueuedAddLimit() {
+        int eventCap = config != null ? config.getMaxActiveAddsPerEvent() : 0;
+        int worldCap = config != null ? config.getMaxActiveAddsPerWorld() : 0;
+        return eventCap > 0 ? eventCap : Math.max(1, worldCap);
+    }
+
+    private boolean isAtAddCap(World world, UUID bossUuid) {
+        int eventCap = config != null ? config.getMaxActiveAddsPerEvent() : 0;
+        if (eventCap > 0 && tracking.getActiveAddCountForEvent(bossUuid) >= eventCap) {
+            return true;
         }
+        int worldCap = config != null ? config.getMaxActiveAddsPerWorld() : 0;
+        return worldCap > 0 && tracking.getActiveAddCountForWorld(world) >= worldCap;
+    }
 
-        if (trackedAddsSpawned > 0) {
-            BossTrackingSystem.BossData bossData = tracking.getBossData(bossUuid);
-            if (bossData != null) {
-                BossWaveNotificationService.notifyWaveSpawn(
-                        world,
-                        bossData.spawnLocation,
-                        bossData.bossName,
-                        waveNumber,
-                        trackedAddsSpawned,
-                        tracking.getActiveAddCountForEvent(bossUuid),
-                        tracking.getRemainingCountdownMillis(bossUuid)
-                );
-            }
+    private UUID spawnWaveAdd(World world,
+                              BossDefinition def,
+                              Vector3d spawnPos,
+                              int waveNumber,
+                              BossDefinition.ExtraMobs.WaveAdd add,
+                              UUID bossUuid) {
+        Vector3d mobPos = computeWaveSpawnPosition(spawnPos, def.extraMobs);
+        Store<EntityStore> store = world.getEntityStore().getStore();
+
+        var result = NPCPlugin.get().spawnNPC(
+                store,
+                add.npcId,
+                null,
+                mobPos,
+                new Vector3f(0, 0, 0)
+        );
+        if (result == null) {
+            LOGGER.warning("Failed to spawn add '" + add.npcId + "' for wave " + waveNumber + ".");
+            return null;
+        }
+
+        Ref<EntityStore> addRef = result.first();
+        if (addRef == null || !addRef.isValid()) {
+            LOGGER.warning("Spawned add '" + add.npcId + "' has invalid entity reference; skipping.");
+            return null;
+        }
+        BossModifiers addMods = new BossModifiers(
+                Math.max(0.01f, add.hp),
+                Math.max(0.01f, add.damage),
+                1.0f,
+                Math.max(0.01f, add.size),
+                1.0f,
+                1.0f,
+                1.0f,
+                1.0f,
+                1.0f,
+                1.0f
+        );
+        applyModifiers(store, addRef, addMods);
+        disableDefaultEntityLoot(store, addRef, add.npcId);
+        if (!addRef.isValid()) {
+            LOGGER.warning("Spawned add '" + add.npcId + "' became invalid during setup; skipping tracking.");
+            return null;
+        }
+
+        Object addUuidObj = store.getComponent(addRef, UUIDComponent.getComponentType());
+        if (!(addUuidObj instanceof UUIDComponent addUuidComp)) {
+            return null;
+        }
+        UUID addUuid = addUuidComp.getUuid();
+        if (bossUuid != null) {
+            tracking.trackAdd(bossUuid, addUuid, addMods);
+        } else {
+            pendingDetachedAddModifiers.put(addUuid, addMods);
         }
 
-        return spawnedAddUuids;
+        LOGGER.info("Spawned add '" + add.npcId + "' (wave " + waveNumber
+                + ", hp=" + addMods.hpMultiplier()
+                + ", dmg=" + addMods.damageMultiplier()
+                + ", size=" + addMods.scaleMultiplier() + ")");
+        return addUuid;
     }
 
     private void disableDefaultEntityLoot(Store<EntityStore> store, Ref<EntityStore> entityRef, String label) {
@@ -1187,20 +857,198 @@ public final class BossSpawnService {
         return new Vector3d(x, center.y, z);
     }
 
-    private static final class PreBossExecution {
-        private final long triggerDelayMs;
-        private final int executionNumber;
-        private final int scheduleIndex;
-        private final BossDefinition.ExtraMobs.ScheduledWave wave;
-
-        private PreBossExecution(long triggerDelayMs,
-                                 int executionNumber,
-                                 int scheduleIndex,
-                                 BossDefinition.ExtraMobs.ScheduledWave wave) {
-            this.triggerDelayMs = Math.max(0L, triggerDelayMs);
-            this.executionNumber = executionNumber;
-            this.scheduleIndex = Math.max(0, scheduleIndex);
-            this.wave = wave;
+    private static long elapsedMs(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    /**
+     * Runs a plan's pre-boss firings in order, keeping one clock timer pending for the next one.
+     */
+    private final class PreBossCursor implements Runnable {
+        private final WaveTimelinePlan plan;
+        private final World world;
+        private final BossDefinition def;
+        private final Vector3d spawnPos;
+        private final UUID eventId;
+        private final AtomicInteger nextWaveNumber;
+        private final Consumer<UUID> onAddSpawned;
+        private final long startedAtNanos = System.nanoTime();
+        private int next;
+
+        private PreBossCursor(WaveTimelinePlan plan,
+                              World world,
+                              BossDefinition def,
+                              Vector3d spawnPos,
+                              UUID eventId,
+                              AtomicInteger nextWaveNumber,
+                              List<UUID> pendingPreBossAdds) {
+            this.plan = plan;
+            this.world = world;
+            this.def = def;
+            this.spawnPos = spawnPos;
+            this.eventId = eventId;
+            this.nextWaveNumber = nextWaveNumber;
+            this.onAddSpawned = pendingPreBossAdds::add;
+        }
+
+        @Override
+        public synchronized void run() {
+            long nowMs = elapsedMs(startedAtNanos);
+            int count = plan.getBeforeBossCount();
+            while (next < count && plan.getBeforeBoss(next).atMs() <= nowMs) {
+                WaveTimelinePlan.Firing firing = plan.getBeforeBoss(next++);
+                spawnConfiguredWave(world, def, spawnPos, nextWaveNumber.getAndIncrement(), null, eventId,
+                        firing.spawnOrder(), firing.label(), false, onAddSpawned);
+            }
+            if (next < count) {
+                WaveTimelinePlan.Firing upcoming = plan.getBeforeBoss(next);
+                long delayMs = Math.max(0L, upcoming.atMs() - nowMs);
+                LOGGER.info("Scheduled before_boss wave execution " + upcoming.executionNumber()
+                        + " in " + delayMs + "ms (schedule row " + upcoming.scheduleIndex() + ").");
+                BossArenaClock.get().schedule(world, eventId, this, delayMs);
+            }
+        }
+    }
+
+    /**
+     * Walks one boss event through its plan's time-based series and HP thresholds. Only one clock timer is pending
+     * at a time, armed for the earliest due series; a crossed threshold fires its wave and starts its repeats.
+     */
+    private final class WaveCursor implements Runnable {
+        private final WaveTimelinePlan plan;
+        private final World world;
+        private final BossDefinition def;
+        private final Vector3d spawnPos;
+        private final UUID bossUuid;
+        private final UUID eventId;
+        private final AtomicInteger nextWaveNumber;
+        private final long startedAtNanos = System.nanoTime();
+        // Per series (timed first, then HP): next firing offset, Long.MAX_VALUE when idle or done.
+        private final long[] nextAtMs;
+        private final int[] executions;
+        private BossArenaClock.Timer timer;
+        private long timerAtMs = Long.MAX_VALUE;
+        private boolean stopped;
+
+        private WaveCursor(WaveTimelinePlan plan,
+                           World world,
+                           BossDefinition def,
+                           Vector3d spawnPos,
+                           UUID bossUuid,
+                           AtomicInteger nextWaveNumber) {
+            this.plan = plan;
+            this.world = world;
+            this.def = def;
+            this.spawnPos = spawnPos;
+            this.bossUuid = bossUuid;
+            this.eventId = tracking.getEventIdForBoss(bossUuid);
+            this.nextWaveNumber = nextWaveNumber;
+            int seriesCount = plan.getTimedCount() + plan.getHpThresholdCount();
+            this.nextAtMs = new long[seriesCount];
+            this.executions = new int[seriesCount];
+            for (int i = 0; i < seriesCount; i++) {
+                nextAtMs[i] = i < plan.getTimedCount() ? plan.getTimed(i).firstAtMs() : Long.MAX_VALUE;
+            }
+        }
+
+        private void start() {
+            if (hpThresholdTriggers != null) {
+                for (int i = 0; i < plan.getHpThresholdCount(); i++) {
+                    int hpIndex = i;
+                    double threshold = plan.getHpThreshold(i).hpThreshold();
+                    LOGGER.info("Scheduled HP-trigger wave at <= " + formatSeconds(threshold) + "% for boss " + bossUuid + ".");
+                    hpThresholdTriggers.registerThreshold(bossUuid, threshold, () -> onThresholdCrossed(hpIndex));
+                }
+            }
+            run();
+        }
+
+        @Override
+        public synchronized void run() {
+            timer = null;
+            timerAtMs = Long.MAX_VALUE;
+            if (stopped) {
+                return;
+            }
+            long nowMs = elapsedMs(startedAtNanos);
+            int index;
+            // fire() moves a series past nowMs, so each due series fires once per run even after a stall.
+            while ((index = nextDue(nowMs)) >= 0) {
+                if (!isBossAlive(world, bossUuid, seriesAt(index).labelFor(executions[index] + 1))) {
+                    stopped = true;
+                    return;
+                }
+                fire(index, nowMs);
+            }
+            arm(nowMs);
+        }
+
+        private synchronized void onThresholdCrossed(int hpIndex) {
+            int index = plan.getTimedCount() + hpIndex;
+            WaveTimelinePlan.Series series = plan.getHpThreshold(hpIndex);
+            if (stopped || executions[index] > 0 || !isBossAlive(world, bossUuid, series.labelFor(1))) {
+                return;
+            }
+            LOGGER.info("HP trigger reached for boss " + bossUuid + ": current="
+                    + formatSeconds(getBossHealthPercent(world, bossUuid))
+                    + "% threshold=" + formatSeconds(series.hpThreshold()) + "%.");
+            long nowMs = elapsedMs(startedAtNanos);
+            nextAtMs[index] = nowMs;
+            fire(index, nowMs);
+            arm(nowMs);
+        }
+
+        private WaveTimelinePlan.Series seriesAt(int index) {
+            int timedCount = plan.getTimedCount();
+            return index < timedCount ? plan.getTimed(index) : plan.getHpThreshold(index - timedCount);
+        }
+
+        private int nextDue(long nowMs) {
+            int due = -1;
+            for (int i = 0; i < nextAtMs.length; i++) {
+                if (nextAtMs[i] <= nowMs && (due < 0 || nextAtMs[i] < nextAtMs[due])) {
+                    due = i;
+                }
+            }
+            return due;
+        }
+
+        /**
+         * Fires series {@code index} once and steps it to its next slot on the original grid, so repeats do not
+         * drift by timer granularity or dispatch latency. Slots missed during a stall are skipped rather than
+         * caught up, so a stalled clock or world produces one wave, not a burst.
+         */
+        private void fire(int index, long nowMs) {
+            WaveTimelinePlan.Series series = seriesAt(index);
+            int execution = ++executions[index];
+            // The first firing of a schedule row is a scripted beat; its repeats are what load shedding may delay.
+            spawnConfiguredWave(world, def, spawnPos, nextWaveNumber.getAndIncrement(), bossUuid, eventId,
+                    series.spawnOrder(), series.labelFor(execution), execution > 1, null);
+            if (!series.isInfinite() && execution >= series.count()) {
+                nextAtMs[index] = Long.MAX_VALUE;
+                return;
+            }
+            long everyMs = Math.max(1L, series.everyMs());
+            long next = nextAtMs[index] + everyMs;
+            if (next <= nowMs) {
+                next += ((nowMs - next) / everyMs + 1) * everyMs;
+            }
+            nextAtMs[index] = next;
+        }
+
+        private void arm(long nowMs) {
+            long nextMs = Long.MAX_VALUE;
+            for (long atMs : nextAtMs) {
+                nextMs = Math.min(nextMs, atMs);
+            }
+            if (nextMs == Long.MAX_VALUE || (timer != null && timerAtMs <= nextMs)) {
+                return;
+            }
+            if (timer != null) {
+                timer.cancel();
+            }
+            timerAtMs = nextMs;
+            timer = BossArenaClock.get().schedule(world, eventId, this, Math.max(0L, nextMs - nowMs));
         }
     }
 
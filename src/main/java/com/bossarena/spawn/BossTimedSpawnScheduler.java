@@ -7,6 +7,12 @@ import com.bossarena.data.BossDefinition;
 import com.bossarena.data.BossRegistry;
 import com.bossarena.system.BossTrackingSystem;
 import com.bossarena.system.BossWaveNotificationService;
+import com.bossarena.util.BossArenaClock;
+import com.bossarena.util.StateCodec;
+import com.bossarena.util.StateFiles;
+import com.bossarena.util.StateReader;
+import com.bossarena.util.StateWriteExecutor;
+import com.bossarena.util.StateWriter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.hypixel.hytale.math.vector.Vector3d;
@@ -15,11 +21,8 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,36 +32,35 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 public final class BossTimedSpawnScheduler {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final int PERSISTENCE_VERSION = 1;
+    private static final StateCodec<PersistedState> STATE_CODEC = new PersistedStateCodec();
     private static final long SCHEDULER_TICK_SECONDS = 5L;
     private static final long WORLD_LOOKUP_RETRY_MINUTES = 1L;
     private static final long PENDING_SPAWN_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30L);
     // When no players are online in the target world, defer timed spawns and retry soon.
     private static final long NO_PLAYER_RETRY_SECONDS = 30L;
+    private static final long ADMISSION_RETRY_SECONDS = 30L;
     private final BossSpawnService bossSpawnService;
     private final BossTrackingSystem trackingSystem;
     private final Map<String, PendingSpawnState> pendingSpawnByKey = new ConcurrentHashMap<>();
     private final Set<UUID> spawnedTimedBossUuids = ConcurrentHashMap.newKeySet();
-    private final ScheduledExecutorService executor =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "BossArena-TimedSpawns");
-                t.setDaemon(true);
-                return t;
-            });
     private final Object persistenceLock = new Object();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
     private TimedBossMapMarkerService mapMarkerService;
+    private EventAdmissionController admissionController;
     private volatile Path persistencePath;
+    private volatile boolean legacyStateMigrationPending;
     private volatile Map<String, Long> persistedNextSpawnByLabel = Map.of();
     private volatile List<TimedSpawnState> states = List.of();
     private volatile boolean started;
+    private BossArenaClock.Timer tickTimer;
 
     public BossTimedSpawnScheduler(BossSpawnService bossSpawnService, BossTrackingSystem trackingSystem) {
         this.bossSpawnService = bossSpawnService;
@@ -201,6 +203,10 @@ public final class BossTimedSpawnScheduler {
         this.mapMarkerService = mapMarkerService;
     }
 
+    public void setAdmissionController(EventAdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
     public synchronized void initializePersistence(Path stateFilePath) {
         this.persistencePath = stateFilePath;
         if (stateFilePath == null) {
@@ -221,7 +227,23 @@ public final class BossTimedSpawnScheduler {
     }
 
     public void flushPersistence() {
-        persistState();
+        writeState();
+    }
+
+    /**
+     * Writes the on-disk timed spawn state as pretty JSON next to it.
+     *
+     * @return the export file, or {@code null} if there is no state file yet
+     */
+    public Path exportStateJson() throws IOException {
+        Path path = persistencePath;
+        if (path == null) {
+            return null;
+        }
+        flushPersistence();
+        synchronized (persistenceLock) {
+            return StateFiles.exportJson(path, STATE_CODEC, GSON);
+        }
     }
 
     public synchronized void start() {
@@ -229,13 +251,17 @@ public final class BossTimedSpawnScheduler {
             return;
         }
         started = true;
-        executor.scheduleAtFixedRate(this::tickSafely, SCHEDULER_TICK_SECONDS, SCHEDULER_TICK_SECONDS, TimeUnit.SECONDS);
+        long tickMs = TimeUnit.SECONDS.toMillis(SCHEDULER_TICK_SECONDS);
+        tickTimer = BossArenaClock.get().scheduleAtFixedRate(this::tickSafely, tickMs, tickMs);
     }
 
     public synchronized void shutdown() {
         flushPersistence();
         started = false;
-        executor.shutdownNow();
+        if (tickTimer != null) {
+            tickTimer.cancel();
+            tickTimer = null;
+        }
         pendingSpawnByKey.clear();
         spawnedTimedBossUuids.clear();
         states = List.of();
@@ -368,7 +394,7 @@ public final class BossTimedSpawnScheduler {
             markSpawnPending(rule, state.label, now);
         }
 
-        world.execute(() -> {
+        Runnable start = () -> {
             long timedDespawnMinutes = resolveDespawnMinutes(rule);
             UUID result = bossSpawnService.spawnBossFromJson(
                     null,
@@ -405,7 +431,34 @@ public final class BossTimedSpawnScheduler {
             } else {
                 LOGGER.info("Timed spawn created boss '" + configuredBossId + "' for rule '" + state.label + "' (uuid=" + result + ").");
             }
-        });
+        };
+
+        EventAdmissionController admission = admissionController;
+        if (admission == null) {
+            world.execute(start);
+            state.nextSpawnEpochMs = now + intervalMs;
+            return true;
+        }
+        EventAdmissionController.Admission admitted = admission.submit(
+                EventAdmissionController.Lane.TIMED,
+                world,
+                "timed:" + state.label,
+                start,
+                () -> {
+                    clearPendingSpawnForRule(rule);
+                    LOGGER.warning("Timed spawn for rule '" + state.label + "' expired in the event queue.");
+                }
+        );
+        if (admitted.status() == EventAdmissionController.Status.REJECTED) {
+            clearPendingSpawnForRule(rule);
+            state.nextSpawnEpochMs = now + TimeUnit.SECONDS.toMillis(ADMISSION_RETRY_SECONDS);
+            LOGGER.info("Timed spawn for '" + state.label + "' deferred because the event queue is full.");
+            return true;
+        }
+        if (admitted.status() == EventAdmissionController.Status.QUEUED) {
+            LOGGER.info("Timed spawn for '" + state.label + "' queued at #" + admitted.position()
+                    + " until an event slot frees up.");
+        }
         state.nextSpawnEpochMs = now + intervalMs;
         return true;
     }
@@ -583,7 +636,30 @@ public final class BossTimedSpawnScheduler {
         }
     }
 
+    /**
+     * Hands the write to the state writer thread so the clock's tick never waits on disk. Bursts coalesce into one
+     * write, which reads the rules' newest next-spawn times when it runs.
+     */
     private void persistState() {
+        if (persistencePath == null) {
+            return;
+        }
+        if (writeScheduled.compareAndSet(false, true)) {
+            StateWriteExecutor.get().execute(this::writeStateSafe);
+        }
+    }
+
+    private void writeStateSafe() {
+        try {
+            writeState();
+        } catch (Exception e) {
+            LOGGER.warning("Unexpected error while persisting timed spawn state: " + e.getMessage());
+        }
+    }
+
+    private void writeState() {
+        // Clear first so a change racing with this write schedules a follow-up.
+        writeScheduled.set(false);
         Path path = persistencePath;
         if (path == null) {
             return;
@@ -603,16 +679,13 @@ public final class BossTimedSpawnScheduler {
                 nextByLabel.put(row.label, row.nextSpawnEpochMs);
             }
 
-            String json = GSON.toJson(state);
-            Path temp = path.resolveSibling(path.getFileName().toString() + ".tmp");
             try {
-                Files.writeString(temp, json, StandardCharsets.UTF_8);
-                try {
-                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-                } catch (AtomicMoveNotSupportedException ignored) {
-                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
-                }
+                StateFiles.write(path, STATE_CODEC, state);
                 persistedNextSpawnByLabel = nextByLabel;
+                if (legacyStateMigrationPending) {
+                    legacyStateMigrationPending = false;
+                    StateFiles.retireLegacyJson(path);
+                }
             } catch (IOException e) {
                 LOGGER.warning("Failed to persist timed spawn state: " + e.getMessage());
             }
@@ -621,14 +694,18 @@ public final class BossTimedSpawnScheduler {
 
     private Map<String, Long> loadPersistedNextSpawnMap() {
         Path path = persistencePath;
-        if (path == null || Files.notExists(path)) {
+        if (path == null) {
             return Map.of();
         }
 
         synchronized (persistenceLock) {
             try {
-                String raw = Files.readString(path, StandardCharsets.UTF_8);
-                PersistedState state = GSON.fromJson(raw, PersistedState.class);
+                StateFiles.Loaded<PersistedState> loaded = StateFiles.read(path, STATE_CODEC, GSON, PersistedState.class);
+                if (loaded == null) {
+                    return Map.of();
+                }
+                legacyStateMigrationPending = loaded.legacyJson();
+                PersistedState state = loaded.state();
                 if (state == null || state.version != PERSISTENCE_VERSION || state.rules == null) {
                     return Map.of();
                 }
@@ -702,6 +779,35 @@ public final class BossTimedSpawnScheduler {
         long nextSpawnEpochMs;
     }
 
+    private static final class PersistedStateCodec implements StateCodec<PersistedState> {
+        @Override
+        public int formatVersion() {
+            return 2;
+        }
+
+        @Override
+        public void encode(PersistedState state, StateWriter out) throws IOException {
+            out.writeVarInt(state.rules.size());
+            for (PersistedRuleState row : state.rules) {
+                out.writeString(row.label);
+                out.writeVarLong(Math.max(0L, row.nextSpawnEpochMs));
+            }
+        }
+
+        @Override
+        public PersistedState decode(StateReader in, int formatVersion) throws IOException {
+            PersistedState state = new PersistedState();
+            int count = in.readCount();
+            for (int i = 0; i < count; i++) {
+                PersistedRuleState row = new PersistedRuleState();
+                row.label = in.readString();
+                row.nextSpawnEpochMs = in.readVarLong();
+                state.rules.add(row);
+            }
+            return state;
+        }
+    }
+
     private static final class PendingSpawnState {
         String ruleLabel;
         long startedAtEpochMs;
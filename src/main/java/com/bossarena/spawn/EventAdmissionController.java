@@ -0,0 +1,365 @@
+package com.bossarena.spawn;
+
+import com.bossarena.BossArenaConfig;
+import com.bossarena.system.BossTrackingSystem;
+import com.bossarena.util.BossArenaClock;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decides when a new boss event may start. Shop purchases, timed spawns and {@code /bossarena spawn} submit here;
+ * an event starts right away while its world and the server are below their concurrent-event caps and otherwise
+ * waits in a FIFO queue. Timed spawns have their own lane that is always served first. A request that waits longer
+ * than the queue timeout expires and its expiry callback runs instead (queued purchases are refunded there).
+ * <p>
+ * An admitted event holds a reserved slot until its start task has run on the world thread, so two requests
+ * admitted in the same second cannot both see the same free slot.
+ */
+public final class EventAdmissionController {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final long DRAIN_INTERVAL_MS = 1000L;
+
+    public enum Lane {
+        TIMED,
+        STANDARD
+    }
+
+    public enum Status {
+        STARTED,
+        QUEUED,
+        REJECTED
+    }
+
+    /**
+     * Result of {@link #submit}. {@code position} is 1-based within the request's lane; {@code etaMs} is estimated
+     * from the countdowns of the events holding the slots, or -1 when no countdown bounds it.
+     */
+    public record Admission(Status status, int position, long etaMs) {
+        private static final Admission STARTED = new Admission(Status.STARTED, 0, 0L);
+        private static final Admission REJECTED = new Admission(Status.REJECTED, 0, -1L);
+    }
+
+    private final BossTrackingSystem tracking;
+    private final BossArenaConfig config;
+    private final Deque<Ticket> timedLane = new ArrayDeque<>();
+    private final Deque<Ticket> standardLane = new ArrayDeque<>();
+    private final Map<String, AtomicInteger> reservedByWorld = new ConcurrentHashMap<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private long startedImmediately;
+    private long startedFromQueue;
+    private long expired;
+    private long rejected;
+    private BossArenaClock.Timer drainTimer;
+    private volatile boolean shutdown;
+
+    public EventAdmissionController(BossTrackingSystem tracking, BossArenaConfig config) {
+        this.tracking = tracking;
+        this.config = config;
+    }
+
+    /**
+     * Starts {@code start} on {@code world}'s thread now, or queues it until a slot frees up. {@code onExpired} runs
+     * instead if the request times out in the queue, cannot be dispatched, or is still queued at shutdown; it may
+     * run on any thread.
+     */
+    public synchronized Admission submit(Lane lane, World world, String label, Runnable start, Runnable onExpired) {
+        if (world == null || start == null) {
+            return Admission.REJECTED;
+        }
+        Ticket ticket = new Ticket(lane != null ? lane : Lane.STANDARD, world, label, start, onExpired,
+                System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(queueTimeoutMinutes()));
+
+        // Serve what is already waiting first, so a new request never takes a slot an older one could use.
+        drain();
+        if (hasRoom(world)) {
+            startedImmediately++;
+            dispatch(ticket);
+            return Admission.STARTED;
+        }
+
+        int queueSize = config != null ? config.getEventQueueSize() : 0;
+        if (timedLane.size() + standardLane.size() >= queueSize) {
+            rejected++;
+            LOGGER.info("Event request '" + label + "' rejected: " + describeCapacity(world) + ", queue full ("
+                    + queueSize + ").");
+            return Admission.REJECTED;
+        }
+
+        Deque<Ticket> queue = ticket.lane == Lane.TIMED ? timedLane : standardLane;
+        queue.addLast(ticket);
+        ensureDrainTimer();
+        int position = queue.size();
+        long etaMs = estimateWaitMs(ticket);
+        LOGGER.info("Event request '" + label + "' queued in " + ticket.lane.name().toLowerCase(Locale.ROOT)
+                + " lane at #" + position + ": " + describeCapacity(world) + ".");
+        return new Admission(Status.QUEUED, position, etaMs);
+    }
+
+    public synchronized int getQueuedCount() {
+        return timedLane.size() + standardLane.size();
+    }
+
+    /** One line per queued request plus a summary line, for {@code /bossarena state queue}. */
+    public synchronized List<String> describeQueue() {
+        List<String> lines = new ArrayList<>();
+        int maxPerWorld = config != null ? config.getMaxConcurrentEventsPerWorld() : 0;
+        int maxTotal = config != null ? config.getMaxConcurrentEvents() : 0;
+        lines.add("events=" + countEvents(null) + "/" + formatCap(maxTotal)
+                + " (per world " + formatCap(maxPerWorld) + "), queued=" + getQueuedCount()
+                + ", started=" + startedImmediately + ", started from queue=" + startedFromQueue
+                + ", expired=" + expired + ", rejected=" + rejected);
+        long now = System.currentTimeMillis();
+        describeLane(timedLane, now, lines);
+        describeLane(standardLane, now, lines);
+        return lines;
+    }
+
+    /** Whether {@link #shutdown} has begun; expiry callbacks check it to avoid handing work to stopping worlds. */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /** Expires everything still queued and stops the drain timer. */
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (drainTimer != null) {
+            drainTimer.cancel();
+            drainTimer = null;
+        }
+        expireAll(timedLane, "shutdown");
+        expireAll(standardLane, "shutdown");
+        reservedByWorld.clear();
+        reserved.set(0);
+    }
+
+    private synchronized void drainSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Event admission drain failed", e);
+        }
+        if (timedLane.isEmpty() && standardLane.isEmpty() && drainTimer != null) {
+            drainTimer.cancel();
+            drainTimer = null;
+        }
+    }
+
+    private void drain() {
+        long now = System.currentTimeMillis();
+        expireDue(timedLane, now);
+        expireDue(standardLane, now);
+        admitFrom(timedLane);
+        admitFrom(standardLane);
+    }
+
+    private void admitFrom(Deque<Ticket> lane) {
+        for (Iterator<Ticket> it = lane.iterator(); it.hasNext(); ) {
+            if (!hasGlobalRoom()) {
+                return;
+            }
+            Ticket ticket = it.next();
+            // A full world only holds back its own requests; later ones for other worlds may pass.
+            if (!hasWorldRoom(ticket.world)) {
+                continue;
+            }
+            it.remove();
+            startedFromQueue++;
+            LOGGER.info("Queued event request '" + ticket.label + "' admitted after "
+                    + TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - ticket.queuedAtMs) + "s.");
+            dispatch(ticket);
+        }
+    }
+
+    private void expireDue(Deque<Ticket> lane, long now) {
+        for (Iterator<Ticket> it = lane.iterator(); it.hasNext(); ) {
+            Ticket ticket = it.next();
+            if (now >= ticket.deadlineMs || !ticket.world.isAlive()) {
+                it.remove();
+                expire(ticket, now >= ticket.deadlineMs ? "timed out" : "world unloaded");
+            }
+        }
+    }
+
+    private void expireAll(Deque<Ticket> lane, String reason) {
+        while (!lane.isEmpty()) {
+            expire(lane.pollFirst(), reason);
+        }
+    }
+
+    private void expire(Ticket ticket, String reason) {
+        expired++;
+        LOGGER.info("Queued event request '" + ticket.label + "' expired (" + reason + ").");
+        if (ticket.onExpired == null) {
+            return;
+        }
+        try {
+            ticket.onExpired.run();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Expiry callback failed for event request '" + ticket.label + "'", e);
+        }
+    }
+
+    private void dispatch(Ticket ticket) {
+        String key = worldKey(ticket.world);
+        reservedByWorld.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        reserved.incrementAndGet();
+        try {
+            ticket.world.execute(() -> {
+                try {
+                    ticket.start.run();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Event start failed for request '" + ticket.label + "'", e);
+                } finally {
+                    release(key);
+                }
+            });
+        } catch (Exception e) {
+            release(key);
+            LOGGER.log(Level.WARNING, "Could not dispatch event request '" + ticket.label + "'", e);
+            expire(ticket, "dispatch failed");
+        }
+    }
+
+    private void release(String key) {
+        AtomicInteger count = reservedByWorld.get(key);
+        if (count != null && count.get() > 0) {
+            count.decrementAndGet();
+        }
+        reserved.updateAndGet(value -> Math.max(0, value - 1));
+    }
+
+    private boolean hasRoom(World world) {
+        return hasGlobalRoom() && hasWorldRoom(world);
+    }
+
+    private boolean hasGlobalRoom() {
+        int max = config != null ? config.getMaxConcurrentEvents() : 0;
+        return max <= 0 || countEvents(null) < max;
+    }
+
+    private boolean hasWorldRoom(World world) {
+        int max = config != null ? config.getMaxConcurrentEventsPerWorld() : 0;
+        return max <= 0 || countEvents(world) < max;
+    }
+
+    /** Running plus admitted-but-not-yet-started events in {@code world}, or server wide for {@code null}. */
+    private int countEvents(World world) {
+        if (world == null) {
+            return (tracking != null ? tracking.countEventsInProgress() : 0) + reserved.get();
+        }
+        AtomicInteger pending = reservedByWorld.get(worldKey(world));
+        return (tracking != null ? tracking.countEventsInProgress(world) : 0) + (pending != null ? pending.get() : 0);
+    }
+
+    /**
+     * The ticket needs as many slots to free up as there are tickets ahead of it competing for the same cap, plus
+     * one. An event frees its slot at its countdown at the latest, so the n-th shortest remaining countdown bounds
+     * the wait. Events without a countdown give no bound.
+     */
+    private long estimateWaitMs(Ticket ticket) {
+        if (tracking == null) {
+            return -1L;
+        }
+        boolean worldBound = !hasWorldRoom(ticket.world);
+        int needed = 1 + countAhead(timedLane, ticket, worldBound);
+        if (ticket.lane == Lane.STANDARD) {
+            needed += countAhead(standardLane, ticket, worldBound);
+        }
+
+        List<BossTrackingSystem.ActiveEventStatus> events = worldBound
+                ? tracking.snapshotActiveEvents(ticket.world)
+                : tracking.snapshotActiveEvents();
+        List<Long> remaining = new ArrayList<>(events.size());
+        for (BossTrackingSystem.ActiveEventStatus status : events) {
+            if (status.remainingCountdownMillis >= 0L) {
+                remaining.add(status.remainingCountdownMillis);
+            }
+        }
+        if (remaining.size() < needed) {
+            return -1L;
+        }
+        remaining.sort(null);
+        return remaining.get(needed - 1);
+    }
+
+    private static int countAhead(Deque<Ticket> lane, Ticket ticket, boolean sameWorldOnly) {
+        int ahead = 0;
+        for (Ticket other : lane) {
+            if (other == ticket) {
+                break;
+            }
+            if (!sameWorldOnly || worldKey(other.world).equals(worldKey(ticket.world))) {
+                ahead++;
+            }
+        }
+        return ahead;
+    }
+
+    private void ensureDrainTimer() {
+        if (drainTimer == null || drainTimer.isCancelled()) {
+            drainTimer = BossArenaClock.get().scheduleAtFixedRate(this::drainSafely, DRAIN_INTERVAL_MS, DRAIN_INTERVAL_MS);
+        }
+    }
+
+    private void describeLane(Deque<Ticket> lane, long now, List<String> out) {
+        int position = 0;
+        for (Ticket ticket : lane) {
+            position++;
+            out.add(ticket.lane.name().toLowerCase(Locale.ROOT) + " #" + position + ": " + ticket.label
+                    + " @ " + ticket.world.getName()
+                    + ", waiting " + TimeUnit.MILLISECONDS.toSeconds(now - ticket.queuedAtMs) + "s"
+                    + ", expires in " + TimeUnit.MILLISECONDS.toSeconds(Math.max(0L, ticket.deadlineMs - now)) + "s");
+        }
+    }
+
+    private String describeCapacity(World world) {
+        int maxPerWorld = config != null ? config.getMaxConcurrentEventsPerWorld() : 0;
+        int maxTotal = config != null ? config.getMaxConcurrentEvents() : 0;
+        return "world " + world.getName() + " " + countEvents(world) + "/" + formatCap(maxPerWorld)
+                + ", server " + countEvents(null) + "/" + formatCap(maxTotal);
+    }
+
+    private int queueTimeoutMinutes() {
+        return config != null ? config.getEventQueueTimeoutMinutes() : 10;
+    }
+
+    private static String formatCap(int max) {
+        return max <= 0 ? "unlimited" : String.valueOf(max);
+    }
+
+    private static String worldKey(World world) {
+        String name = world != null ? world.getName() : null;
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Ticket {
+        private final Lane lane;
+        private final World world;
+        private final String label;
+        private final Runnable start;
+        private final Runnable onExpired;
+        private final long queuedAtMs = System.currentTimeMillis();
+        private final long deadlineMs;
+
+        private Ticket(Lane lane, World world, String label, Runnable start, Runnable onExpired, long deadlineMs) {
+            this.lane = lane;
+            this.world = world;
+            this.label = label;
+            this.start = start;
+            this.onExpired = onExpired;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+}
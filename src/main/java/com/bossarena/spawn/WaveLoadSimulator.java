@@ -0,0 +1,111 @@
+package com.bossarena.spawn;
+
+import com.bossarena.boss.BossModifiers;
+import com.bossarena.data.BossDefinition;
+import com.bossarena.util.BossScaler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Offline dry run of a boss definition's compiled wave timeline. Nothing is spawned; it reports when each wave
+ * would fire and how many entities the event could hold, assuming no add is killed before the event ends. HP
+ * waves cannot be timed offline and are assumed to trigger as soon as the boss spawns (the worst case).
+ */
+public final class WaveLoadSimulator {
+    // Guards against 1ms repeat intervals over long horizons; no real schedule gets close.
+    private static final int MAX_FIRINGS_PER_SERIES = 10_000;
+
+    /** A simulated wave; {@code atMs} is relative to the boss spawn and negative for pre-boss waves. */
+    public record Step(long atMs, String label, int adds, int spawnTicks) {
+    }
+
+    public record Result(BossModifiers modifiers,
+                         int bossCount,
+                         long bossDelayMs,
+                         long horizonMs,
+                         List<Step> steps,
+                         boolean truncated,
+                         int peakConcurrentAdds,
+                         int largestWave,
+                         int largestWaveTicks,
+                         double entitySeconds) {
+
+        public int peakEntities() {
+            return bossCount + peakConcurrentAdds;
+        }
+    }
+
+    private WaveLoadSimulator() {
+    }
+
+    /**
+     * @param horizonMs      how long the event runs after the boss spawns (normally its countdown)
+     * @param spawnsPerTick  the wave spawn budget, used to show how many ticks each wave takes to stream in
+     */
+    public static Result simulate(BossDefinition def, int players, long horizonMs, int spawnsPerTick) {
+        WaveTimelinePlan plan = WaveTimelinePlan.of(def);
+        long horizon = Math.max(0L, horizonMs);
+        int budget = Math.max(1, spawnsPerTick);
+        List<Step> steps = new ArrayList<>();
+        boolean truncated = false;
+
+        long bossDelayMs = plan.getBossDelayMs();
+        for (int i = 0; i < plan.getBeforeBossCount(); i++) {
+            WaveTimelinePlan.Firing firing = plan.getBeforeBoss(i);
+            int adds = firing.spawnOrder().size();
+            steps.add(new Step(firing.atMs() - bossDelayMs, firing.label(), adds, ticksFor(adds, budget)));
+        }
+        for (int i = 0; i < plan.getTimedCount(); i++) {
+            truncated |= addSeries(plan.getTimed(i), horizon, budget, steps);
+        }
+        for (int i = 0; i < plan.getHpThresholdCount(); i++) {
+            truncated |= addSeries(plan.getHpThreshold(i), horizon, budget, steps);
+        }
+        steps.sort(Comparator.comparingLong(Step::atMs));
+
+        int bossCount = def != null ? Math.max(0, def.amount) : 0;
+        int totalAdds = 0;
+        int largestWave = 0;
+        double entitySeconds = bossCount * (horizon / 1000.0d);
+        for (Step step : steps) {
+            totalAdds += step.adds();
+            largestWave = Math.max(largestWave, step.adds());
+            entitySeconds += step.adds() * ((horizon - step.atMs()) / 1000.0d);
+        }
+
+        return new Result(
+                BossScaler.calculateModifiers(def, Math.max(1, players)),
+                bossCount,
+                bossDelayMs,
+                horizon,
+                List.copyOf(steps),
+                truncated,
+                totalAdds,
+                largestWave,
+                ticksFor(largestWave, budget),
+                entitySeconds
+        );
+    }
+
+    private static boolean addSeries(WaveTimelinePlan.Series series, long horizonMs, int budget, List<Step> out) {
+        int adds = series.spawnOrder().size();
+        int ticks = ticksFor(adds, budget);
+        long atMs = series.firstAtMs();
+        int execution = 1;
+        while (atMs <= horizonMs && (series.isInfinite() || execution <= series.count())) {
+            if (execution > MAX_FIRINGS_PER_SERIES) {
+                return true;
+            }
+            out.add(new Step(atMs, series.labelFor(execution), adds, ticks));
+            atMs += series.everyMs();
+            execution++;
+        }
+        return false;
+    }
+
+    private static int ticksFor(int adds, int budget) {
+        return adds <= 0 ? 0 : (adds + budget - 1) / budget;
+    }
+}
@@ -0,0 +1,296 @@
+package com.bossarena.spawn;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-world FIFO of wave spawns. A wave is queued whole when its trigger fires and its adds are spawned a few per
+ * tick, oldest wave first and in config order within a wave, so a large wave never lands in a single tick. A wave
+ * held back by an add cap, or held while the world's tick is shedding load, keeps its place while younger waves of
+ * other events go ahead.
+ * Only the world thread drains a world's queue.
+ */
+final class WaveSpawnQueue {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+
+    interface Job {
+        int size();
+
+        /** Checked before every add; a cancelled job is dropped with whatever it has spawned so far. */
+        boolean isCancelled();
+
+        /** Checked before every add; a blocked job waits in the queue without using the tick's budget. */
+        default boolean isBlocked() {
+            return false;
+        }
+
+        /** Like {@link #isBlocked()}, for a non-critical wave put off while the world's tick runs long. */
+        default boolean isHeld() {
+            return false;
+        }
+
+        void spawn(World world, int index);
+
+        void complete(World world, int spawned, int ticks, long maxWaitMs);
+    }
+
+    private final Map<String, Queue<Entry>> byWorld = new ConcurrentHashMap<>();
+    private final Map<String, Stats> statsByWorld = new ConcurrentHashMap<>();
+
+    void enqueue(World world, UUID eventId, Job job) {
+        String key = worldKey(world);
+        if (key == null || job == null || job.size() <= 0) {
+            return;
+        }
+        byWorld.computeIfAbsent(key, ignored -> new ConcurrentLinkedQueue<>()).add(new Entry(eventId, job));
+        statsByWorld.computeIfAbsent(key, ignored -> new Stats()).noteDepth(pendingAdds(key));
+    }
+
+    /**
+     * Spawns up to {@code budget} queued adds for {@code world}. Returns how many adds were spawned.
+     */
+    int drain(World world, int budget) {
+        String key = worldKey(world);
+        Queue<Entry> queue = key != null ? byWorld.get(key) : null;
+        if (queue == null || queue.isEmpty()) {
+            return 0;
+        }
+        Stats stats = statsByWorld.computeIfAbsent(key, ignored -> new Stats());
+        int spawned = 0;
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext() && spawned < budget; ) {
+            Entry entry = it.next();
+            entry.ticks++;
+            while (spawned < budget && entry.cursor < entry.job.size() && !entry.cancelled() && !entry.waiting()) {
+                spawnOne(world, entry, stats);
+                spawned++;
+            }
+            if (entry.cursor >= entry.job.size() || entry.cancelled()) {
+                it.remove();
+                finish(world, entry);
+            } else if (entry.blocked() && !entry.deferred) {
+                entry.deferred = true;
+                stats.noteCapDeferred();
+            } else if (entry.held() && !entry.loadHeld) {
+                entry.loadHeld = true;
+                stats.noteLoadHeld();
+            }
+        }
+        return spawned;
+    }
+
+    /**
+     * Spawns everything still queued for {@code eventId} right away, e.g. pre-boss adds that must exist before the
+     * boss does.
+     */
+    int flush(World world, UUID eventId) {
+        String key = worldKey(world);
+        Queue<Entry> queue = key != null && eventId != null ? byWorld.get(key) : null;
+        if (queue == null || queue.isEmpty()) {
+            return 0;
+        }
+        Stats stats = statsByWorld.computeIfAbsent(key, ignored -> new Stats());
+        int spawned = 0;
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (!eventId.equals(entry.eventId)) {
+                continue;
+            }
+            entry.ticks++;
+            while (entry.cursor < entry.job.size() && !entry.cancelled()) {
+                spawnOne(world, entry, stats);
+                spawned++;
+            }
+            it.remove();
+            finish(world, entry);
+        }
+        return spawned;
+    }
+
+    int pendingAdds(World world) {
+        return pendingAdds(worldKey(world));
+    }
+
+    int pendingAdds(World world, UUID eventId) {
+        String key = worldKey(world);
+        Queue<Entry> queue = key != null && eventId != null ? byWorld.get(key) : null;
+        if (queue == null) {
+            return 0;
+        }
+        int pending = 0;
+        for (Entry entry : queue) {
+            if (eventId.equals(entry.eventId)) {
+                pending += Math.max(0, entry.job.size() - entry.cursor);
+            }
+        }
+        return pending;
+    }
+
+    void noteCapSkipped(World world, int adds) {
+        String key = worldKey(world);
+        if (key != null) {
+            statsByWorld.computeIfAbsent(key, ignored -> new Stats()).noteCapSkipped(adds);
+        }
+    }
+
+    void noteCapTrimmed(World world, int adds) {
+        String key = worldKey(world);
+        if (key != null) {
+            statsByWorld.computeIfAbsent(key, ignored -> new Stats()).noteCapTrimmed(adds);
+        }
+    }
+
+    Snapshot snapshot(World world) {
+        String key = worldKey(world);
+        Queue<Entry> queue = key != null ? byWorld.get(key) : null;
+        Stats stats = key != null ? statsByWorld.get(key) : null;
+        int waves = queue != null ? queue.size() : 0;
+        return stats != null
+                ? stats.snapshot(waves, pendingAdds(key))
+                : new Snapshot(waves, pendingAdds(key), 0, 0L, 0L, 0, 0, 0, 0, 0, 0);
+    }
+
+    void clear() {
+        byWorld.clear();
+        statsByWorld.clear();
+    }
+
+    private int pendingAdds(String key) {
+        Queue<Entry> queue = key != null ? byWorld.get(key) : null;
+        if (queue == null) {
+            return 0;
+        }
+        int pending = 0;
+        for (Entry entry : queue) {
+            pending += Math.max(0, entry.job.size() - entry.cursor);
+        }
+        return pending;
+    }
+
+    private static void spawnOne(World world, Entry entry, Stats stats) {
+        int index = entry.cursor++;
+        long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.enqueuedNanos);
+        entry.maxWaitMs = Math.max(entry.maxWaitMs, waitMs);
+        stats.noteSpawn(waitMs);
+        try {
+            entry.job.spawn(world, index);
+            entry.spawned++;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Queued wave add " + (index + 1) + "/" + entry.job.size() + " failed", e);
+        }
+    }
+
+    private static void finish(World world, Entry entry) {
+        try {
+            entry.job.complete(world, entry.spawned, entry.ticks, entry.maxWaitMs);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Queued wave completion failed", e);
+        }
+    }
+
+    private static String worldKey(World world) {
+        String name = world != null ? world.getName() : null;
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Snapshot(int queuedWaves,
+                    int queuedAdds,
+                    long spawnedAdds,
+                    long avgWaitMs,
+                    long maxWaitMs,
+                    int peakDepth,
+                    int capDeferredWaves,
+                    int capTrimmedWaves,
+                    int capSkippedWaves,
+                    long capDroppedAdds,
+                    int loadHeldWaves) {
+    }
+
+    private static final class Entry {
+        private final UUID eventId;
+        private final Job job;
+        private final long enqueuedNanos = System.nanoTime();
+        private int cursor;
+        private int spawned;
+        private int ticks;
+        private long maxWaitMs;
+        private boolean deferred;
+        private boolean loadHeld;
+
+        private Entry(UUID eventId, Job job) {
+            this.eventId = eventId;
+            this.job = job;
+        }
+
+        private boolean cancelled() {
+            return job.isCancelled();
+        }
+
+        private boolean blocked() {
+            return job.isBlocked();
+        }
+
+        private boolean held() {
+            return job.isHeld();
+        }
+
+        private boolean waiting() {
+            return blocked() || held();
+        }
+    }
+
+    private static final class Stats {
+        private long spawned;
+        private long totalWaitMs;
+        private long maxWaitMs;
+        private int peakDepth;
+        private int capDeferredWaves;
+        private int capTrimmedWaves;
+        private int capSkippedWaves;
+        private long capDroppedAdds;
+        private int loadHeldWaves;
+
+        private synchronized void noteSpawn(long waitMs) {
+            spawned++;
+            totalWaitMs += waitMs;
+            maxWaitMs = Math.max(maxWaitMs, waitMs);
+        }
+
+        private synchronized void noteDepth(int depth) {
+            peakDepth = Math.max(peakDepth, depth);
+        }
+
+        private synchronized void noteCapDeferred() {
+            capDeferredWaves++;
+        }
+
+        private synchronized void noteLoadHeld() {
+            loadHeldWaves++;
+        }
+
+        private synchronized void noteCapTrimmed(int adds) {
+            capTrimmedWaves++;
+            capDroppedAdds += adds;
+        }
+
+        private synchronized void noteCapSkipped(int adds) {
+            capSkippedWaves++;
+            capDroppedAdds += adds;
+        }
+
+        private synchronized Snapshot snapshot(int queuedWaves, int queuedAdds) {
+            return new Snapshot(queuedWaves, queuedAdds, spawned, spawned > 0 ? totalWaitMs / spawned : 0L,
+                    maxWaitMs, peakDepth, capDeferredWaves, capTrimmedWaves, capSkippedWaves, capDroppedAdds,
+                    loadHeldWaves);
+        }
+    }
+}
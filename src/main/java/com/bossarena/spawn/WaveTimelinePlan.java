@@ -0,0 +1,328 @@
+package com.bossarena.spawn;
+
+import com.bossarena.data.BossDefinition;
+import com.bossarena.data.BossDefinition.ExtraMobs;
+import com.bossarena.data.BossDefinition.ExtraMobs.ScheduledWave;
+import com.bossarena.data.BossDefinition.ExtraMobs.WaveAdd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A boss definition's wave schedule, compiled by {@link com.bossarena.data.BossRegistry} once per definition version
+ * into flat arrays: the pre-boss firings
+ * in firing order, the time-based series (on_spawn, after_spawn_seconds, since_last_wave) ordered by first firing,
+ * and the HP thresholds highest first. Each wave's adds are expanded into spawn order up front.
+ * <p>
+ * Plans are immutable and shared; a live event walks one with its own cursor, and previews can read it directly.
+ */
+public final class WaveTimelinePlan {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final long DEFAULT_REPEAT_INTERVAL_MS = 1_000L;
+    private static final Map<BossDefinition, WaveTimelinePlan> PLANS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public static final int INFINITE = -1;
+    public static final WaveTimelinePlan EMPTY = new WaveTimelinePlan(0, new Firing[0], 0L, new Series[0], new Series[0]);
+
+    /** One pre-boss wave execution, {@code atMs} after the spawn request. */
+    public record Firing(long atMs, int executionNumber, int scheduleIndex, String label, List<WaveAdd> spawnOrder) {
+    }
+
+    /**
+     * A wave that fires {@code count} times ({@link #INFINITE} for no limit), first at {@code firstAtMs} and then every
+     * {@code everyMs}. Times are relative to the boss spawn, or to the threshold crossing for HP series.
+     */
+    public record Series(String trigger,
+                         String firstLabel,
+                         String label,
+                         long firstAtMs,
+                         long everyMs,
+                         int count,
+                         double hpThreshold,
+                         List<WaveAdd> spawnOrder) {
+
+        public String labelFor(int executionNumber) {
+            return executionNumber == 1 && firstLabel != null ? firstLabel : label + "#" + executionNumber;
+        }
+
+        public boolean isInfinite() {
+            return count < 0;
+        }
+    }
+
+    private final long version;
+    private final Firing[] beforeBoss;
+    private final long bossDelayMs;
+    private final Series[] timed;
+    private final Series[] hpThresholds;
+
+    private WaveTimelinePlan(long version, Firing[] beforeBoss, long bossDelayMs, Series[] timed, Series[] hpThresholds) {
+        this.version = version;
+        this.beforeBoss = beforeBoss;
+        this.bossDelayMs = bossDelayMs;
+        this.timed = timed;
+        this.hpThresholds = hpThresholds;
+    }
+
+    /**
+     * Compiles and caches the plan for {@code def} at its current {@link BossDefinition#definitionVersion}. Called by
+     * the registry whenever a definition is loaded or saved, after it has been sanitized.
+     */
+    public static void compileFor(BossDefinition def) {
+        ExtraMobs extraMobs = def != null ? def.extraMobs : null;
+        if (extraMobs == null) {
+            return;
+        }
+        PLANS.put(def, compile(def.bossName, extraMobs.getResolvedScheduledWaves(), def.definitionVersion));
+    }
+
+    /**
+     * Returns the plan compiled for {@code def}'s current version. A definition the registry never compiled (an
+     * unsaved editor copy) gets a throwaway plan that is not cached.
+     */
+    public static WaveTimelinePlan of(BossDefinition def) {
+        ExtraMobs extraMobs = def != null ? def.extraMobs : null;
+        if (extraMobs == null) {
+            return EMPTY;
+        }
+        WaveTimelinePlan cached = PLANS.get(def);
+        if (cached != null && cached.version == def.definitionVersion) {
+            return cached;
+        }
+        return compile(def.bossName, extraMobs.getResolvedScheduledWaves(), def.definitionVersion);
+    }
+
+    public boolean isEmpty() {
+        return beforeBoss.length == 0 && timed.length == 0 && hpThresholds.length == 0;
+    }
+
+    public boolean hasBeforeBoss() {
+        return beforeBoss.length > 0;
+    }
+
+    /** Delay between the spawn request and the boss itself when pre-boss waves are configured, else 0. */
+    public long getBossDelayMs() {
+        return bossDelayMs;
+    }
+
+    public int getBeforeBossCount() {
+        return beforeBoss.length;
+    }
+
+    public Firing getBeforeBoss(int index) {
+        return beforeBoss[index];
+    }
+
+    public int getTimedCount() {
+        return timed.length;
+    }
+
+    public Series getTimed(int index) {
+        return timed[index];
+    }
+
+    public int getHpThresholdCount() {
+        return hpThresholds.length;
+    }
+
+    public Series getHpThreshold(int index) {
+        return hpThresholds[index];
+    }
+
+    private static WaveTimelinePlan compile(String bossName, List<ScheduledWave> schedules, long version) {
+        List<ScheduledWave> beforeBossRows = new ArrayList<>();
+        List<ScheduledWave> onSpawn = new ArrayList<>();
+        List<ScheduledWave> afterSpawn = new ArrayList<>();
+        List<ScheduledWave> sinceLastWave = new ArrayList<>();
+        List<ScheduledWave> hpThreshold = new ArrayList<>();
+        for (ScheduledWave wave : schedules) {
+            if (wave == null || wave.trigger == null) {
+                continue;
+            }
+            switch (wave.trigger) {
+                case ExtraMobs.TRIGGER_BEFORE_BOSS -> beforeBossRows.add(wave);
+                case ExtraMobs.TRIGGER_ON_SPAWN -> onSpawn.add(wave);
+                case ExtraMobs.TRIGGER_AFTER_SPAWN_SECONDS -> afterSpawn.add(wave);
+                case ExtraMobs.TRIGGER_SINCE_LAST_WAVE -> sinceLastWave.add(wave);
+                case ExtraMobs.TRIGGER_BOSS_HP_PERCENT -> hpThreshold.add(wave);
+                default -> {
+                }
+            }
+        }
+        afterSpawn.sort(Comparator.comparingDouble(wave -> wave.triggerValue));
+        hpThreshold.sort(Comparator.comparingDouble(wave -> -wave.triggerValue));
+
+        List<Firing> firings = new ArrayList<>();
+        long bossDelayMs = compileBeforeBoss(bossName, beforeBossRows, firings);
+        List<Series> timed = new ArrayList<>();
+        compileTimed(bossName, onSpawn, afterSpawn, sinceLastWave, timed);
+        // Stable: series that start together keep on_spawn, after_spawn, since_last_wave order.
+        timed.sort(Comparator.comparingLong(Series::firstAtMs));
+
+        List<Series> thresholds = new ArrayList<>(hpThreshold.size());
+        for (ScheduledWave wave : hpThreshold) {
+            double threshold = Math.max(0d, Math.min(100d, wave.triggerValue));
+            String thresholdText = formatSeconds(threshold);
+            thresholds.add(new Series(
+                    wave.trigger,
+                    "boss_hp_percent<=" + thresholdText,
+                    "boss_hp_percent_repeat<=" + thresholdText,
+                    0L,
+                    Math.max(1L, toMillisOrDefault(wave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS)),
+                    wave.repeatCount,
+                    threshold,
+                    expandSpawnOrder(wave.adds)
+            ));
+        }
+
+        LOGGER.info("Compiled wave timeline for '" + bossName + "': beforeBoss=" + firings.size()
+                + ", onSpawn=" + onSpawn.size()
+                + ", afterSpawn=" + afterSpawn.size()
+                + ", sinceLastWave=" + sinceLastWave.size()
+                + ", hpThreshold=" + thresholds.size());
+        return new WaveTimelinePlan(
+                version,
+                firings.toArray(new Firing[0]),
+                bossDelayMs,
+                timed.toArray(new Series[0]),
+                thresholds.toArray(new Series[0])
+        );
+    }
+
+    private static long compileBeforeBoss(String bossName, List<ScheduledWave> rows, List<Firing> out) {
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+        int scheduleIndex = 0;
+        long bossSpawnIntervalMs = DEFAULT_REPEAT_INTERVAL_MS;
+        for (ScheduledWave wave : rows) {
+            scheduleIndex++;
+            int repeatCount = Math.max(1, wave.repeatCount);
+            if (wave.repeatCount < 0) {
+                LOGGER.info("before_boss trigger requested infinite repeats; limiting to 1 execution for '" + bossName + "'.");
+                repeatCount = 1;
+            }
+            long firstDelayMs = toMillisOrDefault(wave.triggerValue, 0L);
+            long repeatStepMs = toMillisOrDefault(wave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
+            long scheduleBossIntervalMs = repeatStepMs;
+            if (wave.repeatEverySeconds <= 0.0d && wave.triggerValue > 0.0d) {
+                scheduleBossIntervalMs = toMillisOrDefault(wave.triggerValue, DEFAULT_REPEAT_INTERVAL_MS);
+            }
+            bossSpawnIntervalMs = Math.max(bossSpawnIntervalMs, scheduleBossIntervalMs);
+
+            List<WaveAdd> spawnOrder = expandSpawnOrder(wave.adds);
+            for (int execution = 1; execution <= repeatCount; execution++) {
+                long triggerDelayMs = Math.max(0L, firstDelayMs + ((long) (execution - 1) * repeatStepMs));
+                out.add(new Firing(
+                        triggerDelayMs,
+                        execution,
+                        scheduleIndex,
+                        "before_boss@+" + formatSeconds(triggerDelayMs / 1000.0d) + "s#" + execution,
+                        spawnOrder
+                ));
+            }
+        }
+        if (out.isEmpty()) {
+            return 0L;
+        }
+
+        long bossDelayMs = 0L;
+        for (Firing firing : out) {
+            bossDelayMs = Math.max(bossDelayMs, firing.atMs());
+        }
+        out.sort(Comparator
+                .comparingLong(Firing::atMs)
+                .thenComparingInt(Firing::scheduleIndex)
+                .thenComparingInt(Firing::executionNumber));
+        return bossDelayMs + Math.max(1L, bossSpawnIntervalMs);
+    }
+
+    private static void compileTimed(String bossName,
+                                     List<ScheduledWave> onSpawn,
+                                     List<ScheduledWave> afterSpawn,
+                                     List<ScheduledWave> sinceLastWave,
+                                     List<Series> out) {
+        boolean hasSinceLastAnchor = false;
+        long lastScheduledWaveDelayMs = 0L;
+
+        for (ScheduledWave wave : onSpawn) {
+            long repeatDelayMs = toMillisOrDefault(wave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
+            out.add(new Series(wave.trigger, "on_spawn", "on_spawn_repeat", 0L, Math.max(1L, repeatDelayMs),
+                    wave.repeatCount, 0d, expandSpawnOrder(wave.adds)));
+            hasSinceLastAnchor = true;
+            if (wave.repeatCount > 1) {
+                lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, repeatDelayMs * (wave.repeatCount - 1L));
+            }
+        }
+
+        for (ScheduledWave wave : afterSpawn) {
+            long firstDelayMs = toMillisOrDefault(wave.triggerValue, 0L);
+            long repeatDelayMs = toMillisOrDefault(wave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
+            out.add(new Series(wave.trigger, null, "after_spawn@" + formatSeconds(wave.triggerValue) + "s",
+                    firstDelayMs, Math.max(1L, repeatDelayMs), wave.repeatCount, 0d, expandSpawnOrder(wave.adds)));
+            hasSinceLastAnchor = true;
+            lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs, firstDelayMs);
+            if (wave.repeatCount > 1) {
+                lastScheduledWaveDelayMs = Math.max(lastScheduledWaveDelayMs,
+                        firstDelayMs + (repeatDelayMs * (wave.repeatCount - 1L)));
+            }
+        }
+
+        if (sinceLastWave.isEmpty()) {
+            return;
+        }
+        if (!hasSinceLastAnchor) {
+            LOGGER.info("Skipping since_last_wave schedules for '" + bossName
+                    + "' because no prior wave trigger is configured. Boss spawn is not treated as a wave.");
+            return;
+        }
+        long cumulativeDelayMs = lastScheduledWaveDelayMs;
+        for (ScheduledWave wave : sinceLastWave) {
+            cumulativeDelayMs += toMillisOrDefault(wave.triggerValue, 0L);
+            long repeatDelayMs = toMillisOrDefault(wave.repeatEverySeconds, DEFAULT_REPEAT_INTERVAL_MS);
+            out.add(new Series(wave.trigger, null, "since_last_wave@" + formatSeconds(wave.triggerValue) + "s",
+                    cumulativeDelayMs, Math.max(1L, repeatDelayMs), wave.repeatCount, 0d, expandSpawnOrder(wave.adds)));
+            if (wave.repeatCount < 0) {
+                LOGGER.info("since_last_wave schedule for '" + bossName
+                        + "' has infinite repeats; remaining since_last_wave rows will be ignored.");
+                break;
+            }
+            if (wave.repeatCount > 1) {
+                cumulativeDelayMs += repeatDelayMs * (wave.repeatCount - 1L);
+            }
+        }
+    }
+
+    private static List<WaveAdd> expandSpawnOrder(List<WaveAdd> adds) {
+        if (adds == null || adds.isEmpty()) {
+            return List.of();
+        }
+        List<WaveAdd> order = new ArrayList<>();
+        for (WaveAdd add : adds) {
+            if (add == null || add.npcId == null || add.npcId.isBlank()) {
+                continue;
+            }
+            int mobCount = Math.max(1, add.mobsPerWave);
+            for (int i = 0; i < mobCount; i++) {
+                order.add(add);
+            }
+        }
+        return Collections.unmodifiableList(order);
+    }
+
+    private static long toMillisOrDefault(double seconds, long defaultMs) {
+        if (!Double.isFinite(seconds) || seconds <= 0.0d) {
+            return Math.max(0L, defaultMs);
+        }
+        return Math.max(0L, Math.round(seconds * 1000.0d));
+    }
+
+    private static String formatSeconds(double value) {
+        return String.format("%.2f", value);
+    }
+}
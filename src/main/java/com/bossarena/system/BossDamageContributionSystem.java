@@ -0,0 +1,69 @@
+package com.bossarena.system;
+
+import com.bossarena.boss.BossArenaTracked;
+import com.bossarena.boss.DamageLedger;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Credits player hits on tracked bosses to the boss's {@link DamageLedger}. Runs in the inspect group, so the
+ * recorded amount is what was actually applied after armor and every filter, and cancelled hits count for nothing.
+ */
+public final class BossDamageContributionSystem extends DamageEventSystem {
+
+    @Override
+    @Nullable
+    public SystemGroup<EntityStore> getGroup() {
+        return DamageModule.get().getInspectDamageGroup();
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return BossArenaTracked.getComponentType();
+    }
+
+    /**
+     * Runs per hit, so it only reads components already on the attacker and allocates nothing.
+     */
+    @Override
+    public void handle(int index,
+                       @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store,
+                       @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                       @Nonnull Damage damage) {
+        if (damage == null || damage.isCancelled() || !(damage.getAmount() > 0.0f)) {
+            return;
+        }
+        if (!(damage.getSource() instanceof Damage.EntitySource entitySource)) {
+            return;
+        }
+        Ref<EntityStore> sourceRef = entitySource.getRef();
+        if (sourceRef == null || !sourceRef.isValid()) {
+            return;
+        }
+
+        BossArenaTracked target = archetypeChunk.getComponent(index, BossArenaTracked.getComponentType());
+        DamageLedger ledger = target != null ? target.getLedger() : null;
+        if (ledger == null || store.getComponent(sourceRef, Player.getComponentType()) == null) {
+            return;
+        }
+        UUIDComponent uuidComponent = store.getComponent(sourceRef, UUIDComponent.getComponentType());
+        if (uuidComponent != null) {
+            ledger.record(uuidComponent.getUuid(), damage.getAmount());
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.bossarena.system;
 
+import com.bossarena.boss.BossArenaTracked;
 import com.bossarena.boss.BossModifiers;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.SystemGroup;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.knockback.KnockbackComponent;
 import com.hypixel.hytale.server.core.modules.entity.AllLegacyLivingEntityTypesQuery;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
@@ -16,7 +17,6 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.UUID;
 
 public final class BossDamageScalingSystem extends DamageEventSystem {
     private static final float EPSILON = 0.0001f;
@@ -33,10 +33,14 @@ public final class BossDamageScalingSystem extends DamageEventSystem {
         return DamageModule.get().getFilterDamageGroup();
     }
 
+    /**
+     * Stays on all living entities: a boss hitting a player must still be scaled, and only the source carries the
+     * BossArena marker then. Both sides read their modifiers from the marker component instead of a UUID lookup.
+     */
     @Override
     @Nonnull
     public Query<EntityStore> getQuery() {
-        return Query.and(AllLegacyLivingEntityTypesQuery.INSTANCE, UUIDComponent.getComponentType());
+        return AllLegacyLivingEntityTypesQuery.INSTANCE;
     }
 
     @Override
@@ -49,9 +53,13 @@ public final class BossDamageScalingSystem extends DamageEventSystem {
             return;
         }
 
-        UUID targetUuid = extractTargetUuid(index, archetypeChunk);
-        BossModifiers targetMods = trackingSystem.getEntityModifiers(targetUuid);
-        BossModifiers sourceMods = extractSourceModifiers(damage, store);
+        BossArenaTracked target = archetypeChunk.getComponent(index, BossArenaTracked.getComponentType());
+        Ref<EntityStore> sourceRef = resolveSourceRef(damage);
+        BossArenaTracked source = sourceRef != null
+                ? store.getComponent(sourceRef, BossArenaTracked.getComponentType())
+                : null;
+        BossModifiers targetMods = target != null ? target.getModifiers() : null;
+        BossModifiers sourceMods = source != null ? source.getModifiers() : null;
 
         if (sourceMods != null) {
             float current = Math.max(0.0f, damage.getAmount());
@@ -81,30 +89,14 @@ public final class BossDamageScalingSystem extends DamageEventSystem {
         }
     }
 
-    private static UUID extractTargetUuid(int index, ArchetypeChunk<EntityStore> archetypeChunk) {
-        Object targetUuidObj = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
-        if (targetUuidObj instanceof UUIDComponent targetUuidComp) {
-            return targetUuidComp.getUuid();
-        }
-        return null;
-    }
-
-    private BossModifiers extractSourceModifiers(Damage damage, Store<EntityStore> store) {
+    private static Ref<EntityStore> resolveSourceRef(Damage damage) {
         Damage.Source source = damage.getSource();
         if (!(source instanceof Damage.EntitySource entitySource)) {
             return null;
         }
 
-        var sourceRef = entitySource.getRef();
-        if (sourceRef == null || !sourceRef.isValid()) {
-            return null;
-        }
-
-        Object sourceUuidObj = store.getComponent(sourceRef, UUIDComponent.getComponentType());
-        if (sourceUuidObj instanceof UUIDComponent sourceUuidComp) {
-            return trackingSystem.getEntityModifiers(sourceUuidComp.getUuid());
-        }
-        return null;
+        Ref<EntityStore> sourceRef = entitySource.getRef();
+        return sourceRef != null && sourceRef.isValid() ? sourceRef : null;
     }
 
     private static float clampMultiplier(float value) {
@@ -1,6 +1,7 @@
 package com.bossarena.system;
 
 import com.bossarena.BossArenaPlugin;
+import com.bossarena.boss.BossArenaTracked;
 import com.bossarena.loot.BossLootHandler;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -33,7 +34,8 @@ public class BossDeathSystem extends DeathSystems.OnDeathSystem {
     @Nonnull
     @Override
     public Query<EntityStore> getQuery() {
-        return TransformComponent.getComponentType();
+        // Only BossArena entities carry the marker, so unrelated deaths never reach this system.
+        return Query.and(TransformComponent.getComponentType(), BossArenaTracked.getComponentType());
     }
 
     @Nonnull
@@ -74,11 +76,30 @@ public class BossDeathSystem extends DeathSystems.OnDeathSystem {
         }
     }
 
+    /**
+     * Handles a tracked entity that died before its marker was attached; the death went by without this system.
+     * Runs on the entity's world thread.
+     */
+    public void handleMissedDeath(UUID entityUuid) {
+        if (entityUuid == null) {
+            return;
+        }
+        if (trackingSystem.isTracked(entityUuid)) {
+            handleTrackedBossDeath(entityUuid);
+        } else if (trackingSystem.isTrackedAdd(entityUuid)) {
+            handleTrackedAddDeath(entityUuid);
+        }
+    }
+
     private void handleTrackedBossDeath(UUID bossUuid) {
         LOGGER.info("🎯 BOSS DIED! UUID: " + bossUuid);
 
-        // Cleanup map marker
         var plugin = BossArenaPlugin.getInstance();
+        if (plugin != null && plugin.getHpThresholdTriggerSystem() != null) {
+            plugin.getHpThresholdTriggerSystem().clearBoss(bossUuid);
+        }
+
+        // Cleanup map marker
         if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
             BossTrackingSystem.BossData data = trackingSystem.getBossData(bossUuid);
             if (data != null) {
@@ -104,16 +125,14 @@ public class BossDeathSystem extends DeathSystems.OnDeathSystem {
                 }
             }
 
-            BossWaveNotificationService.notifyBossAliveStatus(
+            BossWaveNotificationService.notifyEventVictory(
                     pendingLoot.world,
                     pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
                     pendingLoot.bossName,
-                    0,
-                    0,
-                    null,
-                    0L
+                    pendingLoot.bossUuids
             );
-            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
+            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName,
+                    pendingLoot.bossUuids);
             return;
         }
 
@@ -149,16 +168,14 @@ public class BossDeathSystem extends DeathSystems.OnDeathSystem {
                 }
             }
 
-            BossWaveNotificationService.notifyBossAliveStatus(
+            BossWaveNotificationService.notifyEventVictory(
                     pendingLoot.world,
                     pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
                     pendingLoot.bossName,
-                    0,
-                    0,
-                    null,
-                    0L
+                    pendingLoot.bossUuids
             );
-            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
+            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName,
+                    pendingLoot.bossUuids);
             return;
         }
 
@@ -1,6 +1,7 @@
 package com.bossarena.system;
 
 import com.bossarena.BossArenaPlugin;
+import com.bossarena.boss.BossArenaTracked;
 import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -29,8 +30,8 @@ public final class BossEntityRemovedSystem extends RefSystem<EntityStore> {
 
     @Override
     public Query<EntityStore> getQuery() {
-        // Listen for removal of any entity with a UUID (covers NPCs)
-        return UUIDComponent.getComponentType();
+        // Only BossArena entities carry the marker; everything else is filtered out by archetype.
+        return Query.and(UUIDComponent.getComponentType(), BossArenaTracked.getComponentType());
     }
 
     @Override
@@ -66,7 +67,11 @@ public final class BossEntityRemovedSystem extends RefSystem<EntityStore> {
         }
 
         // Only act immediately on explicit REMOVE (admin wipe / force remove / kill).
-        // Allow UNLOAD to be handled by reconcile (grace period).
+        // Allow UNLOAD to be handled by reconcile (grace period); the marker is not saved with the chunk, so
+        // BossMarkerRestoreSystem puts it back when the entity loads in again.
+        if (reason == RemoveReason.UNLOAD) {
+            BossArenaTracked.markUnloaded(entityUuid);
+        }
         if (reason != RemoveReason.REMOVE) {
             return;
         }
@@ -74,6 +79,10 @@ public final class BossEntityRemovedSystem extends RefSystem<EntityStore> {
         var plugin = BossArenaPlugin.getInstance();
 
         if (isBoss) {
+            if (plugin != null && plugin.getHpThresholdTriggerSystem() != null) {
+                plugin.getHpThresholdTriggerSystem().clearBoss(entityUuid);
+            }
+
             // Snapshot event members before canceling to clean up everything.
             BossTrackingSystem.EventMembersSnapshot snapshot = trackingSystem.snapshotEventMembersForBoss(entityUuid);
 
@@ -2,6 +2,7 @@ package com.bossarena.system;
 
 import com.bossarena.BossArenaConfig;
 import com.bossarena.BossArenaPlugin;
+import com.bossarena.boss.PlayerFinder;
 import com.bossarena.data.Arena;
 import com.bossarena.data.ArenaRegistry;
 import com.bossarena.loot.BossLootHandler;
@@ -15,6 +16,9 @@ import javax.annotation.Nonnull;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public final class BossEventNotificationSystem extends TickingSystem<EntityStore> {
     private static final float UPDATE_INTERVAL_SECONDS = 1.0f;
@@ -24,10 +28,19 @@ public final class BossEventNotificationSystem extends TickingSystem<EntityStore
     private final BossTrackingSystem trackingSystem;
     private final Map<UUID, Long> missingBossSince = new ConcurrentHashMap<>();
     private final Map<UUID, Long> missingAddSince = new ConcurrentHashMap<>();
-    private float elapsedSeconds;
+    // Banners go out less often while the world's tick runs long.
+    private final WorldTickInterval updateInterval = new WorldTickInterval(UPDATE_INTERVAL_SECONDS, true);
+    // Visitors are allocated once so the per-world tick does not create lambdas.
+    private final BiConsumer<UUID, BossTrackingSystem.BossData> bossReconciler = this::reconcileMissingBoss;
+    private final BiConsumer<UUID, UUID> addReconciler = this::reconcileMissingAdd;
+    private final Consumer<BossTrackingSystem.ActiveEventView> statusNotifier = this::notifyEventStatus;
+    private final Predicate<UUID> untrackedBoss;
+    private final Predicate<UUID> untrackedAdd;
 
     public BossEventNotificationSystem(BossTrackingSystem trackingSystem) {
         this.trackingSystem = trackingSystem;
+        this.untrackedBoss = uuid -> !trackingSystem.isTracked(uuid);
+        this.untrackedAdd = uuid -> !trackingSystem.isTrackedAdd(uuid);
     }
 
     private static boolean isEntityMissing(World world, UUID entityUuid) {
@@ -47,18 +60,7 @@ public final class BossEventNotificationSystem extends TickingSystem<EntityStore
             return false;
         }
         try {
-            for (var player : world.getPlayers()) {
-                if (player == null || player.getTransformComponent() == null) {
-                    continue;
-                }
-                Vector3d playerPos = player.getTransformComponent().getPosition();
-                if (playerPos == null) {
-                    continue;
-                }
-                if (playerPos.distanceSquaredTo(anchor) <= (MISSING_RECONCILE_PLAYER_RADIUS * MISSING_RECONCILE_PLAYER_RADIUS)) {
-                    return true;
-                }
-            }
+            return PlayerFinder.hasPlayerInRadius(world, anchor, MISSING_RECONCILE_PLAYER_RADIUS);
         } catch (Exception ignored) {
             // Best effort only; if this fails we skip reconcile.
         }
@@ -71,177 +73,169 @@ public final class BossEventNotificationSystem extends TickingSystem<EntityStore
             return;
         }
 
-        elapsedSeconds += Math.max(0f, dt);
-        if (elapsedSeconds < UPDATE_INTERVAL_SECONDS) {
+        World tickWorld = WorldTickInterval.worldOf(store);
+        if (!updateInterval.elapse(tickWorld, dt)) {
             return;
         }
-        elapsedSeconds = 0f;
 
-        reconcileMissingTrackedEntities();
+        missingBossSince.keySet().removeIf(untrackedBoss);
+        missingAddSince.keySet().removeIf(untrackedAdd);
+        trackingSystem.forEachTrackedBoss(tickWorld, bossReconciler);
+        trackingSystem.forEachTrackedAdd(tickWorld, addReconciler);
+        trackingSystem.forEachActiveEvent(tickWorld, statusNotifier);
+    }
 
-        for (BossTrackingSystem.ActiveEventStatus event : trackingSystem.snapshotActiveEvents()) {
-            if (event == null) {
-                continue;
+    private void notifyEventStatus(BossTrackingSystem.ActiveEventView event) {
+        double notificationRadius = -1.0d;
+        String arenaId = event.getArenaId();
+        if (arenaId != null && !arenaId.isBlank()) {
+            Arena arena = ArenaRegistry.get(arenaId);
+            if (arena != null) {
+                notificationRadius = arena.getNotificationRadius();
             }
-            double notificationRadius = -1.0d;
-            if (event.arenaId != null && !event.arenaId.isBlank()) {
-                Arena arena = ArenaRegistry.get(event.arenaId);
-                if (arena != null) {
-                    notificationRadius = arena.getNotificationRadius();
-                }
-            }
-            if (!Double.isFinite(notificationRadius) || notificationRadius <= 0) {
-                BossArenaConfig config = BossArenaPlugin.getInstance() != null ? BossArenaPlugin.getInstance().getConfigHandle() : null;
-                notificationRadius = (config != null) ? config.getNotificationRadius() : 100.0d;
-            }
-            BossWaveNotificationService.notifyBossAliveStatus(
-                    event.world,
-                    event.eventCenter,
-                    event.bossName,
-                    event.aliveBossCount,
-                    event.activeAddCount,
-                    event.awaitingPrimaryBossSpawn ? "Preparing encounter" : null,
-                    event.remainingCountdownMillis,
-                    true,
-                    true,
-                    notificationRadius
-            );
         }
+        if (!Double.isFinite(notificationRadius) || notificationRadius <= 0) {
+            BossArenaConfig config = BossArenaPlugin.getInstance() != null ? BossArenaPlugin.getInstance().getConfigHandle() : null;
+            notificationRadius = (config != null) ? config.getNotificationRadius() : 100.0d;
+        }
+        BossWaveNotificationService.notifyBossAliveStatus(
+                event.getWorld(),
+                event.getEventCenter(),
+                event.getBossName(),
+                event.getAliveBossCount(),
+                event.getActiveAddCount(),
+                event.isAwaitingPrimaryBossSpawn() ? "Preparing encounter" : null,
+                event.getRemainingCountdownMillis(),
+                true,
+                true,
+                notificationRadius
+        );
     }
 
-    private void reconcileMissingTrackedEntities() {
+    private void reconcileMissingBoss(UUID bossUuid, BossTrackingSystem.BossData bossData) {
+        if (bossUuid == null || bossData == null) {
+            return;
+        }
         long now = System.currentTimeMillis();
-        Map<UUID, BossTrackingSystem.BossData> trackedBosses = trackingSystem.snapshotTrackedBosses();
-        Map<UUID, UUID> trackedAdds = trackingSystem.snapshotTrackedAdds();
-        missingBossSince.keySet().retainAll(trackedBosses.keySet());
-        missingAddSince.keySet().retainAll(trackedAdds.keySet());
-
-        for (Map.Entry<UUID, BossTrackingSystem.BossData> entry : trackedBosses.entrySet()) {
-            UUID bossUuid = entry.getKey();
-            BossTrackingSystem.BossData bossData = entry.getValue();
-            if (bossUuid == null || bossData == null) {
-                continue;
-            }
-            if (!isMissingReconcileEligible(bossData.world, bossData.spawnLocation)) {
-                missingBossSince.remove(bossUuid);
-                continue;
-            }
-            if (!isEntityMissing(bossData.world, bossUuid)) {
-                missingBossSince.remove(bossUuid);
-                continue;
-            }
-            long missingSince = missingBossSince.computeIfAbsent(bossUuid, ignored -> now);
-            if ((now - missingSince) < MISSING_RECONCILE_GRACE_MS) {
-                continue;
-            }
+        if (!isMissingReconcileEligible(bossData.world, bossData.spawnLocation)) {
             missingBossSince.remove(bossUuid);
+            return;
+        }
+        if (!isEntityMissing(bossData.world, bossUuid)) {
+            missingBossSince.remove(bossUuid);
+            return;
+        }
+        long missingSince = missingBossSince.computeIfAbsent(bossUuid, ignored -> now);
+        if ((now - missingSince) < MISSING_RECONCILE_GRACE_MS) {
+            return;
+        }
+        missingBossSince.remove(bossUuid);
 
-            // Capture context BEFORE marking dead
-            BossTrackingSystem.BossEventContext eventContext = trackingSystem.getEventContext(bossUuid);
-            BossTrackingSystem.PendingLootData pendingLoot = trackingSystem.markBossDead(bossUuid);
+        // Capture context BEFORE marking dead
+        BossTrackingSystem.BossEventContext eventContext = trackingSystem.getEventContext(bossUuid);
+        BossTrackingSystem.PendingLootData pendingLoot = trackingSystem.markBossDead(bossUuid);
 
-            // Cleanup map marker
-            var plugin = BossArenaPlugin.getInstance();
-            if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
-                plugin.getTimedBossMapMarkerService().onTimedBossDespawn(bossData.world, bossUuid);
-            }
+        // Cleanup map marker
+        var plugin = BossArenaPlugin.getInstance();
+        if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
+            plugin.getTimedBossMapMarkerService().onTimedBossDespawn(bossData.world, bossUuid);
+        }
 
-            if (pendingLoot != null) {
-                // Clear any remaining boss markers if event completed
-                if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
-                    for (java.util.UUID uuid : pendingLoot.bossUuids) {
-                        plugin.getTimedBossMapMarkerService().onTimedBossDespawn(pendingLoot.world, uuid);
-                    }
+        if (pendingLoot != null) {
+            // Clear any remaining boss markers if event completed
+            if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
+                for (java.util.UUID uuid : pendingLoot.bossUuids) {
+                    plugin.getTimedBossMapMarkerService().onTimedBossDespawn(pendingLoot.world, uuid);
                 }
-
-                BossWaveNotificationService.notifyBossAliveStatus(
-                        pendingLoot.world,
-                        pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
-                        pendingLoot.bossName,
-                        0,
-                        0,
-                        null,
-                        0L
-                );
-                BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
-                continue;
             }
 
-            if (eventContext != null) {
-                BossWaveNotificationService.notifyBossAliveStatus(
-                        eventContext.world,
-                        eventContext.spawnLocation,
-                        eventContext.bossName,
-                        trackingSystem.getAliveBossCount(bossUuid),
-                        trackingSystem.getActiveAddCountForEvent(bossUuid),
-                        null,
-                        eventContext.remainingCountdownMillis
-                );
-            }
+            BossWaveNotificationService.notifyBossAliveStatus(
+                    pendingLoot.world,
+                    pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
+                    pendingLoot.bossName,
+                    0,
+                    0,
+                    null,
+                    0L
+            );
+            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
+            return;
         }
 
-        for (Map.Entry<UUID, UUID> entry : trackedAdds.entrySet()) {
-            UUID addUuid = entry.getKey();
-            UUID bossUuid = entry.getValue();
-            if (addUuid == null || bossUuid == null) {
-                continue;
-            }
+        if (eventContext != null) {
+            BossWaveNotificationService.notifyBossAliveStatus(
+                    eventContext.world,
+                    eventContext.spawnLocation,
+                    eventContext.bossName,
+                    trackingSystem.getAliveBossCount(bossUuid),
+                    trackingSystem.getActiveAddCountForEvent(bossUuid),
+                    null,
+                    eventContext.remainingCountdownMillis
+            );
+        }
+    }
 
-            BossTrackingSystem.BossData bossData = trackingSystem.getBossData(bossUuid);
-            BossTrackingSystem.BossEventContext eventContext = trackingSystem.getEventContext(bossUuid);
-            World world = bossData != null ? bossData.world : (eventContext != null ? eventContext.world : null);
-            Vector3d anchor = bossData != null ? bossData.spawnLocation : (eventContext != null ? eventContext.spawnLocation : null);
-            if (!isMissingReconcileEligible(world, anchor)) {
-                missingAddSince.remove(addUuid);
-                continue;
-            }
-            if (!isEntityMissing(world, addUuid)) {
-                missingAddSince.remove(addUuid);
-                continue;
-            }
-            long missingSince = missingAddSince.computeIfAbsent(addUuid, ignored -> now);
-            if ((now - missingSince) < MISSING_RECONCILE_GRACE_MS) {
-                continue;
-            }
+    private void reconcileMissingAdd(UUID addUuid, UUID bossUuid) {
+        if (addUuid == null || bossUuid == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+
+        BossTrackingSystem.BossData bossData = trackingSystem.getBossData(bossUuid);
+        // The event context is only needed (and only allocated) once the owning boss is gone.
+        BossTrackingSystem.BossEventContext eventContext = bossData == null ? trackingSystem.getEventContext(bossUuid) : null;
+        World world = bossData != null ? bossData.world : (eventContext != null ? eventContext.world : null);
+        Vector3d anchor = bossData != null ? bossData.spawnLocation : (eventContext != null ? eventContext.spawnLocation : null);
+        if (!isMissingReconcileEligible(world, anchor)) {
+            missingAddSince.remove(addUuid);
+            return;
+        }
+        if (!isEntityMissing(world, addUuid)) {
             missingAddSince.remove(addUuid);
+            return;
+        }
+        long missingSince = missingAddSince.computeIfAbsent(addUuid, ignored -> now);
+        if ((now - missingSince) < MISSING_RECONCILE_GRACE_MS) {
+            return;
+        }
+        missingAddSince.remove(addUuid);
 
-            // Capture context BEFORE marking dead
-            eventContext = trackingSystem.getEventContext(bossUuid);
-            BossTrackingSystem.PendingLootData pendingLoot = trackingSystem.handleTrackedAddDeath(addUuid);
-
-            if (pendingLoot != null) {
-                // Cleanup all boss markers for the completed event
-                var plugin = BossArenaPlugin.getInstance();
-                if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
-                    for (java.util.UUID buuid : pendingLoot.bossUuids) {
-                        plugin.getTimedBossMapMarkerService().onTimedBossDespawn(pendingLoot.world, buuid);
-                    }
-                }
+        // Capture context BEFORE marking dead
+        eventContext = trackingSystem.getEventContext(bossUuid);
+        BossTrackingSystem.PendingLootData pendingLoot = trackingSystem.handleTrackedAddDeath(addUuid);
 
-                BossWaveNotificationService.notifyBossAliveStatus(
-                        pendingLoot.world,
-                        pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
-                        pendingLoot.bossName,
-                        0,
-                        0,
-                        null,
-                        0L
-                );
-                BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
-                continue;
+        if (pendingLoot != null) {
+            // Cleanup all boss markers for the completed event
+            var plugin = BossArenaPlugin.getInstance();
+            if (plugin != null && plugin.getTimedBossMapMarkerService() != null) {
+                for (java.util.UUID buuid : pendingLoot.bossUuids) {
+                    plugin.getTimedBossMapMarkerService().onTimedBossDespawn(pendingLoot.world, buuid);
+                }
             }
 
-            if (eventContext != null) {
-                BossWaveNotificationService.notifyBossAliveStatus(
-                        eventContext.world,
-                        eventContext.spawnLocation,
-                        eventContext.bossName,
-                        trackingSystem.getAliveBossCount(bossUuid),
-                        trackingSystem.getActiveAddCountForEvent(bossUuid),
-                        null,
-                        eventContext.remainingCountdownMillis
-                );
-            }
+            BossWaveNotificationService.notifyBossAliveStatus(
+                    pendingLoot.world,
+                    pendingLoot.eventCenter != null ? pendingLoot.eventCenter : pendingLoot.spawnLocation,
+                    pendingLoot.bossName,
+                    0,
+                    0,
+                    null,
+                    0L
+            );
+            BossLootHandler.queueLootSpawn(pendingLoot.world, pendingLoot.spawnLocation, pendingLoot.bossName);
+            return;
+        }
+
+        if (eventContext != null) {
+            BossWaveNotificationService.notifyBossAliveStatus(
+                    eventContext.world,
+                    eventContext.spawnLocation,
+                    eventContext.bossName,
+                    trackingSystem.getAliveBossCount(bossUuid),
+                    trackingSystem.getActiveAddCountForEvent(bossUuid),
+                    null,
+                    eventContext.remainingCountdownMillis
+            );
         }
     }
 }
@@ -0,0 +1,188 @@
+package com.bossarena.system;
+
+import com.bossarena.boss.BossArenaTracked;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fires boss_hp_percent waves from the damage pipeline instead of polling boss health.
+ * Thresholds are kept per boss, highest first, so a hit only has to look at the head of the set. Runs in the
+ * inspect group, after armor and every other filter has settled the hit and it has been applied, so the boss's
+ * health stat already is the post-hit value.
+ */
+public final class BossHpThresholdTriggerSystem extends DamageEventSystem
+        implements BossTrackingSystem.TrackedBossListener {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final double HP_TRIGGER_EPSILON = 0.01d;
+    private static final Comparator<PendingThreshold> HIGHEST_FIRST = Comparator
+            .comparingDouble((PendingThreshold threshold) -> -threshold.thresholdPercent)
+            .thenComparingLong(threshold -> threshold.sequence);
+
+    private final BossTrackingSystem trackingSystem;
+    private final Map<UUID, NavigableSet<PendingThreshold>> pendingByBoss = new ConcurrentHashMap<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    public BossHpThresholdTriggerSystem(BossTrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+        if (trackingSystem != null) {
+            // Every untrack path (death, removal, cancel, reset) drops the boss's thresholds here.
+            trackingSystem.addTrackedBossListener(this);
+        }
+    }
+
+    @Override
+    @Nullable
+    public SystemGroup<EntityStore> getGroup() {
+        return DamageModule.get().getInspectDamageGroup();
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        // Only BossArena entities carry the marker, so hits on anything else never reach this handler.
+        return Query.and(UUIDComponent.getComponentType(), BossArenaTracked.getComponentType());
+    }
+
+    /**
+     * Registers a one-shot callback that runs on the world thread once the boss HP drops to or below
+     * {@code thresholdPercent}.
+     */
+    public void registerThreshold(UUID bossUuid, double thresholdPercent, Runnable onCrossed) {
+        if (bossUuid == null || onCrossed == null) {
+            return;
+        }
+        if (trackingSystem != null && !trackingSystem.isTracked(bossUuid)) {
+            return;
+        }
+        double clamped = Math.max(0d, Math.min(100d, thresholdPercent));
+        pendingByBoss
+                .computeIfAbsent(bossUuid, ignored -> new ConcurrentSkipListSet<>(HIGHEST_FIRST))
+                .add(new PendingThreshold(clamped, nextSequence.incrementAndGet(), onCrossed));
+    }
+
+    @Override
+    public void onBossTracked(UUID bossUuid, BossTrackingSystem.BossData data) {
+        // Thresholds are registered by the wave cursor once the boss is up.
+    }
+
+    @Override
+    public void onBossUntracked(UUID bossUuid) {
+        clearBoss(bossUuid);
+    }
+
+    public void clearBoss(UUID bossUuid) {
+        if (bossUuid == null) {
+            return;
+        }
+        pendingByBoss.remove(bossUuid);
+    }
+
+    public int getPendingThresholdCount(UUID bossUuid) {
+        NavigableSet<PendingThreshold> pending = bossUuid != null ? pendingByBoss.get(bossUuid) : null;
+        return pending != null ? pending.size() : 0;
+    }
+
+    public void clearAll() {
+        pendingByBoss.clear();
+    }
+
+    @Override
+    public void handle(int index,
+                       @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store,
+                       @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                       @Nonnull Damage damage) {
+        if (damage == null || damage.isCancelled() || pendingByBoss.isEmpty()) {
+            return;
+        }
+
+        Object uuidObj = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
+        if (!(uuidObj instanceof UUIDComponent uuidComp)) {
+            return;
+        }
+        UUID bossUuid = uuidComp.getUuid();
+        NavigableSet<PendingThreshold> pending = bossUuid != null ? pendingByBoss.get(bossUuid) : null;
+        if (pending == null) {
+            return;
+        }
+        if (trackingSystem != null && !trackingSystem.isTracked(bossUuid)) {
+            pendingByBoss.remove(bossUuid);
+            return;
+        }
+
+        double hpPercent = resolveHealthPercent(index, archetypeChunk);
+        if (hpPercent < 0d) {
+            return;
+        }
+
+        World world = store.getExternalData() != null ? store.getExternalData().getWorld() : null;
+        if (world == null) {
+            return;
+        }
+
+        PendingThreshold head;
+        while ((head = pending.pollFirst()) != null) {
+            if (hpPercent > head.thresholdPercent + HP_TRIGGER_EPSILON) {
+                pending.add(head);
+                break;
+            }
+            // Spawning entities is not allowed while the damage chunk is being processed.
+            world.execute(head.onCrossed);
+        }
+        if (pending.isEmpty()) {
+            pendingByBoss.remove(bossUuid, pending);
+        }
+    }
+
+    private static double resolveHealthPercent(int index, ArchetypeChunk<EntityStore> archetypeChunk) {
+        try {
+            Object statMapObj = archetypeChunk.getComponent(index, EntityStatMap.getComponentType());
+            if (!(statMapObj instanceof EntityStatMap statMap)) {
+                return -1d;
+            }
+            var healthValue = statMap.get(DefaultEntityStatTypes.getHealth());
+            if (healthValue == null || healthValue.getMax() <= 0f) {
+                return -1d;
+            }
+            return (Math.max(0d, healthValue.get()) / healthValue.getMax()) * 100.0d;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to evaluate boss HP percent", e);
+            return -1d;
+        }
+    }
+
+    private static final class PendingThreshold {
+        private final double thresholdPercent;
+        private final long sequence;
+        private final Runnable onCrossed;
+
+        private PendingThreshold(double thresholdPercent, long sequence, Runnable onCrossed) {
+            this.thresholdPercent = thresholdPercent;
+            this.sequence = sequence;
+            this.onCrossed = onCrossed;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bossarena.system;
+
+import com.bossarena.boss.BossArenaTracked;
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.modules.entity.AllLegacyLivingEntityTypesQuery;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Puts the {@link BossArenaTracked} marker back on tracked entities that load in without it. The marker is not
+ * persisted, so a boss or add whose chunk unloads and reloads would otherwise drop out of the death, damage scaling
+ * and damage ledger systems for the rest of its event. A tracked entity removed dead before its marker ever landed
+ * is handed to the death handler here, since the death system never saw it.
+ */
+public final class BossMarkerRestoreSystem extends RefSystem<EntityStore> {
+    private final BossTrackingSystem trackingSystem;
+
+    public BossMarkerRestoreSystem(BossTrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Query.and(AllLegacyLivingEntityTypesQuery.INSTANCE, UUIDComponent.getComponentType());
+    }
+
+    @Override
+    public void onEntityAdded(@Nonnull Ref<EntityStore> ref,
+                              @Nonnull AddReason reason,
+                              @Nonnull Store<EntityStore> store,
+                              @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        UUID entityUuid = unmarkedTrackedUuid(ref, store);
+        if (entityUuid == null) {
+            return;
+        }
+        World world = WorldTickInterval.worldOf(store);
+        if (world != null) {
+            BossArenaTracked.restore(world, entityUuid);
+        }
+    }
+
+    @Override
+    public void onEntityRemove(@Nonnull Ref<EntityStore> ref,
+                               @Nonnull RemoveReason reason,
+                               @Nonnull Store<EntityStore> store,
+                               @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        if (reason != RemoveReason.REMOVE) {
+            return;
+        }
+        UUID entityUuid = unmarkedTrackedUuid(ref, store);
+        if (entityUuid != null && store.getComponent(ref, DeathComponent.getComponentType()) != null) {
+            BossArenaTracked.reportMissedDeath(entityUuid);
+        }
+    }
+
+    private UUID unmarkedTrackedUuid(Ref<EntityStore> ref, Store<EntityStore> store) {
+        if (trackingSystem == null || BossArenaTracked.getComponentType() == null
+                || store.getComponent(ref, BossArenaTracked.getComponentType()) != null) {
+            return null;
+        }
+        Object uuidObj = store.getComponent(ref, UUIDComponent.getComponentType());
+        UUID entityUuid = uuidObj instanceof UUIDComponent uuidComponent ? uuidComponent.getUuid() : null;
+        if (entityUuid == null || (!trackingSystem.isTracked(entityUuid) && !trackingSystem.isTrackedAdd(entityUuid))) {
+            return null;
+        }
+        return entityUuid;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bossarena.system;
 
 import com.bossarena.boss.BossModifiers;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
@@ -17,14 +18,16 @@ import com.hypixel.hytale.server.npc.movement.controllers.MotionControllerBase;
 import com.hypixel.hytale.server.npc.role.Role;
 
 import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,19 +36,25 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
     private static final float UPDATE_INTERVAL_SECONDS = 0.25f;
     private static final float EPSILON = 0.0001f;
     private static final float NPC_SPEED_UNSET = Float.MAX_VALUE;
-    private static final Field NPC_CACHED_SPEED_FIELD = resolveCachedSpeedField();
-    private static final Field INTERACTION_MANAGER_COOLDOWN_HANDLER_FIELD = resolveField(InteractionManager.class, "cooldownHandler");
-    private static final Field COOLDOWN_HANDLER_COOLDOWNS_FIELD = resolveField(CooldownHandler.class, "cooldowns");
-    private static final Field MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED_FIELD = resolveField(MotionControllerBase.class, "maxHeadRotationSpeed");
+    private static final VarHandle NPC_CACHED_SPEED = resolveCachedSpeedHandle();
+    private static final VarHandle INTERACTION_MANAGER_COOLDOWN_HANDLER = resolveHandle(InteractionManager.class, "cooldownHandler");
+    private static final VarHandle COOLDOWN_HANDLER_COOLDOWNS = resolveHandle(CooldownHandler.class, "cooldowns");
+    private static final VarHandle MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED = resolveHandle(MotionControllerBase.class, "maxHeadRotationSpeed");
 
     private final BossTrackingSystem trackingSystem;
-    private final Map<UUID, Float> lastHealthByEntity = new ConcurrentHashMap<>();
+    private final Map<UUID, ScalerState> scalerStates = new ConcurrentHashMap<>();
     private final Map<MotionControllerBase, Float> baseTurnRateByController =
             Collections.synchronizedMap(new WeakHashMap<>());
-    private float elapsedSeconds;
+    // Stretched while the world's tick runs long; cooldown scaling uses the interval actually waited.
+    private final WorldTickInterval updateInterval = new WorldTickInterval(UPDATE_INTERVAL_SECONDS, true);
+    // Visitors are allocated once so the per-world tick does not create lambdas.
+    private final BiConsumer<UUID, BossTrackingSystem.BossData> bossScaler = this::applyBossScalers;
+    private final BiConsumer<UUID, UUID> addScaler = this::applyAddScalers;
+    private final Predicate<UUID> untrackedEntity;
 
     public BossSpeedScalingSystem(BossTrackingSystem trackingSystem) {
         this.trackingSystem = trackingSystem;
+        this.untrackedEntity = uuid -> !trackingSystem.isTracked(uuid) && !trackingSystem.isTrackedAdd(uuid);
     }
 
     private static float clampMultiplier(float value) {
@@ -55,75 +64,71 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
         return value;
     }
 
-    private static Field resolveField(Class<?> owner, String name) {
+    private static VarHandle resolveHandle(Class<?> owner, String name) {
         try {
-            Field field = owner.getDeclaredField(name);
-            field.setAccessible(true);
-            return field;
+            return lookupHandle(owner, name);
         } catch (Exception e) {
             LOGGER.warning("Boss scaling support disabled for " + owner.getSimpleName() + "." + name + ".");
             return null;
         }
     }
 
-    private static Field resolveCachedSpeedField() {
+    private static VarHandle resolveCachedSpeedHandle() {
         try {
-            Field field = NPCEntity.class.getDeclaredField("cachedEntityHorizontalSpeedMultiplier");
-            field.setAccessible(true);
-            return field;
+            return lookupHandle(NPCEntity.class, "cachedEntityHorizontalSpeedMultiplier");
         } catch (Exception e) {
             LOGGER.warning("Boss speed scaling disabled: unable to access NPC speed cache field.");
             return null;
         }
     }
 
+    private static VarHandle lookupHandle(Class<?> owner, String name) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflectVarHandle(field);
+    }
+
     @Override
     public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
-        if (trackingSystem == null || NPC_CACHED_SPEED_FIELD == null) {
+        if (trackingSystem == null || NPC_CACHED_SPEED == null) {
             return;
         }
 
-        elapsedSeconds += Math.max(0f, dt);
-        if (elapsedSeconds < UPDATE_INTERVAL_SECONDS) {
+        World tickWorld = WorldTickInterval.worldOf(store);
+        if (!updateInterval.elapse(tickWorld, dt)) {
             return;
         }
-        elapsedSeconds = 0f;
 
-        Set<UUID> activeTrackedEntities = new HashSet<>();
+        trackingSystem.forEachTrackedBoss(tickWorld, bossScaler);
+        trackingSystem.forEachTrackedAdd(tickWorld, addScaler);
 
-        for (Map.Entry<UUID, BossTrackingSystem.BossData> entry : trackingSystem.snapshotTrackedBosses().entrySet()) {
-            UUID entityUuid = entry.getKey();
-            BossTrackingSystem.BossData data = entry.getValue();
-            if (entityUuid == null || data == null) {
-                continue;
-            }
-            activeTrackedEntities.add(entityUuid);
-            applyRuntimeScalers(entityUuid, data.world, data.modifiers);
-        }
+        // Other worlds' entries are pruned here too; only entities no longer tracked anywhere are dropped.
+        scalerStates.keySet().removeIf(untrackedEntity);
+    }
 
-        for (Map.Entry<UUID, UUID> entry : trackingSystem.snapshotTrackedAdds().entrySet()) {
-            UUID addUuid = entry.getKey();
-            UUID bossUuid = entry.getValue();
-            if (addUuid == null || bossUuid == null) {
-                continue;
-            }
+    private void applyBossScalers(UUID bossUuid, BossTrackingSystem.BossData data) {
+        if (bossUuid == null || data == null) {
+            return;
+        }
+        applyRuntimeScalers(bossUuid, data.world, data.modifiers);
+    }
 
-            BossTrackingSystem.BossData ownerBoss = trackingSystem.getBossData(bossUuid);
-            World world = ownerBoss != null ? ownerBoss.world : null;
-            if (world == null) {
-                BossTrackingSystem.BossEventContext eventContext = trackingSystem.getEventContext(bossUuid);
-                world = eventContext != null ? eventContext.world : null;
-            }
-            if (world == null) {
-                continue;
-            }
+    private void applyAddScalers(UUID addUuid, UUID bossUuid) {
+        if (addUuid == null || bossUuid == null) {
+            return;
+        }
 
-            BossModifiers addModifiers = trackingSystem.getEntityModifiers(addUuid);
-            activeTrackedEntities.add(addUuid);
-            applyRuntimeScalers(addUuid, world, addModifiers);
+        BossTrackingSystem.BossData ownerBoss = trackingSystem.getBossData(bossUuid);
+        World world = ownerBoss != null ? ownerBoss.world : null;
+        if (world == null) {
+            BossTrackingSystem.BossEventContext eventContext = trackingSystem.getEventContext(bossUuid);
+            world = eventContext != null ? eventContext.world : null;
+        }
+        if (world == null) {
+            return;
         }
 
-        lastHealthByEntity.keySet().retainAll(activeTrackedEntities);
+        BossModifiers addModifiers = trackingSystem.getEntityModifiers(addUuid);
+        applyRuntimeScalers(addUuid, world, addModifiers);
     }
 
     private void applyRuntimeScalers(UUID entityUuid, World world, BossModifiers modifiers) {
@@ -131,15 +136,12 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
             return;
         }
 
-        applySpeedMultiplier(entityUuid, world, modifiers);
-        applyTurnRateMultiplier(entityUuid, world, modifiers);
-        applyInteractionCooldownScaling(entityUuid, world, modifiers);
-        applyRegenerationScaling(entityUuid, world, modifiers);
-    }
-
-    private void applySpeedMultiplier(UUID entityUuid, World world, BossModifiers modifiers) {
-        float speedMultiplier = clampMultiplier(modifiers.speedMultiplier());
-        if (!Float.isFinite(speedMultiplier)) {
+        ScalerState state = scalerStates.get(entityUuid);
+        if (state == null || state.modifiers != modifiers) {
+            state = new ScalerState(modifiers);
+            scalerStates.put(entityUuid, state);
+        }
+        if (state.isIdle()) {
             return;
         }
 
@@ -150,8 +152,39 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
             }
 
             Store<EntityStore> worldStore = world.getEntityStore().getStore();
-            Object npcObj = worldStore.getComponent(entityRef, NPCEntity.getComponentType());
-            if (!(npcObj instanceof NPCEntity npcEntity)) {
+            if (state.scalesSpeed || state.scalesTurnRate) {
+                Object npcObj = worldStore.getComponent(entityRef, NPCEntity.getComponentType());
+                if (npcObj instanceof NPCEntity npcEntity) {
+                    if (state.scalesSpeed) {
+                        applySpeedMultiplier(entityUuid, npcEntity, entityRef, worldStore, state);
+                    }
+                    if (state.scalesTurnRate) {
+                        applyTurnRateMultiplier(entityUuid, npcEntity, state);
+                    }
+                }
+            }
+            if (state.scalesCooldowns) {
+                applyInteractionCooldownScaling(entityUuid, entityRef, worldStore, state,
+                        updateInterval.lastIntervalSeconds(world));
+            }
+            if (state.scalesRegen) {
+                applyRegenerationScaling(entityUuid, entityRef, worldStore, state);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to resolve entity for runtime scaling " + entityUuid, e);
+        }
+    }
+
+    private void applySpeedMultiplier(UUID entityUuid,
+                                      NPCEntity npcEntity,
+                                      Ref<EntityStore> entityRef,
+                                      Store<EntityStore> worldStore,
+                                      ScalerState state) {
+        try {
+            // The engine resets or recomputes its cache when the NPC's speed inputs change; until then the value
+            // we wrote is still in place and there is nothing to do.
+            float cached = (float) NPC_CACHED_SPEED.get(npcEntity);
+            if (cached != NPC_SPEED_UNSET && cached == state.appliedSpeed) {
                 return;
             }
 
@@ -160,43 +193,24 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
             if (!Float.isFinite(naturalSpeed)) {
                 naturalSpeed = 1.0f;
             }
-            float desiredSpeed = clampMultiplier(naturalSpeed * speedMultiplier);
-            float current = NPC_CACHED_SPEED_FIELD.getFloat(npcEntity);
-
-            if (Math.abs(current - desiredSpeed) > EPSILON || current == NPC_SPEED_UNSET) {
-                if (desiredSpeed < 0.1f) {
-                    LOGGER.warning("Setting very low speed (" + desiredSpeed + ") for boss " + entityUuid +
-                            ". Natural: " + naturalSpeed + ", Multiplier: " + speedMultiplier);
-                }
-                NPC_CACHED_SPEED_FIELD.setFloat(npcEntity, desiredSpeed);
+            float desiredSpeed = clampMultiplier(naturalSpeed * state.speedMultiplier);
+            if (desiredSpeed < 0.1f) {
+                LOGGER.warning("Setting very low speed (" + desiredSpeed + ") for boss " + entityUuid +
+                        ". Natural: " + naturalSpeed + ", Multiplier: " + state.speedMultiplier);
             }
+            NPC_CACHED_SPEED.set(npcEntity, desiredSpeed);
+            state.appliedSpeed = desiredSpeed;
         } catch (Exception e) {
             LOGGER.log(Level.FINE, "Failed to apply movement speed scaling for entity " + entityUuid, e);
         }
     }
 
-    private void applyTurnRateMultiplier(UUID entityUuid, World world, BossModifiers modifiers) {
-        if (MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED_FIELD == null) {
-            return;
-        }
-
-        float turnRateMultiplier = clampMultiplier(modifiers.turnRateMultiplier());
-        if (!Float.isFinite(turnRateMultiplier)) {
+    private void applyTurnRateMultiplier(UUID entityUuid, NPCEntity npcEntity, ScalerState state) {
+        if (MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED == null) {
             return;
         }
 
         try {
-            var entityRef = world.getEntityRef(entityUuid);
-            if (entityRef == null || !entityRef.isValid()) {
-                return;
-            }
-
-            Store<EntityStore> worldStore = world.getEntityStore().getStore();
-            Object npcObj = worldStore.getComponent(entityRef, NPCEntity.getComponentType());
-            if (!(npcObj instanceof NPCEntity npcEntity)) {
-                return;
-            }
-
             Role role = npcEntity.getRole();
             if (role == null) {
                 return;
@@ -206,48 +220,34 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
                 return;
             }
 
-            float baseRate = baseTurnRateByController.computeIfAbsent(motionController, ignored -> {
-                try {
-                    return MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED_FIELD.getFloat(motionController);
-                } catch (IllegalAccessException e) {
-                    return 360.0f;
-                }
-            });
+            // Dirty only when the role switched motion controllers or something else rewrote the rate.
+            float current = (float) MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED.get(motionController);
+            if (state.turnController == motionController && current == state.appliedTurnRate) {
+                return;
+            }
 
-            float desired = Math.max(EPSILON, baseRate * turnRateMultiplier);
-            float current = MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED_FIELD.getFloat(motionController);
+            float baseRate = baseTurnRateByController.computeIfAbsent(motionController, ignored -> current);
+            float desired = Math.max(EPSILON, baseRate * state.turnRateMultiplier);
             if (Math.abs(current - desired) > EPSILON) {
-                MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED_FIELD.setFloat(motionController, desired);
+                MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED.set(motionController, desired);
             }
+            state.turnController = motionController;
+            state.appliedTurnRate = (float) MOTION_CONTROLLER_MAX_HEAD_ROTATION_SPEED.get(motionController);
         } catch (Exception e) {
             LOGGER.log(Level.FINE, "Failed to apply turn rate scaling for entity " + entityUuid, e);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void applyInteractionCooldownScaling(UUID entityUuid, World world, BossModifiers modifiers) {
-        if (INTERACTION_MANAGER_COOLDOWN_HANDLER_FIELD == null || COOLDOWN_HANDLER_COOLDOWNS_FIELD == null) {
-            return;
-        }
-
-        float attackRateMultiplier = clampMultiplier(modifiers.attackRateMultiplier());
-        float abilityCooldownMultiplier = clampMultiplier(modifiers.abilityCooldownMultiplier());
-        if (!Float.isFinite(attackRateMultiplier) || !Float.isFinite(abilityCooldownMultiplier)) {
-            return;
-        }
-
-        float cooldownTickFactor = attackRateMultiplier / abilityCooldownMultiplier;
-        if (!Float.isFinite(cooldownTickFactor) || Math.abs(cooldownTickFactor - 1.0f) <= EPSILON) {
+    private void applyInteractionCooldownScaling(UUID entityUuid,
+                                                 Ref<EntityStore> entityRef,
+                                                 Store<EntityStore> worldStore,
+                                                 ScalerState state,
+                                                 float stepSeconds) {
+        if (INTERACTION_MANAGER_COOLDOWN_HANDLER == null || COOLDOWN_HANDLER_COOLDOWNS == null) {
             return;
         }
 
         try {
-            var entityRef = world.getEntityRef(entityUuid);
-            if (entityRef == null || !entityRef.isValid()) {
-                return;
-            }
-
-            Store<EntityStore> worldStore = world.getEntityStore().getStore();
             Object interactionManagerObj = worldStore.getComponent(
                     entityRef,
                     InteractionModule.get().getInteractionManagerComponent()
@@ -256,24 +256,19 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
                 return;
             }
 
-            Object cooldownHandlerObj = INTERACTION_MANAGER_COOLDOWN_HANDLER_FIELD.get(interactionManager);
+            Object cooldownHandlerObj = INTERACTION_MANAGER_COOLDOWN_HANDLER.get(interactionManager);
             if (!(cooldownHandlerObj instanceof CooldownHandler cooldownHandler)) {
                 return;
             }
 
-            float desiredTick = UPDATE_INTERVAL_SECONDS * cooldownTickFactor;
-            float adjustment = desiredTick - UPDATE_INTERVAL_SECONDS;
-            if (Math.abs(adjustment) <= EPSILON) {
-                return;
-            }
-
+            float adjustment = stepSeconds * state.cooldownTickFactor - stepSeconds;
             if (adjustment > 0.0f) {
                 cooldownHandler.tick(adjustment);
                 return;
             }
 
-            Object cooldownsObj = COOLDOWN_HANDLER_COOLDOWNS_FIELD.get(cooldownHandler);
-            if (!(cooldownsObj instanceof Map<?, ?> cooldowns)) {
+            Object cooldownsObj = COOLDOWN_HANDLER_COOLDOWNS.get(cooldownHandler);
+            if (!(cooldownsObj instanceof Map<?, ?> cooldowns) || cooldowns.isEmpty()) {
                 return;
             }
 
@@ -288,19 +283,11 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
         }
     }
 
-    private void applyRegenerationScaling(UUID entityUuid, World world, BossModifiers modifiers) {
-        float regenMultiplier = clampMultiplier(modifiers.regenMultiplier());
-        if (!Float.isFinite(regenMultiplier)) {
-            regenMultiplier = 1.0f;
-        }
-
+    private void applyRegenerationScaling(UUID entityUuid,
+                                          Ref<EntityStore> entityRef,
+                                          Store<EntityStore> worldStore,
+                                          ScalerState state) {
         try {
-            var entityRef = world.getEntityRef(entityUuid);
-            if (entityRef == null || !entityRef.isValid()) {
-                return;
-            }
-
-            Store<EntityStore> worldStore = world.getEntityStore().getStore();
             Object statMapObj = worldStore.getComponent(entityRef, EntityStatMap.getComponentType());
             if (!(statMapObj instanceof EntityStatMap statMap)) {
                 return;
@@ -321,8 +308,9 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
                 return;
             }
 
-            Float previous = lastHealthByEntity.put(entityUuid, current);
-            if (previous == null || !Float.isFinite(previous) || Math.abs(regenMultiplier - 1.0f) <= EPSILON) {
+            float previous = state.lastHealth;
+            state.lastHealth = current;
+            if (!Float.isFinite(previous)) {
                 return;
             }
 
@@ -331,17 +319,56 @@ public final class BossSpeedScalingSystem extends TickingSystem<EntityStore> {
                 return;
             }
 
-            float scaledGain = gained * regenMultiplier;
-            float target = previous + scaledGain;
+            float target = previous + gained * state.regenMultiplier;
             target = Math.max(health.getMin(), Math.min(health.getMax(), target));
             if (Math.abs(target - current) <= EPSILON || !Float.isFinite(target)) {
                 return;
             }
 
             statMap.setStatValue(healthIndex, target);
-            lastHealthByEntity.put(entityUuid, target);
+            state.lastHealth = target;
         } catch (Exception e) {
             LOGGER.log(Level.FINE, "Failed to apply regeneration scaling for entity " + entityUuid, e);
         }
     }
+
+    /**
+     * What a tracked entity needs from this system, derived once from its modifiers, plus the values last written
+     * so unchanged entities can be skipped. Replaced whenever tracking hands out a different modifiers instance.
+     */
+    private static final class ScalerState {
+        private final BossModifiers modifiers;
+        private final float speedMultiplier;
+        private final float turnRateMultiplier;
+        private final float cooldownTickFactor;
+        private final float regenMultiplier;
+        private final boolean scalesSpeed;
+        private final boolean scalesTurnRate;
+        private final boolean scalesCooldowns;
+        private final boolean scalesRegen;
+
+        private float appliedSpeed = Float.NaN;
+        private MotionControllerBase turnController;
+        private float appliedTurnRate = Float.NaN;
+        private float lastHealth = Float.NaN;
+
+        private ScalerState(BossModifiers modifiers) {
+            this.modifiers = modifiers;
+            this.speedMultiplier = clampMultiplier(modifiers.speedMultiplier());
+            this.turnRateMultiplier = clampMultiplier(modifiers.turnRateMultiplier());
+            this.regenMultiplier = clampMultiplier(modifiers.regenMultiplier());
+            float tickFactor = clampMultiplier(modifiers.attackRateMultiplier())
+                    / clampMultiplier(modifiers.abilityCooldownMultiplier());
+            this.cooldownTickFactor = Float.isFinite(tickFactor) ? tickFactor : 1.0f;
+
+            this.scalesSpeed = NPC_CACHED_SPEED != null && Math.abs(speedMultiplier - 1.0f) > EPSILON;
+            this.scalesTurnRate = Math.abs(turnRateMultiplier - 1.0f) > EPSILON;
+            this.scalesCooldowns = Math.abs(cooldownTickFactor - 1.0f) > EPSILON;
+            this.scalesRegen = Math.abs(regenMultiplier - 1.0f) > EPSILON;
+        }
+
+        private boolean isIdle() {
+            return !scalesSpeed && !scalesTurnRate && !scalesCooldowns && !scalesRegen;
+        }
+    }
 }
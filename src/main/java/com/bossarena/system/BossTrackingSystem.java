@@ -1,6 +1,14 @@
 package com.bossarena.system;
 
+import com.bossarena.boss.BossArenaTracked;
 import com.bossarena.boss.BossModifiers;
+import com.bossarena.boss.DamageLedger;
+import com.bossarena.util.BossArenaClock;
+import com.bossarena.util.StateCodec;
+import com.bossarena.util.StateFiles;
+import com.bossarena.util.StateReader;
+import com.bossarena.util.StateWriteExecutor;
+import com.bossarena.util.StateWriter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.hypixel.hytale.math.util.ChunkUtil;
@@ -10,44 +18,66 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 public class BossTrackingSystem {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson JOURNAL_GSON = new Gson();
+    private static final long JOURNAL_COMPACT_BYTES = 1024L * 1024L;
     private static final int PERSISTENCE_VERSION = 1;
+    private static final StateCodec<PersistedState> STATE_CODEC = new PersistedStateCodec();
     private static final long AUTOSAVE_PERIOD_SECONDS = 5L;
     private final Map<UUID, BossData> trackedBosses = new ConcurrentHashMap<>();
-    private final Map<UUID, Set<UUID>> trackedAddsByBoss = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> addToBoss = new ConcurrentHashMap<>();
-    private final Map<UUID, BossModifiers> addModifiers = new ConcurrentHashMap<>();
+    private final TrackedAddTable trackedAdds = new TrackedAddTable();
     private final Map<UUID, UUID> bossToEvent = new ConcurrentHashMap<>();
     private final Map<UUID, EventData> eventsById = new ConcurrentHashMap<>();
     private final Map<UUID, HeldChunk> heldChunkByEvent = new ConcurrentHashMap<>();
+    private final TrackingWorldIndex worldIndex = new TrackingWorldIndex();
+    private final Predicate<UUID> stillTracked = uuid -> isTracked(uuid) || isTrackedAdd(uuid);
+    private final ThreadLocal<ActiveEventView> eventViews = ThreadLocal.withInitial(ActiveEventView::new);
     private final Object chunkRetentionLock = new Object();
     private final Object persistenceLock = new Object();
     private volatile Path persistencePath;
     private volatile boolean persistenceDirty;
+    // Next flush rewrites the whole snapshot instead of appending journal records.
+    private volatile boolean snapshotRequired = true;
+    private volatile TrackingJournal journal;
+    // Set while the state still comes from a pre-binary JSON file; cleared once a binary snapshot exists.
+    private volatile boolean legacyStateMigrationPending;
+    private long journalGeneration;
+    private final Set<UUID> journalDirtyEvents = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> journalDirtyBosses = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> journalDirtyAdds = ConcurrentHashMap.newKeySet();
+    // Adds that joined or left each event since the last flush. Event records leave their add list out and these
+    // are journaled as deltas instead; only snapshots write the full lists.
+    private final Map<UUID, AddDelta> journalAddDeltas = new ConcurrentHashMap<>();
     private volatile PersistedState pendingRestoreState;
     private volatile MissingEntityHandler missingEntityHandler;
-    private ScheduledExecutorService persistenceExecutor;
+    private final List<TrackedBossListener> bossListeners = new CopyOnWriteArrayList<>();
+    private BossArenaClock.Timer autosaveTimer;
+    private final AtomicBoolean autosaveQueued = new AtomicBoolean();
 
     private static long resolveChunkIndex(Vector3d location) {
         int blockX = (int) Math.floor(location.x);
@@ -327,13 +357,39 @@ public class BossTrackingSystem {
         if (event == null) {
             return false;
         }
-        return event.awaitingPrimaryBossSpawn || !event.aliveBosses.isEmpty() || !event.activeAdds.isEmpty();
+        return event.awaitingPrimaryBossSpawn || event.aliveBossCount.get() > 0 || event.activeAddCount.get() > 0;
     }
 
     public void setMissingEntityHandler(MissingEntityHandler handler) {
         this.missingEntityHandler = handler;
     }
 
+    public void addTrackedBossListener(TrackedBossListener listener) {
+        if (listener != null) {
+            bossListeners.add(listener);
+        }
+    }
+
+    private void notifyBossTracked(UUID bossUuid, BossData data) {
+        for (TrackedBossListener listener : bossListeners) {
+            try {
+                listener.onBossTracked(bossUuid, data);
+            } catch (Exception e) {
+                LOGGER.warning("Tracked boss listener failed for " + bossUuid + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void notifyBossUntracked(UUID bossUuid) {
+        for (TrackedBossListener listener : bossListeners) {
+            try {
+                listener.onBossUntracked(bossUuid);
+            } catch (Exception e) {
+                LOGGER.warning("Tracked boss listener failed for " + bossUuid + ": " + e.getMessage());
+            }
+        }
+    }
+
     public synchronized void initializePersistence(Path stateFilePath) {
         persistencePath = stateFilePath;
         if (persistencePath == null) {
@@ -349,40 +405,61 @@ public class BossTrackingSystem {
             LOGGER.warning("Failed to create tracking persistence directory: " + e.getMessage());
         }
 
+        journal = new TrackingJournal(persistencePath);
         loadPersistentState();
         startAutosaveLoop();
-        persistenceDirty = true;
+        // Fold whatever was replayed from the journal into a fresh snapshot.
+        markDirty();
         persistDirtySafely();
     }
 
     public synchronized void shutdownPersistence() {
         flushPersistence();
         releaseAllEventChunkRetention();
-        if (persistenceExecutor != null) {
-            persistenceExecutor.shutdownNow();
-            persistenceExecutor = null;
+        if (autosaveTimer != null) {
+            autosaveTimer.cancel();
+            autosaveTimer = null;
         }
     }
 
     public void flushPersistence() {
+        snapshotRequired = true;
         persistState();
     }
 
+    /**
+     * Writes the current boss tracking snapshot as pretty JSON next to the state file.
+     *
+     * @return the export file, or {@code null} if persistence is not initialized
+     */
+    public Path exportStateJson() throws IOException {
+        Path path = persistencePath;
+        if (path == null) {
+            return null;
+        }
+        flushPersistence();
+        synchronized (persistenceLock) {
+            return StateFiles.exportJson(path, STATE_CODEC, GSON);
+        }
+    }
+
     private synchronized void startAutosaveLoop() {
-        if (persistenceExecutor != null && !persistenceExecutor.isShutdown()) {
+        if (autosaveTimer != null && !autosaveTimer.isCancelled()) {
+            return;
+        }
+        long periodMs = TimeUnit.SECONDS.toMillis(AUTOSAVE_PERIOD_SECONDS);
+        // The clock only triggers; the snapshot or journal write and its fsync run on the state writer thread.
+        autosaveTimer = BossArenaClock.get().scheduleAtFixedRate(this::queueAutosave, periodMs, periodMs);
+    }
+
+    private void queueAutosave() {
+        if (!autosaveQueued.compareAndSet(false, true)) {
             return;
         }
-        persistenceExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "BossArena-TrackingPersistence");
-            t.setDaemon(true);
-            return t;
+        StateWriteExecutor.get().execute(() -> {
+            autosaveQueued.set(false);
+            persistDirtySafely();
         });
-        persistenceExecutor.scheduleAtFixedRate(
-                this::persistDirtySafely,
-                AUTOSAVE_PERIOD_SECONDS,
-                AUTOSAVE_PERIOD_SECONDS,
-                TimeUnit.SECONDS
-        );
     }
 
     private void persistDirtySafely() {
@@ -397,10 +474,50 @@ public class BossTrackingSystem {
         }
     }
 
+    /**
+     * Marks the whole state dirty; the next flush writes a full snapshot.
+     */
     private void markDirty() {
         if (persistencePath == null) {
             return;
         }
+        snapshotRequired = true;
+        persistenceDirty = true;
+    }
+
+    private void markEventDirty(UUID eventId) {
+        if (persistencePath == null || eventId == null) {
+            return;
+        }
+        journalDirtyEvents.add(eventId);
+        persistenceDirty = true;
+    }
+
+    private void markBossDirty(UUID bossUuid) {
+        if (persistencePath == null || bossUuid == null) {
+            return;
+        }
+        journalDirtyBosses.add(bossUuid);
+        persistenceDirty = true;
+    }
+
+    private void markEventAddChanged(UUID eventId, UUID addUuid, boolean joined) {
+        if (persistencePath == null || eventId == null || addUuid == null) {
+            return;
+        }
+        journalAddDeltas.compute(eventId, (ignored, delta) -> {
+            AddDelta out = delta != null ? delta : new AddDelta();
+            out.record(addUuid, joined);
+            return out;
+        });
+        persistenceDirty = true;
+    }
+
+    private void markAddDirty(UUID addUuid) {
+        if (persistencePath == null || addUuid == null) {
+            return;
+        }
+        journalDirtyAdds.add(addUuid);
         persistenceDirty = true;
     }
 
@@ -411,145 +528,302 @@ public class BossTrackingSystem {
         }
 
         synchronized (persistenceLock) {
-            PersistedState snapshot = buildPersistedState();
-            String json = GSON.toJson(snapshot);
-            Path temp = path.resolveSibling(path.getFileName().toString() + ".tmp");
+            TrackingJournal activeJournal = journal;
+            if (activeJournal == null || snapshotRequired || activeJournal.sizeBytes() >= JOURNAL_COMPACT_BYTES) {
+                writeSnapshot(path, activeJournal);
+            } else {
+                appendJournal(activeJournal);
+            }
+        }
+    }
+
+    private void writeSnapshot(Path path, TrackingJournal activeJournal) {
+        // Clear before building so changes made while we serialize are picked up by the next flush.
+        snapshotRequired = false;
+        persistenceDirty = false;
+        journalDirtyEvents.clear();
+        journalDirtyBosses.clear();
+        journalDirtyAdds.clear();
+        journalAddDeltas.clear();
 
+        long generation = journalGeneration + 1L;
+        PersistedState snapshot = buildPersistedState();
+        snapshot.journalGeneration = generation;
+        try {
+            StateFiles.write(path, STATE_CODEC, snapshot);
+            journalGeneration = generation;
+        } catch (IOException e) {
+            snapshotRequired = true;
+            persistenceDirty = true;
+            LOGGER.warning("Failed to persist boss tracking state: " + e.getMessage());
+            return;
+        }
+        if (legacyStateMigrationPending) {
+            legacyStateMigrationPending = false;
+            StateFiles.retireLegacyJson(path);
             try {
-                Files.writeString(temp, json, StandardCharsets.UTF_8);
-                try {
-                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-                } catch (AtomicMoveNotSupportedException ignored) {
-                    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
-                }
-                persistenceDirty = false;
+                new TrackingJournal(StateFiles.legacyJsonPath(path)).delete();
             } catch (IOException e) {
-                LOGGER.warning("Failed to persist boss tracking state: " + e.getMessage());
+                LOGGER.fine("Failed to delete legacy boss tracking journal: " + e.getMessage());
             }
         }
+
+        if (activeJournal == null) {
+            return;
+        }
+        try {
+            activeJournal.truncate();
+        } catch (IOException e) {
+            // Leftover records carry the previous generation and are ignored on replay.
+            LOGGER.warning("Failed to truncate boss tracking journal: " + e.getMessage());
+        }
+    }
+
+    private void appendJournal(TrackingJournal activeJournal) {
+        persistenceDirty = false;
+        List<String> lines = new ArrayList<>();
+        for (Iterator<UUID> it = journalDirtyEvents.iterator(); it.hasNext(); ) {
+            UUID eventId = it.next();
+            it.remove();
+            addJournalLine(lines, buildEventRecord(eventId));
+        }
+        // After the event records, so an event created in this flush exists before its adds are applied.
+        for (Iterator<UUID> it = journalAddDeltas.keySet().iterator(); it.hasNext(); ) {
+            UUID eventId = it.next();
+            addJournalLine(lines, buildAddDeltaRecord(eventId, journalAddDeltas.remove(eventId)));
+        }
+        for (Iterator<UUID> it = journalDirtyBosses.iterator(); it.hasNext(); ) {
+            UUID bossUuid = it.next();
+            it.remove();
+            addJournalLine(lines, buildBossRecord(bossUuid));
+        }
+        for (Iterator<UUID> it = journalDirtyAdds.iterator(); it.hasNext(); ) {
+            UUID addUuid = it.next();
+            it.remove();
+            addJournalLine(lines, buildAddRecord(addUuid));
+        }
+
+        try {
+            activeJournal.append(lines);
+        } catch (IOException e) {
+            // The drained records are gone; fall back to a full snapshot on the next flush.
+            snapshotRequired = true;
+            persistenceDirty = true;
+            LOGGER.warning("Failed to append boss tracking journal: " + e.getMessage());
+        }
+    }
+
+    private static void addJournalLine(List<String> lines, JournalRecord record) {
+        if (record != null) {
+            lines.add(JOURNAL_GSON.toJson(record));
+        }
+    }
+
+    private JournalRecord buildEventRecord(UUID eventId) {
+        EventData event = eventsById.get(eventId);
+        PersistedEvent persisted = event != null ? toPersistedEvent(event, false) : null;
+        if (persisted == null && isEventPendingRestore(eventId)) {
+            // Still waiting for its world; the snapshot copy stays authoritative.
+            return null;
+        }
+        JournalRecord record = new JournalRecord(journalGeneration, JournalRecord.EVENT, eventId);
+        record.event = persisted;
+        return record;
+    }
+
+    private JournalRecord buildAddDeltaRecord(UUID eventId, AddDelta delta) {
+        if (delta == null || delta.isEmpty() || !eventsById.containsKey(eventId)) {
+            // A removed event's record already dropped it; its adds go with it.
+            return null;
+        }
+        JournalRecord record = new JournalRecord(journalGeneration, JournalRecord.EVENT_ADDS, eventId);
+        record.addsJoined = new ArrayList<>(delta.joined.size());
+        record.addsLeft = new ArrayList<>(delta.left.size());
+        for (UUID addUuid : delta.joined) {
+            record.addsJoined.add(addUuid.toString());
+        }
+        for (UUID addUuid : delta.left) {
+            record.addsLeft.add(addUuid.toString());
+        }
+        return record;
+    }
+
+    private JournalRecord buildBossRecord(UUID bossUuid) {
+        BossData data = trackedBosses.get(bossUuid);
+        PersistedBoss persisted = data != null ? toPersistedBoss(bossUuid, data) : null;
+        if (persisted == null && isBossPendingRestore(bossUuid)) {
+            return null;
+        }
+        JournalRecord record = new JournalRecord(journalGeneration, JournalRecord.BOSS, bossUuid);
+        record.boss = persisted;
+        return record;
+    }
+
+    private JournalRecord buildAddRecord(UUID addUuid) {
+        UUID bossUuid = trackedAdds.bossOf(addUuid);
+        PersistedAddLink persisted = bossUuid != null ? toPersistedAddLink(addUuid, bossUuid) : null;
+        if (persisted == null && isAddPendingRestore(addUuid)) {
+            return null;
+        }
+        JournalRecord record = new JournalRecord(journalGeneration, JournalRecord.ADD_LINK, addUuid);
+        record.addLink = persisted;
+        return record;
     }
 
     private PersistedState buildPersistedState() {
         PersistedState state = new PersistedState();
 
         for (EventData event : eventsById.values()) {
-            if (event == null) {
-                continue;
+            PersistedEvent out = toPersistedEvent(event, true);
+            if (out != null) {
+                state.events.add(out);
             }
-            if (event.awaitingPrimaryBossSpawn && event.bossUuids.isEmpty() && event.activeAdds.isEmpty()) {
-                // Deferred pre-boss placeholders are runtime-only; they are recreated by spawn flow.
-                continue;
-            }
-            PersistedEvent out = new PersistedEvent();
-            out.eventId = event.eventId != null ? event.eventId.toString() : "";
-            out.world = resolveEventWorldName(event);
-            out.centerX = event.eventCenter.x;
-            out.centerY = event.eventCenter.y;
-            out.centerZ = event.eventCenter.z;
-            out.bossName = optional(event.bossName);
-            out.bossTier = optional(event.bossTier);
-            out.countdownDurationMs = Math.max(0L, event.countdownDurationMs);
-            out.countdownStartEpochMs = Math.max(0L, event.countdownStartEpochMs);
-            out.awaitingPrimaryBossSpawn = event.awaitingPrimaryBossSpawn;
-            for (UUID bossUuid : event.bossUuids) {
-                if (bossUuid != null) {
-                    out.bossUuids.add(bossUuid.toString());
-                }
-            }
-            for (UUID bossUuid : event.aliveBosses) {
-                if (bossUuid != null) {
-                    out.aliveBosses.add(bossUuid.toString());
-                }
-            }
-            for (UUID addUuid : event.activeAdds) {
-                if (addUuid != null) {
-                    out.activeAdds.add(addUuid.toString());
-                }
-            }
-            state.events.add(out);
         }
 
         for (Map.Entry<UUID, BossData> entry : trackedBosses.entrySet()) {
-            UUID uuid = entry.getKey();
-            BossData data = entry.getValue();
-            if (uuid == null || data == null || data.spawnLocation == null) {
-                continue;
+            PersistedBoss out = toPersistedBoss(entry.getKey(), entry.getValue());
+            if (out != null) {
+                state.bosses.add(out);
             }
+        }
 
-            PersistedBoss out = new PersistedBoss();
-            out.uuid = uuid.toString();
-            UUID eventId = bossToEvent.get(uuid);
-            if (eventId == null) {
-                eventId = data.eventId;
-            }
-            out.eventId = eventId != null ? eventId.toString() : "";
-            out.bossName = optional(data.bossName);
-            out.arenaId = optional(data.arenaId);
-            out.world = data.world != null ? data.world.getName() : "";
-            out.spawnX = data.spawnLocation.x;
-            out.spawnY = data.spawnLocation.y;
-            out.spawnZ = data.spawnLocation.z;
-            out.bossTier = optional(data.bossTier);
-            out.levelOverride = Math.max(0, data.levelOverride);
-            out.spawnedAtEpochMs = Math.max(0L, data.spawnedAtEpochMs);
-
-            BossModifiers mods = data.modifiers;
-            out.hpMultiplier = mods != null ? mods.hpMultiplier() : 1.0f;
-            out.damageMultiplier = mods != null ? mods.damageMultiplier() : 1.0f;
-            out.speedMultiplier = mods != null ? mods.speedMultiplier() : 1.0f;
-            out.scaleMultiplier = mods != null ? mods.scaleMultiplier() : 1.0f;
-            out.attackRateMultiplier = mods != null ? mods.attackRateMultiplier() : 1.0f;
-            out.abilityCooldownMultiplier = mods != null ? mods.abilityCooldownMultiplier() : 1.0f;
-            out.knockbackGivenMultiplier = mods != null ? mods.knockbackGivenMultiplier() : 1.0f;
-            out.knockbackTakenMultiplier = mods != null ? mods.knockbackTakenMultiplier() : 1.0f;
-            out.turnRateMultiplier = mods != null ? mods.turnRateMultiplier() : 1.0f;
-            out.regenMultiplier = mods != null ? mods.regenMultiplier() : 1.0f;
-            state.bosses.add(out);
-        }
-
-        for (Map.Entry<UUID, UUID> entry : addToBoss.entrySet()) {
-            UUID addUuid = entry.getKey();
-            UUID bossUuid = entry.getValue();
-            if (addUuid == null || bossUuid == null) {
-                continue;
+        trackedAdds.forEach((addUuid, bossUuid) -> {
+            PersistedAddLink link = toPersistedAddLink(addUuid, bossUuid);
+            if (link != null) {
+                state.addLinks.add(link);
             }
-            PersistedAddLink link = new PersistedAddLink();
-            link.addUuid = addUuid.toString();
-            link.bossUuid = bossUuid.toString();
-            BossModifiers mods = addModifiers.get(addUuid);
-            link.hpMultiplier = mods != null ? mods.hpMultiplier() : 1.0f;
-            link.damageMultiplier = mods != null ? mods.damageMultiplier() : 1.0f;
-            link.speedMultiplier = mods != null ? mods.speedMultiplier() : 1.0f;
-            link.scaleMultiplier = mods != null ? mods.scaleMultiplier() : 1.0f;
-            link.attackRateMultiplier = mods != null ? mods.attackRateMultiplier() : 1.0f;
-            link.abilityCooldownMultiplier = mods != null ? mods.abilityCooldownMultiplier() : 1.0f;
-            link.knockbackGivenMultiplier = mods != null ? mods.knockbackGivenMultiplier() : 1.0f;
-            link.knockbackTakenMultiplier = mods != null ? mods.knockbackTakenMultiplier() : 1.0f;
-            link.turnRateMultiplier = mods != null ? mods.turnRateMultiplier() : 1.0f;
-            link.regenMultiplier = mods != null ? mods.regenMultiplier() : 1.0f;
-            state.addLinks.add(link);
-        }
+        });
 
         mergePersistedState(state, pendingRestoreState);
         return state;
     }
 
+    /**
+     * @param includeAdds whether to write the event's add list; journal records leave it {@code null} and carry
+     *                    add changes as separate deltas
+     */
+    private PersistedEvent toPersistedEvent(EventData event, boolean includeAdds) {
+        if (event == null) {
+            return null;
+        }
+        if (event.awaitingPrimaryBossSpawn && event.bossUuids.isEmpty() && event.activeAdds.isEmpty()) {
+            // Deferred pre-boss placeholders are runtime-only; they are recreated by spawn flow.
+            return null;
+        }
+        PersistedEvent out = new PersistedEvent();
+        out.eventId = event.eventId != null ? event.eventId.toString() : "";
+        out.world = resolveEventWorldName(event);
+        out.centerX = event.eventCenter.x;
+        out.centerY = event.eventCenter.y;
+        out.centerZ = event.eventCenter.z;
+        out.bossName = optional(event.bossName);
+        out.bossTier = optional(event.bossTier);
+        out.countdownDurationMs = Math.max(0L, event.countdownDurationMs);
+        out.countdownStartEpochMs = Math.max(0L, event.countdownStartEpochMs);
+        out.awaitingPrimaryBossSpawn = event.awaitingPrimaryBossSpawn;
+        for (UUID bossUuid : event.bossUuids) {
+            if (bossUuid != null) {
+                out.bossUuids.add(bossUuid.toString());
+            }
+        }
+        for (UUID bossUuid : event.aliveBosses) {
+            if (bossUuid != null) {
+                out.aliveBosses.add(bossUuid.toString());
+            }
+        }
+        if (!includeAdds) {
+            out.activeAdds = null;
+            return out;
+        }
+        for (UUID addUuid : event.activeAdds) {
+            if (addUuid != null) {
+                out.activeAdds.add(addUuid.toString());
+            }
+        }
+        return out;
+    }
+
+    private PersistedBoss toPersistedBoss(UUID uuid, BossData data) {
+        if (uuid == null || data == null || data.spawnLocation == null) {
+            return null;
+        }
+
+        PersistedBoss out = new PersistedBoss();
+        out.uuid = uuid.toString();
+        UUID eventId = bossToEvent.get(uuid);
+        if (eventId == null) {
+            eventId = data.eventId;
+        }
+        out.eventId = eventId != null ? eventId.toString() : "";
+        out.bossName = optional(data.bossName);
+        out.arenaId = optional(data.arenaId);
+        out.world = data.world != null ? data.world.getName() : "";
+        out.spawnX = data.spawnLocation.x;
+        out.spawnY = data.spawnLocation.y;
+        out.spawnZ = data.spawnLocation.z;
+        out.bossTier = optional(data.bossTier);
+        out.levelOverride = Math.max(0, data.levelOverride);
+        out.spawnedAtEpochMs = Math.max(0L, data.spawnedAtEpochMs);
+
+        BossModifiers mods = data.modifiers;
+        out.hpMultiplier = mods != null ? mods.hpMultiplier() : 1.0f;
+        out.damageMultiplier = mods != null ? mods.damageMultiplier() : 1.0f;
+        out.speedMultiplier = mods != null ? mods.speedMultiplier() : 1.0f;
+        out.scaleMultiplier = mods != null ? mods.scaleMultiplier() : 1.0f;
+        out.attackRateMultiplier = mods != null ? mods.attackRateMultiplier() : 1.0f;
+        out.abilityCooldownMultiplier = mods != null ? mods.abilityCooldownMultiplier() : 1.0f;
+        out.knockbackGivenMultiplier = mods != null ? mods.knockbackGivenMultiplier() : 1.0f;
+        out.knockbackTakenMultiplier = mods != null ? mods.knockbackTakenMultiplier() : 1.0f;
+        out.turnRateMultiplier = mods != null ? mods.turnRateMultiplier() : 1.0f;
+        out.regenMultiplier = mods != null ? mods.regenMultiplier() : 1.0f;
+        return out;
+    }
+
+    private PersistedAddLink toPersistedAddLink(UUID addUuid, UUID bossUuid) {
+        if (addUuid == null || bossUuid == null) {
+            return null;
+        }
+        PersistedAddLink link = new PersistedAddLink();
+        link.addUuid = addUuid.toString();
+        link.bossUuid = bossUuid.toString();
+        BossModifiers mods = trackedAdds.modifiersOf(addUuid);
+        link.hpMultiplier = mods != null ? mods.hpMultiplier() : 1.0f;
+        link.damageMultiplier = mods != null ? mods.damageMultiplier() : 1.0f;
+        link.speedMultiplier = mods != null ? mods.speedMultiplier() : 1.0f;
+        link.scaleMultiplier = mods != null ? mods.scaleMultiplier() : 1.0f;
+        link.attackRateMultiplier = mods != null ? mods.attackRateMultiplier() : 1.0f;
+        link.abilityCooldownMultiplier = mods != null ? mods.abilityCooldownMultiplier() : 1.0f;
+        link.knockbackGivenMultiplier = mods != null ? mods.knockbackGivenMultiplier() : 1.0f;
+        link.knockbackTakenMultiplier = mods != null ? mods.knockbackTakenMultiplier() : 1.0f;
+        link.turnRateMultiplier = mods != null ? mods.turnRateMultiplier() : 1.0f;
+        link.regenMultiplier = mods != null ? mods.regenMultiplier() : 1.0f;
+        return link;
+    }
+
     private void loadPersistentState() {
         Path path = persistencePath;
-        if (path == null || Files.notExists(path)) {
+        if (path == null) {
             return;
         }
 
         synchronized (persistenceLock) {
             try {
-                String raw = Files.readString(path, StandardCharsets.UTF_8);
-                PersistedState state = GSON.fromJson(raw, PersistedState.class);
+                StateFiles.Loaded<PersistedState> loaded = StateFiles.read(path, STATE_CODEC, GSON, PersistedState.class);
+                if (loaded == null) {
+                    return;
+                }
+                legacyStateMigrationPending = loaded.legacyJson();
+                PersistedState state = loaded.state();
                 if (state == null || state.version != PERSISTENCE_VERSION) {
                     LOGGER.info("Boss tracking state missing or incompatible; starting fresh.");
                     clearRuntimeState();
                     pendingRestoreState = null;
                     return;
                 }
+                journalGeneration = state.journalGeneration;
+                replayJournal(state, legacyStateMigrationPending
+                        ? new TrackingJournal(StateFiles.legacyJsonPath(path))
+                        : journal);
                 pendingRestoreState = state;
                 retryPendingRestore();
             } catch (Exception e) {
@@ -560,14 +834,117 @@ public class BossTrackingSystem {
         }
     }
 
+    /**
+     * Applies journal records written since {@code state}'s snapshot, in order, on top of it.
+     */
+    private void replayJournal(PersistedState state, TrackingJournal activeJournal) {
+        if (activeJournal == null) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = activeJournal.readLines();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read boss tracking journal: " + e.getMessage());
+            return;
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        Map<String, PersistedEvent> events = new LinkedHashMap<>();
+        for (PersistedEvent event : safeList(state.events)) {
+            events.put(normalizeKey(event.eventId), event);
+        }
+        Map<String, PersistedBoss> bosses = new LinkedHashMap<>();
+        for (PersistedBoss boss : safeList(state.bosses)) {
+            bosses.put(normalizeKey(boss.uuid), boss);
+        }
+        Map<String, PersistedAddLink> addLinks = new LinkedHashMap<>();
+        for (PersistedAddLink add : safeList(state.addLinks)) {
+            addLinks.put(normalizeKey(add.addUuid), add);
+        }
+
+        int applied = 0;
+        for (String line : lines) {
+            JournalRecord record;
+            try {
+                record = JOURNAL_GSON.fromJson(line, JournalRecord.class);
+            } catch (Exception e) {
+                LOGGER.fine("Skipping unreadable boss tracking journal record: " + e.getMessage());
+                continue;
+            }
+            if (record == null || record.id == null || record.type == null
+                    || record.generation != state.journalGeneration) {
+                continue;
+            }
+            String key = normalizeKey(record.id);
+            switch (record.type) {
+                case JournalRecord.EVENT -> {
+                    if (record.event == null) {
+                        events.remove(key);
+                    } else {
+                        if (record.event.activeAdds == null) {
+                            // Adds travel as deltas; keep the list built up so far.
+                            PersistedEvent previous = events.get(key);
+                            record.event.activeAdds = previous != null && previous.activeAdds != null
+                                    ? previous.activeAdds
+                                    : new ArrayList<>();
+                        }
+                        events.put(key, record.event);
+                    }
+                }
+                case JournalRecord.EVENT_ADDS -> {
+                    PersistedEvent event = events.get(key);
+                    if (event == null) {
+                        continue;
+                    }
+                    Set<String> adds = new LinkedHashSet<>(safeList(event.activeAdds));
+                    adds.removeAll(safeList(record.addsLeft));
+                    adds.addAll(safeList(record.addsJoined));
+                    event.activeAdds = new ArrayList<>(adds);
+                }
+                case JournalRecord.BOSS -> {
+                    if (record.boss != null) bosses.put(key, record.boss); else bosses.remove(key);
+                }
+                case JournalRecord.ADD_LINK -> {
+                    if (record.addLink != null) addLinks.put(key, record.addLink); else addLinks.remove(key);
+                }
+                default -> {
+                    continue;
+                }
+            }
+            applied++;
+        }
+
+        state.events = new ArrayList<>(events.values());
+        state.bosses = new ArrayList<>(bosses.values());
+        state.addLinks = new ArrayList<>(addLinks.values());
+        if (applied > 0) {
+            LOGGER.info("Replayed " + applied + " boss tracking journal record(s).");
+        }
+    }
+
     public void clearRuntimeState() {
+        // Removals below are not journaled individually; rewrite the snapshot on the next flush.
+        snapshotRequired = true;
         releaseAllEventChunkRetention();
+        for (UUID bossUuid : trackedBosses.keySet()) {
+            BossArenaTracked.detach(bossUuid);
+            notifyBossUntracked(bossUuid);
+        }
+        for (UUID addUuid : trackedAdds.adds()) {
+            BossArenaTracked.detach(addUuid);
+        }
         trackedBosses.clear();
-        trackedAddsByBoss.clear();
-        addToBoss.clear();
-        addModifiers.clear();
+        trackedAdds.clear();
+        DamageLedger.clear();
         bossToEvent.clear();
+        for (UUID eventId : eventsById.keySet()) {
+            BossArenaClock.get().cancelEvent(eventId);
+        }
         eventsById.clear();
+        worldIndex.clear();
     }
 
     private void refreshEventChunkRetention() {
@@ -635,6 +1012,25 @@ public class BossTrackingSystem {
         return isEventPendingRestore(eventId);
     }
 
+    private boolean isBossPendingRestore(UUID bossUuid) {
+        PersistedState pending = pendingRestoreState;
+        return pending != null && findPersistedBoss(pending, bossUuid.toString()) != null;
+    }
+
+    private boolean isAddPendingRestore(UUID addUuid) {
+        PersistedState pending = pendingRestoreState;
+        if (pending == null) {
+            return false;
+        }
+        String target = addUuid.toString();
+        for (PersistedAddLink add : safeList(pending.addLinks)) {
+            if (add != null && target.equals(add.addUuid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isEventPendingRestore(UUID eventId) {
         if (eventId == null) {
             return false;
@@ -694,6 +1090,7 @@ public class BossTrackingSystem {
                         persisted.awaitingPrimaryBossSpawn
                 );
                 eventsById.put(eventId, event);
+                worldIndex.putEvent(world, eventId);
             }
         }
 
@@ -743,7 +1140,7 @@ public class BossTrackingSystem {
                 continue;
             }
 
-            if (addToBoss.containsKey(addUuid)) continue;
+            if (trackedAdds.contains(addUuid)) continue;
 
             if (isEntityAlive(world, addUuid)) {
                 retrackAdd(world, persistedLink, addUuid, bossUuid);
@@ -808,26 +1205,37 @@ public class BossTrackingSystem {
         );
         trackedBosses.put(bossUuid, data);
         bossToEvent.put(bossUuid, eventId);
+        worldIndex.putBoss(world, bossUuid);
+        BossArenaTracked.attach(world, bossUuid,
+                new BossArenaTracked(mods, eventId, BossArenaTracked.Role.BOSS, DamageLedger.open(bossUuid)),
+                stillTracked);
+        notifyBossTracked(bossUuid, data);
         EventData event = eventsById.get(eventId);
         if (event != null) {
             event.bossUuids.add(bossUuid);
-            event.aliveBosses.add(bossUuid);
-            if (event.world == null) event.world = world;
+            event.addAliveBoss(bossUuid);
+            event.noteArenaId(data.arenaId);
+            if (event.adoptWorld(world)) {
+                worldIndex.putEvent(world, eventId);
+            }
         }
     }
 
     private void retrackAdd(World world, PersistedAddLink persisted, UUID addUuid, UUID bossUuid) {
-        addToBoss.put(addUuid, bossUuid);
-        trackedAddsByBoss.computeIfAbsent(bossUuid, k -> ConcurrentHashMap.newKeySet()).add(addUuid);
-        addModifiers.put(addUuid, new BossModifiers(
+        BossModifiers mods = new BossModifiers(
                 persisted.hpMultiplier, persisted.damageMultiplier, persisted.speedMultiplier,
                 persisted.scaleMultiplier, persisted.attackRateMultiplier, persisted.abilityCooldownMultiplier,
                 persisted.knockbackGivenMultiplier, persisted.knockbackTakenMultiplier, persisted.turnRateMultiplier,
                 persisted.regenMultiplier
-        ));
+        );
+        trackedAdds.put(addUuid, bossUuid, mods);
+        worldIndex.putAdd(world, addUuid);
+        BossArenaTracked.attach(world, addUuid,
+                new BossArenaTracked(mods, bossToEvent.get(bossUuid), BossArenaTracked.Role.ADD), stillTracked);
         EventData event = getEventForBoss(bossUuid);
         if (event != null) {
-            event.activeAdds.add(addUuid);
+            event.addActiveAdd(addUuid);
+            markEventAddChanged(event.eventId, addUuid, true);
         }
     }
 
@@ -903,7 +1311,8 @@ public class BossTrackingSystem {
                 System.currentTimeMillis(),
                 awaitingPrimaryBossSpawn
         ));
-        markDirty();
+        worldIndex.putEvent(world, eventId);
+        markEventDirty(eventId);
         refreshEventChunkRetention();
         return eventId;
     }
@@ -940,31 +1349,36 @@ public class BossTrackingSystem {
         }
 
         Vector3d spawnCopy = new Vector3d(spawnPos.x, spawnPos.y, spawnPos.z);
-        trackedBosses.put(
-                uuid,
-                new BossData(
-                        bossName,
-                        sanitizeModifiers(mods),
-                        arenaId,
-                        world,
-                        spawnCopy,
-                        bossTier,
-                        Math.max(0, levelOverride),
-                        eventId,
-                        System.currentTimeMillis()
-                )
+        BossModifiers sanitizedMods = sanitizeModifiers(mods);
+        BossData data = new BossData(
+                bossName,
+                sanitizedMods,
+                arenaId,
+                world,
+                spawnCopy,
+                bossTier,
+                Math.max(0, levelOverride),
+                eventId,
+                System.currentTimeMillis()
         );
+        trackedBosses.put(uuid, data);
         bossToEvent.put(uuid, eventId);
+        worldIndex.putBoss(world, uuid);
+        BossArenaTracked.attach(world, uuid,
+                new BossArenaTracked(sanitizedMods, eventId, BossArenaTracked.Role.BOSS, DamageLedger.open(uuid)),
+                stillTracked);
+        notifyBossTracked(uuid, data);
 
         Vector3d center = eventCenter != null ? eventCenter : spawnPos;
         EventData event = eventsById.computeIfAbsent(eventId, ignored -> new EventData(eventId, world, center, bossName, bossTier, 0L));
-        if (event.world == null && world != null) {
-            event.world = world;
-        }
+        event.adoptWorld(world);
+        worldIndex.putEvent(event.world, eventId);
         event.awaitingPrimaryBossSpawn = false;
         event.bossUuids.add(uuid);
-        event.aliveBosses.add(uuid);
-        markDirty();
+        event.addAliveBoss(uuid);
+        event.noteArenaId(arenaId);
+        markBossDirty(uuid);
+        markEventDirty(eventId);
         refreshEventChunkRetention();
     }
 
@@ -981,29 +1395,33 @@ public class BossTrackingSystem {
             return;
         }
 
-        trackedAddsByBoss
-                .computeIfAbsent(bossUuid, ignored -> ConcurrentHashMap.newKeySet())
-                .add(addUuid);
-        addToBoss.put(addUuid, bossUuid);
-        addModifiers.put(addUuid, sanitizeModifiers(modifiers));
+        BossModifiers sanitizedMods = sanitizeModifiers(modifiers);
+        trackedAdds.put(addUuid, bossUuid, sanitizedMods);
 
         EventData event = getEventForBoss(bossUuid);
+        BossData ownerBoss = trackedBosses.get(bossUuid);
+        World addWorld = ownerBoss != null && ownerBoss.world != null ? ownerBoss.world : resolveEventWorld(event);
+        worldIndex.putAdd(addWorld, addUuid);
+        BossArenaTracked.attach(addWorld, addUuid,
+                new BossArenaTracked(sanitizedMods, event != null ? event.eventId : null, BossArenaTracked.Role.ADD),
+                stillTracked);
         if (event != null) {
-            event.activeAdds.add(addUuid);
+            event.addActiveAdd(addUuid);
+            markEventAddChanged(event.eventId, addUuid, true);
         }
-        markDirty();
+        markAddDirty(addUuid);
         refreshEventChunkRetention();
     }
 
     public boolean isTrackedAdd(UUID addUuid) {
-        return addUuid != null && addToBoss.containsKey(addUuid);
+        return addUuid != null && trackedAdds.contains(addUuid);
     }
 
     public UUID getBossUuidForAdd(UUID addUuid) {
         if (addUuid == null) {
             return null;
         }
-        return addToBoss.get(addUuid);
+        return trackedAdds.bossOf(addUuid);
     }
 
     public BossModifiers getEntityModifiers(UUID uuid) {
@@ -1014,15 +1432,14 @@ public class BossTrackingSystem {
         if (bossData != null) {
             return bossData.modifiers;
         }
-        return addModifiers.get(uuid);
+        return trackedAdds.modifiersOf(uuid);
     }
 
     public int getActiveAddCount(UUID bossUuid) {
         if (bossUuid == null) {
             return 0;
         }
-        Set<UUID> adds = trackedAddsByBoss.get(bossUuid);
-        return adds == null ? 0 : adds.size();
+        return trackedAdds.countForBoss(bossUuid);
     }
 
     public int getAliveBossCount(UUID bossUuid) {
@@ -1030,7 +1447,7 @@ public class BossTrackingSystem {
         if (event == null) {
             return isTracked(bossUuid) ? 1 : 0;
         }
-        return event.aliveBosses.size();
+        return event.aliveBossCount.get();
     }
 
     public int getActiveAddCountForEvent(UUID bossUuid) {
@@ -1038,7 +1455,12 @@ public class BossTrackingSystem {
         if (event == null) {
             return getActiveAddCount(bossUuid);
         }
-        return event.activeAdds.size();
+        return event.activeAddCount.get();
+    }
+
+    /** Tracked adds currently in {@code world}, across all events. */
+    public int getActiveAddCountForWorld(World world) {
+        return worldIndex.addCount(world);
     }
 
     public long getRemainingCountdownMillis(UUID bossUuid) {
@@ -1049,36 +1471,109 @@ public class BossTrackingSystem {
     public List<ActiveEventStatus> snapshotActiveEvents() {
         List<ActiveEventStatus> out = new ArrayList<>();
         for (EventData event : eventsById.values()) {
-            if (event == null) {
-                continue;
+            ActiveEventStatus status = toActiveEventStatus(event);
+            if (status != null) {
+                out.add(status);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Active events whose world is {@code world}; for per-world ticks that must not touch other worlds' state.
+     */
+    public List<ActiveEventStatus> snapshotActiveEvents(World world) {
+        List<ActiveEventStatus> out = new ArrayList<>();
+        for (UUID eventId : worldIndex.events(world)) {
+            ActiveEventStatus status = toActiveEventStatus(eventsById.get(eventId));
+            if (status != null) {
+                out.add(status);
             }
-            int alive = event.aliveBosses.size();
-            int adds = event.activeAdds.size();
-            if (!isEventInProgress(event)) {
+        }
+        return out;
+    }
+
+    private ActiveEventStatus toActiveEventStatus(EventData event) {
+        if (event == null || !isEventInProgress(event)) {
+            return null;
+        }
+        World resolvedWorld = resolveEventWorld(event);
+        return new ActiveEventStatus(
+                resolvedWorld,
+                event.eventCenter,
+                event.bossName,
+                event.bossTier,
+                event.aliveBossCount.get(),
+                event.activeAddCount.get(),
+                getRemainingCountdownMillis(event),
+                event.awaitingPrimaryBossSpawn,
+                event.arenaId,
+                BossArenaClock.get().getPendingTimerCount(event.eventId)
+        );
+    }
+
+    /**
+     * Visits the tracked bosses in {@code world} directly over the live maps, without copying them. Iteration is
+     * weakly consistent: the visitor may untrack entries, and concurrent changes may or may not be seen.
+     */
+    public void forEachTrackedBoss(World world, BiConsumer<UUID, BossData> visitor) {
+        for (UUID bossUuid : worldIndex.bosses(world)) {
+            BossData data = trackedBosses.get(bossUuid);
+            if (data != null) {
+                visitor.accept(bossUuid, data);
+            }
+        }
+    }
+
+    /**
+     * Visits {@code (addUuid, bossUuid)} for the tracked adds in {@code world}; same consistency as
+     * {@link #forEachTrackedBoss}.
+     */
+    public void forEachTrackedAdd(World world, BiConsumer<UUID, UUID> visitor) {
+        for (UUID addUuid : worldIndex.adds(world)) {
+            UUID bossUuid = trackedAdds.bossOf(addUuid);
+            if (bossUuid != null) {
+                visitor.accept(addUuid, bossUuid);
+            }
+        }
+    }
+
+    /**
+     * Visits the in-progress events in {@code world}. The view is reused for every event on the calling thread and
+     * is only valid inside the callback; use {@link #snapshotActiveEvents(World)} to keep statuses.
+     */
+    public void forEachActiveEvent(World world, Consumer<ActiveEventView> visitor) {
+        ActiveEventView view = eventViews.get();
+        for (UUID eventId : worldIndex.events(world)) {
+            EventData event = eventsById.get(eventId);
+            if (event == null || !isEventInProgress(event)) {
                 continue;
             }
-            String arenaId = null;
-            for (UUID bossUuid : event.bossUuids) {
-                BossData b = trackedBosses.get(bossUuid);
-                if (b != null && b.arenaId != null && !b.arenaId.isBlank()) {
-                    arenaId = b.arenaId;
-                    break;
-                }
+            view.world = resolveEventWorld(event);
+            view.eventCenter = event.eventCenter;
+            view.bossName = event.bossName;
+            view.bossTier = event.bossTier;
+            view.aliveBossCount = event.aliveBossCount.get();
+            view.activeAddCount = event.activeAddCount.get();
+            view.remainingCountdownMillis = getRemainingCountdownMillis(event);
+            view.awaitingPrimaryBossSpawn = event.awaitingPrimaryBossSpawn;
+            view.arenaId = event.arenaId;
+            try {
+                visitor.accept(view);
+            } finally {
+                view.world = null;
+                view.eventCenter = null;
             }
-            World resolvedWorld = resolveEventWorld(event);
-            out.add(new ActiveEventStatus(
-                    resolvedWorld,
-                    event.eventCenter,
-                    event.bossName,
-                    event.bossTier,
-                    alive,
-                    adds,
-                    getRemainingCountdownMillis(event),
-                    event.awaitingPrimaryBossSpawn,
-                    arenaId
-            ));
         }
-        return out;
+    }
+
+    public void forEachAddForBoss(UUID bossUuid, Consumer<UUID> visitor) {
+        if (bossUuid == null) {
+            return;
+        }
+        for (UUID addUuid : trackedAdds.addsOf(bossUuid)) {
+            visitor.accept(addUuid);
+        }
     }
 
     public boolean hasAnyEventInProgress() {
@@ -1090,23 +1585,70 @@ public class BossTrackingSystem {
         return false;
     }
 
+    /** In-progress events across all worlds, including ones still running their pre-boss waves. */
+    public int countEventsInProgress() {
+        int count = 0;
+        for (EventData event : eventsById.values()) {
+            if (isEventInProgress(event)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Whether {@code world} has any tracked event, in progress or not. Cheap enough to call every tick. */
+    public boolean hasEvents(World world) {
+        return !worldIndex.events(world).isEmpty();
+    }
+
+    public int countEventsInProgress(World world) {
+        int count = 0;
+        for (UUID eventId : worldIndex.events(world)) {
+            if (isEventInProgress(eventsById.get(eventId))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public Map<UUID, BossData> snapshotTrackedBosses() {
         return new HashMap<>(trackedBosses);
     }
 
+    public Map<UUID, BossData> snapshotTrackedBosses(World world) {
+        Map<UUID, BossData> out = new HashMap<>();
+        for (UUID bossUuid : worldIndex.bosses(world)) {
+            BossData data = trackedBosses.get(bossUuid);
+            if (data != null) {
+                out.put(bossUuid, data);
+            }
+        }
+        return out;
+    }
+
     public Map<UUID, UUID> snapshotTrackedAdds() {
-        return new HashMap<>(addToBoss);
+        Map<UUID, UUID> out = new HashMap<>();
+        trackedAdds.forEach(out::put);
+        return out;
+    }
+
+    public Map<UUID, UUID> snapshotTrackedAdds(World world) {
+        Map<UUID, UUID> out = new HashMap<>();
+        for (UUID addUuid : worldIndex.adds(world)) {
+            UUID bossUuid = trackedAdds.bossOf(addUuid);
+            if (bossUuid != null) {
+                out.put(addUuid, bossUuid);
+            }
+        }
+        return out;
     }
 
     public Set<UUID> snapshotAddsForBoss(UUID bossUuid) {
         if (bossUuid == null) {
             return Set.of();
         }
-        Set<UUID> adds = trackedAddsByBoss.get(bossUuid);
-        if (adds == null || adds.isEmpty()) {
-            return Set.of();
-        }
-        return Set.copyOf(adds);
+        Set<UUID> adds = trackedAdds.addsOf(bossUuid);
+        return adds.isEmpty() ? Set.of() : Set.copyOf(adds);
     }
 
     public String getBossName(UUID uuid) {
@@ -1136,20 +1678,27 @@ public class BossTrackingSystem {
         }
 
         trackedBosses.remove(uuid);
+        worldIndex.removeBoss(uuid);
+        BossArenaTracked.detach(uuid);
+        // Untracked without a kill: no loot will read this boss's damage.
+        DamageLedger.release(uuid);
+        notifyBossUntracked(uuid);
 
         UUID eventId = bossToEvent.remove(uuid);
         EventData event = eventId != null ? eventsById.get(eventId) : null;
         clearBossAddMappings(uuid, event);
 
         if (event != null) {
-            event.aliveBosses.remove(uuid);
+            event.removeAliveBoss(uuid);
             event.bossUuids.remove(uuid);
-            if (event.bossUuids.isEmpty() && event.activeAdds.isEmpty()) {
+            if (event.bossUuids.isEmpty() && event.activeAddCount.get() == 0) {
                 eventsById.remove(eventId);
+                worldIndex.removeEvent(eventId);
             }
         }
 
-        markDirty();
+        markBossDirty(uuid);
+        markEventDirty(eventId);
         refreshEventChunkRetention();
     }
 
@@ -1162,23 +1711,31 @@ public class BossTrackingSystem {
         if (data == null) {
             return null;
         }
+        worldIndex.removeBoss(bossUuid);
+        BossArenaTracked.detach(bossUuid);
+        notifyBossUntracked(bossUuid);
 
         UUID eventId = bossToEvent.get(bossUuid);
         EventData event = eventId != null ? eventsById.get(eventId) : null;
+        markBossDirty(bossUuid);
         if (event == null) {
             clearBossAddMappings(bossUuid, null);
             bossToEvent.remove(bossUuid);
-            markDirty();
             refreshEventChunkRetention();
-            return new PendingLootData(data.world, data.spawnLocation, data.bossName);
+            return new PendingLootData(data.world, data.spawnLocation, null, data.bossName, Set.of(bossUuid));
         }
 
-        event.aliveBosses.remove(bossUuid);
+        event.removeAliveBoss(bossUuid);
+        if (event.aliveBossCount.get() == 0) {
+            // Waves only run while a boss is alive; drop the rest instead of letting them wake up and abort.
+            cancelEventTimers(eventId);
+        }
         PendingLootData pending = tryCompleteEvent(eventId);
         if (pending != null && pending.world == null && data.world != null) {
-            pending = new PendingLootData(data.world, pending.spawnLocation, pending.bossName);
+            pending = new PendingLootData(data.world, pending.spawnLocation, pending.eventCenter, pending.bossName,
+                    pending.bossUuids);
         }
-        markDirty();
+        markEventDirty(eventId);
         refreshEventChunkRetention();
         return pending;
     }
@@ -1188,31 +1745,25 @@ public class BossTrackingSystem {
             return null;
         }
 
-        UUID bossUuid = addToBoss.remove(addUuid);
+        UUID bossUuid = trackedAdds.remove(addUuid);
         if (bossUuid == null) {
             return null;
         }
-        addModifiers.remove(addUuid);
-
-        Set<UUID> adds = trackedAddsByBoss.get(bossUuid);
-        if (adds != null) {
-            adds.remove(addUuid);
-            if (adds.isEmpty()) {
-                trackedAddsByBoss.remove(bossUuid);
-            }
-        }
+        worldIndex.removeAdd(addUuid);
+        BossArenaTracked.detach(addUuid);
+        markAddDirty(addUuid);
 
         UUID eventId = bossToEvent.get(bossUuid);
         EventData event = eventId != null ? eventsById.get(eventId) : null;
         if (event != null) {
-            event.activeAdds.remove(addUuid);
+            event.removeActiveAdd(addUuid);
+            markEventAddChanged(eventId, addUuid, false);
+            // A completed event is journaled as removed by tryCompleteEvent.
             PendingLootData pending = tryCompleteEvent(eventId);
-            markDirty();
             refreshEventChunkRetention();
             return pending;
         }
 
-        markDirty();
         refreshEventChunkRetention();
         return null;
     }
@@ -1231,7 +1782,7 @@ public class BossTrackingSystem {
             return null;
         }
 
-        if (!event.aliveBosses.isEmpty() || !event.activeAdds.isEmpty()) {
+        if (event.aliveBossCount.get() > 0 || event.activeAddCount.get() > 0) {
             return null;
         }
 
@@ -1258,27 +1809,31 @@ public class BossTrackingSystem {
         }
 
         eventsById.remove(eventId);
+        worldIndex.removeEvent(eventId);
+        cancelEventTimers(eventId);
 
+        markEventDirty(eventId);
         for (UUID bossUuid : event.bossUuids) {
             bossToEvent.remove(bossUuid);
             trackedBosses.remove(bossUuid);
+            worldIndex.removeBoss(bossUuid);
+            BossArenaTracked.detach(bossUuid);
+            notifyBossUntracked(bossUuid);
             clearBossAddMappings(bossUuid, event);
+            markBossDirty(bossUuid);
         }
 
         return new PendingLootData(lootWorld, lootLocation, event.eventCenter, lootBossName, event.bossUuids);
     }
 
     private void clearBossAddMappings(UUID bossUuid, EventData event) {
-        Set<UUID> adds = trackedAddsByBoss.remove(bossUuid);
-        if (adds == null || adds.isEmpty()) {
-            return;
-        }
-
-        for (UUID addUuid : adds) {
-            addToBoss.remove(addUuid);
-            addModifiers.remove(addUuid);
+        for (UUID addUuid : trackedAdds.removeBoss(bossUuid)) {
+            worldIndex.removeAdd(addUuid);
+            BossArenaTracked.detach(addUuid);
+            markAddDirty(addUuid);
             if (event != null) {
-                event.activeAdds.remove(addUuid);
+                event.removeActiveAdd(addUuid);
+                markEventAddChanged(event.eventId, addUuid, false);
             }
         }
     }
@@ -1308,22 +1863,40 @@ public class BossTrackingSystem {
             return;
         }
         event.awaitingPrimaryBossSpawn = false;
-        markDirty();
+        markEventDirty(eventId);
         refreshEventChunkRetention();
     }
 
+    public UUID getEventIdForBoss(UUID bossUuid) {
+        return bossUuid != null ? bossToEvent.get(bossUuid) : null;
+    }
+
+    public int getPendingTimerCount(UUID eventId) {
+        return BossArenaClock.get().getPendingTimerCount(eventId);
+    }
+
+    private void cancelEventTimers(UUID eventId) {
+        int cancelled = BossArenaClock.get().cancelEvent(eventId);
+        if (cancelled > 0) {
+            LOGGER.info("Cancelled " + cancelled + " pending timer(s) for event " + eventId + ".");
+        }
+    }
+
     public void cancelEvent(UUID eventId) {
         if (eventId == null) {
             return;
         }
+        cancelEventTimers(eventId);
         EventData removed = eventsById.remove(eventId);
         if (removed == null) {
             return;
         }
+        worldIndex.removeEvent(eventId);
         for (UUID bossUuid : new ArrayList<>(removed.bossUuids)) {
             bossToEvent.remove(bossUuid);
+            markBossDirty(bossUuid);
         }
-        markDirty();
+        markEventDirty(eventId);
         refreshEventChunkRetention();
     }
 
@@ -1331,8 +1904,9 @@ public class BossTrackingSystem {
         if (event == null || event.countdownDurationMs <= 0L) {
             return -1L;
         }
-        long elapsed = System.currentTimeMillis() - event.countdownStartEpochMs;
-        return Math.max(0L, event.countdownDurationMs - Math.max(0L, elapsed));
+        // Clamp to the duration so a start stamp in the future (clock skew) never extends the countdown.
+        long remaining = event.countdownDeadlineEpochMs - System.currentTimeMillis();
+        return Math.max(0L, Math.min(event.countdownDurationMs, remaining));
     }
 
     private World resolveEventWorld(EventData event) {
@@ -1344,12 +1918,13 @@ public class BossTrackingSystem {
         }
         for (UUID bossUuid : event.bossUuids) {
             BossData data = trackedBosses.get(bossUuid);
-            if (data != null && data.world != null) {
-                event.world = data.world;
+            if (data != null && event.adoptWorld(data.world)) {
+                worldIndex.putEvent(data.world, event.eventId);
                 return data.world;
             }
         }
-        return null;
+        // Another thread may have filled it in meanwhile.
+        return event.world;
     }
 
     public BossData getBossData(UUID uuid) {
@@ -1430,6 +2005,16 @@ public class BossTrackingSystem {
         boolean handleMissingAdd(PersistedAddLink add);
     }
 
+    /**
+     * Notified whenever a boss enters or leaves tracking, on the thread that changed it. Implementations should
+     * only record the change and do entity work on their own world tick.
+     */
+    public interface TrackedBossListener {
+        void onBossTracked(UUID bossUuid, BossData data);
+
+        void onBossUntracked(UUID bossUuid);
+    }
+
     public static class BossData {
         public String bossName;
         public BossModifiers modifiers;
@@ -1517,6 +2102,8 @@ public class BossTrackingSystem {
         public final boolean awaitingPrimaryBossSpawn;
         /** Arena id for this event (may be null); used to resolve per-arena notification radius. */
         public final String arenaId;
+        /** Wave/spawn timers still queued on the shared clock for this event. */
+        public final int pendingTimerCount;
 
         public ActiveEventStatus(World world,
                                  Vector3d eventCenter,
@@ -1526,7 +2113,8 @@ public class BossTrackingSystem {
                                  int activeAddCount,
                                  long remainingCountdownMillis,
                                  boolean awaitingPrimaryBossSpawn,
-                                 String arenaId) {
+                                 String arenaId,
+                                 int pendingTimerCount) {
             this.world = world;
             this.eventCenter = eventCenter == null ? null : new Vector3d(eventCenter.x, eventCenter.y, eventCenter.z);
             this.bossName = bossName;
@@ -1536,6 +2124,62 @@ public class BossTrackingSystem {
             this.remainingCountdownMillis = remainingCountdownMillis;
             this.awaitingPrimaryBossSpawn = awaitingPrimaryBossSpawn;
             this.arenaId = arenaId;
+            this.pendingTimerCount = pendingTimerCount;
+        }
+    }
+
+    /**
+     * Reusable, per-thread status of one active event, handed out by {@link #forEachActiveEvent}. Do not keep a
+     * reference past the callback and do not mutate the returned center.
+     */
+    public static final class ActiveEventView {
+        private World world;
+        private Vector3d eventCenter;
+        private String bossName;
+        private String bossTier;
+        private int aliveBossCount;
+        private int activeAddCount;
+        private long remainingCountdownMillis;
+        private boolean awaitingPrimaryBossSpawn;
+        private String arenaId;
+
+        private ActiveEventView() {
+        }
+
+        public World getWorld() {
+            return world;
+        }
+
+        public Vector3d getEventCenter() {
+            return eventCenter;
+        }
+
+        public String getBossName() {
+            return bossName;
+        }
+
+        public String getBossTier() {
+            return bossTier;
+        }
+
+        public int getAliveBossCount() {
+            return aliveBossCount;
+        }
+
+        public int getActiveAddCount() {
+            return activeAddCount;
+        }
+
+        public long getRemainingCountdownMillis() {
+            return remainingCountdownMillis;
+        }
+
+        public boolean isAwaitingPrimaryBossSpawn() {
+            return awaitingPrimaryBossSpawn;
+        }
+
+        public String getArenaId() {
+            return arenaId;
         }
     }
 
@@ -1572,7 +2216,13 @@ public class BossTrackingSystem {
         private final Set<UUID> bossUuids = ConcurrentHashMap.newKeySet();
         private final Set<UUID> aliveBosses = ConcurrentHashMap.newKeySet();
         private final Set<UUID> activeAdds = ConcurrentHashMap.newKeySet();
-        private World world;
+        // Aggregates kept in step with the sets above so status reads are plain field reads.
+        private final AtomicInteger aliveBossCount = new AtomicInteger();
+        private final AtomicInteger activeAddCount = new AtomicInteger();
+        private final long countdownDeadlineEpochMs;
+        private volatile String arenaId;
+        // Filled in late from world threads and the clock thread; only ever set once, through adoptWorld.
+        private volatile World world;
         private volatile boolean awaitingPrimaryBossSpawn;
 
         private EventData(UUID eventId,
@@ -1609,8 +2259,73 @@ public class BossTrackingSystem {
             this.bossTier = bossTier;
             this.countdownDurationMs = Math.max(0L, countdownDurationMs);
             this.countdownStartEpochMs = Math.max(0L, countdownStartEpochMs);
+            this.countdownDeadlineEpochMs = this.countdownStartEpochMs + this.countdownDurationMs;
             this.awaitingPrimaryBossSpawn = awaitingPrimaryBossSpawn;
         }
+
+        private void addAliveBoss(UUID bossUuid) {
+            if (aliveBosses.add(bossUuid)) {
+                aliveBossCount.incrementAndGet();
+            }
+        }
+
+        private void removeAliveBoss(UUID bossUuid) {
+            if (aliveBosses.remove(bossUuid)) {
+                aliveBossCount.decrementAndGet();
+            }
+        }
+
+        private void addActiveAdd(UUID addUuid) {
+            if (activeAdds.add(addUuid)) {
+                activeAddCount.incrementAndGet();
+            }
+        }
+
+        private void removeActiveAdd(UUID addUuid) {
+            if (activeAdds.remove(addUuid)) {
+                activeAddCount.decrementAndGet();
+            }
+        }
+
+        /**
+         * Sets the event's world if none is known yet; returns whether this call set it.
+         */
+        private synchronized boolean adoptWorld(World candidate) {
+            if (world != null || candidate == null) {
+                return false;
+            }
+            world = candidate;
+            return true;
+        }
+
+        private void noteArenaId(String candidate) {
+            if (arenaId == null && candidate != null && !candidate.isBlank()) {
+                arenaId = candidate;
+            }
+        }
+    }
+
+    /**
+     * Net add changes for one event between flushes; an add that joins and leaves in the same window cancels out.
+     * Only touched inside {@code journalAddDeltas.compute} or after being removed from the map.
+     */
+    private static final class AddDelta {
+        private final Set<UUID> joined = new LinkedHashSet<>();
+        private final Set<UUID> left = new LinkedHashSet<>();
+
+        private void record(UUID addUuid, boolean join) {
+            if (join) {
+                if (!left.remove(addUuid)) {
+                    joined.add(addUuid);
+                }
+            } else if (!joined.remove(addUuid)) {
+                left.add(addUuid);
+            }
+        }
+
+        private boolean isEmpty() {
+            return joined.isEmpty() && left.isEmpty();
+        }
     }
 
     private static final class HeldChunk {
@@ -1629,11 +2344,39 @@ public class BossTrackingSystem {
 
     private static final class PersistedState {
         int version = PERSISTENCE_VERSION;
+        // Journal records with any other generation predate this snapshot and are ignored on replay.
+        long journalGeneration;
         List<PersistedEvent> events = new ArrayList<>();
         List<PersistedBoss> bosses = new ArrayList<>();
         List<PersistedAddLink> addLinks = new ArrayList<>();
     }
 
+    /**
+     * One journaled upsert (payload set) or removal (payload null) of an event, boss or add link, or the adds that
+     * joined and left an event since the previous flush.
+     */
+    private static final class JournalRecord {
+        static final String EVENT = "event";
+        static final String BOSS = "boss";
+        static final String ADD_LINK = "add";
+        static final String EVENT_ADDS = "event_adds";
+
+        long generation;
+        String type;
+        String id;
+        PersistedEvent event;
+        PersistedBoss boss;
+        PersistedAddLink addLink;
+        List<String> addsJoined;
+        List<String> addsLeft;
+
+        JournalRecord(long generation, String type, UUID id) {
+            this.generation = generation;
+            this.type = type;
+            this.id = id.toString();
+        }
+    }
+
     private static final class PersistedEvent {
         String eventId;
         String world;
@@ -1674,6 +2417,179 @@ public class BossTrackingSystem {
         public float regenMultiplier;
     }
 
+    /**
+     * Binary layout for {@link PersistedState}: UUIDs as two longs, names interned, counts and epochs as varints.
+     */
+    private static final class PersistedStateCodec implements StateCodec<PersistedState> {
+        @Override
+        public int formatVersion() {
+            return 2;
+        }
+
+        @Override
+        public void encode(PersistedState state, StateWriter out) throws IOException {
+            out.writeVarLong(state.journalGeneration);
+
+            List<PersistedEvent> events = safeList(state.events);
+            out.writeVarInt(events.size());
+            for (PersistedEvent event : events) {
+                out.writeUuid(parseUuid(event.eventId));
+                out.writeInterned(event.world);
+                out.writeDouble(event.centerX);
+                out.writeDouble(event.centerY);
+                out.writeDouble(event.centerZ);
+                out.writeInterned(event.bossName);
+                out.writeInterned(event.bossTier);
+                out.writeVarLong(Math.max(0L, event.countdownDurationMs));
+                out.writeVarLong(Math.max(0L, event.countdownStartEpochMs));
+                out.writeBoolean(event.awaitingPrimaryBossSpawn);
+                writeUuidList(out, event.bossUuids);
+                writeUuidList(out, event.aliveBosses);
+                writeUuidList(out, event.activeAdds);
+            }
+
+            List<PersistedBoss> bosses = safeList(state.bosses);
+            out.writeVarInt(bosses.size());
+            for (PersistedBoss boss : bosses) {
+                out.writeUuid(parseUuid(boss.uuid));
+                out.writeUuid(parseUuid(boss.eventId));
+                out.writeInterned(boss.bossName);
+                out.writeInterned(boss.arenaId);
+                out.writeInterned(boss.world);
+                out.writeDouble(boss.spawnX);
+                out.writeDouble(boss.spawnY);
+                out.writeDouble(boss.spawnZ);
+                out.writeInterned(boss.bossTier);
+                out.writeVarInt(Math.max(0, boss.levelOverride));
+                out.writeVarLong(Math.max(0L, boss.spawnedAtEpochMs));
+                out.writeFloat(boss.hpMultiplier);
+                out.writeFloat(boss.damageMultiplier);
+                out.writeFloat(boss.speedMultiplier);
+                out.writeFloat(boss.scaleMultiplier);
+                out.writeFloat(boss.attackRateMultiplier);
+                out.writeFloat(boss.abilityCooldownMultiplier);
+                out.writeFloat(boss.knockbackGivenMultiplier);
+                out.writeFloat(boss.knockbackTakenMultiplier);
+                out.writeFloat(boss.turnRateMultiplier);
+                out.writeFloat(boss.regenMultiplier);
+            }
+
+            List<PersistedAddLink> addLinks = safeList(state.addLinks);
+            out.writeVarInt(addLinks.size());
+            for (PersistedAddLink link : addLinks) {
+                out.writeUuid(parseUuid(link.addUuid));
+                out.writeUuid(parseUuid(link.bossUuid));
+                out.writeFloat(link.hpMultiplier);
+                out.writeFloat(link.damageMultiplier);
+                out.writeFloat(link.speedMultiplier);
+                out.writeFloat(link.scaleMultiplier);
+                out.writeFloat(link.attackRateMultiplier);
+                out.writeFloat(link.abilityCooldownMultiplier);
+                out.writeFloat(link.knockbackGivenMultiplier);
+                out.writeFloat(link.knockbackTakenMultiplier);
+                out.writeFloat(link.turnRateMultiplier);
+                out.writeFloat(link.regenMultiplier);
+            }
+        }
+
+        @Override
+        public PersistedState decode(StateReader in, int formatVersion) throws IOException {
+            PersistedState state = new PersistedState();
+            state.journalGeneration = in.readVarLong();
+
+            int eventCount = in.readCount();
+            for (int i = 0; i < eventCount; i++) {
+                PersistedEvent event = new PersistedEvent();
+                event.eventId = uuidString(in.readUuid());
+                event.world = in.readInterned();
+                event.centerX = in.readDouble();
+                event.centerY = in.readDouble();
+                event.centerZ = in.readDouble();
+                event.bossName = in.readInterned();
+                event.bossTier = in.readInterned();
+                event.countdownDurationMs = in.readVarLong();
+                event.countdownStartEpochMs = in.readVarLong();
+                event.awaitingPrimaryBossSpawn = in.readBoolean();
+                readUuidList(in, event.bossUuids);
+                readUuidList(in, event.aliveBosses);
+                readUuidList(in, event.activeAdds);
+                state.events.add(event);
+            }
+
+            int bossCount = in.readCount();
+            for (int i = 0; i < bossCount; i++) {
+                PersistedBoss boss = new PersistedBoss();
+                boss.uuid = uuidString(in.readUuid());
+                boss.eventId = uuidString(in.readUuid());
+                boss.bossName = in.readInterned();
+                boss.arenaId = in.readInterned();
+                boss.world = in.readInterned();
+                boss.spawnX = in.readDouble();
+                boss.spawnY = in.readDouble();
+                boss.spawnZ = in.readDouble();
+                boss.bossTier = in.readInterned();
+                boss.levelOverride = in.readVarInt();
+                boss.spawnedAtEpochMs = in.readVarLong();
+                boss.hpMultiplier = in.readFloat();
+                boss.damageMultiplier = in.readFloat();
+                boss.speedMultiplier = in.readFloat();
+                boss.scaleMultiplier = in.readFloat();
+                boss.attackRateMultiplier = in.readFloat();
+                boss.abilityCooldownMultiplier = in.readFloat();
+                boss.knockbackGivenMultiplier = in.readFloat();
+                boss.knockbackTakenMultiplier = in.readFloat();
+                boss.turnRateMultiplier = in.readFloat();
+                boss.regenMultiplier = in.readFloat();
+                state.bosses.add(boss);
+            }
+
+            int addCount = in.readCount();
+            for (int i = 0; i < addCount; i++) {
+                PersistedAddLink link = new PersistedAddLink();
+                link.addUuid = uuidString(in.readUuid());
+                link.bossUuid = uuidString(in.readUuid());
+                link.hpMultiplier = in.readFloat();
+                link.damageMultiplier = in.readFloat();
+                link.speedMultiplier = in.readFloat();
+                link.scaleMultiplier = in.readFloat();
+                link.attackRateMultiplier = in.readFloat();
+                link.abilityCooldownMultiplier = in.readFloat();
+                link.knockbackGivenMultiplier = in.readFloat();
+                link.knockbackTakenMultiplier = in.readFloat();
+                link.turnRateMultiplier = in.readFloat();
+                link.regenMultiplier = in.readFloat();
+                state.addLinks.add(link);
+            }
+            return state;
+        }
+
+        private static void writeUuidList(StateWriter out, List<String> values) throws IOException {
+            List<UUID> parsed = new ArrayList<>();
+            for (String value : safeList(values)) {
+                UUID uuid = parseUuid(value);
+                if (uuid != null) {
+                    parsed.add(uuid);
+                }
+            }
+            out.writeVarInt(parsed.size());
+            for (UUID uuid : parsed) {
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+        }
+
+        private static void readUuidList(StateReader in, List<String> target) throws IOException {
+            int count = in.readCount();
+            for (int i = 0; i < count; i++) {
+                target.add(new UUID(in.readLong(), in.readLong()).toString());
+            }
+        }
+
+        private static String uuidString(UUID value) {
+            return value != null ? value.toString() : "";
+        }
+    }
+
     public static final class PersistedAddLink {
         public String addUuid;
         public String bossUuid;
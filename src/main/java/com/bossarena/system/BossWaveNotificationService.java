@@ -2,7 +2,8 @@ package com.bossarena.system;
 
 import com.bossarena.BossArenaConfig;
 import com.bossarena.BossArenaPlugin;
-import com.hypixel.hytale.math.vector.Transform;
+import com.bossarena.boss.DamageLedger;
+import com.bossarena.boss.PlayerFinder;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
@@ -10,12 +11,15 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.util.EventTitleUtil;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.logging.Logger;
 
 public final class BossWaveNotificationService {
@@ -27,8 +31,49 @@ public final class BossWaveNotificationService {
     private static final float WORLD_ALERT_DURATION_SECONDS = 10.0f;
     private static final long WORLD_ALERT_DURATION_MILLIS = (long) (WORLD_ALERT_DURATION_SECONDS * 1000f);
     private static final Map<UUID, Long> TIMED_ALERT_SUPPRESS_UNTIL = new ConcurrentHashMap<>();
-    private static final Pattern PLACEHOLDER_PATTERN =
-            Pattern.compile("\\$([A-Za-z][A-Za-z0-9_]*)|\\{([A-Za-z][A-Za-z0-9_]*)\\}");
+    // Resend a persistent banner this long before the client would let it lapse.
+    private static final long BANNER_REFRESH_MARGIN_MILLIS = 2000L;
+    // Last status banner sent to each player, per world; used to skip unchanged resends and for out-of-range hides.
+    private static final Map<String, Map<UUID, BannerState>> BANNER_STATE_BY_WORLD = new ConcurrentHashMap<>();
+    private static final int SLOT_BOSS = 0;
+    private static final int SLOT_BOSS_UPPER = 1;
+    private static final int SLOT_BOSS_ALIVE = 2;
+    private static final int SLOT_ADDS_ALIVE = 3;
+    private static final int SLOT_CONTEXT = 4;
+    private static final int SLOT_CONTEXT_LINE = 5;
+    private static final int SLOT_COUNTDOWN = 6;
+    private static final int SLOT_COUNTDOWN_LABEL = 7;
+    private static final int SLOT_COUNTDOWN_LINE = 8;
+    private static final int SLOT_STATE = 9;
+    private static final int SLOT_TOP_CONTRIBUTORS = 10;
+    private static final int SLOT_TOP_CONTRIBUTORS_LINE = 11;
+    private static final int BANNER_SLOT_COUNT = 12;
+    private static final int TOP_CONTRIBUTOR_COUNT = 3;
+    private static final Map<String, Integer> BANNER_SLOTS = Map.ofEntries(
+            Map.entry("boss", SLOT_BOSS),
+            Map.entry("bossupper", SLOT_BOSS_UPPER),
+            Map.entry("bossalive", SLOT_BOSS_ALIVE),
+            Map.entry("addsalive", SLOT_ADDS_ALIVE),
+            Map.entry("context", SLOT_CONTEXT),
+            Map.entry("contextraw", SLOT_CONTEXT),
+            Map.entry("contextline", SLOT_CONTEXT_LINE),
+            // Backwards-compatible legacy alias.
+            Map.entry("contextprefix", SLOT_CONTEXT_LINE),
+            Map.entry("countdown", SLOT_COUNTDOWN),
+            Map.entry("countdownlabel", SLOT_COUNTDOWN_LABEL),
+            Map.entry("countdownline", SLOT_COUNTDOWN_LINE),
+            // Backwards-compatible legacy alias.
+            Map.entry("countdownprefix", SLOT_COUNTDOWN_LINE),
+            Map.entry("state", SLOT_STATE),
+            Map.entry("topcontributors", SLOT_TOP_CONTRIBUTORS),
+            Map.entry("topcontributorsline", SLOT_TOP_CONTRIBUTORS_LINE)
+    );
+    private static final Map<String, Integer> TIMED_SLOTS = Map.of("boss", 0, "arena", 1, "world", 2);
+    private static final int MAX_CACHED_TIMED_TEMPLATES = 64;
+    private static final Map<String, CompiledTemplate> TIMED_TEMPLATES = new ConcurrentHashMap<>();
+    private static final int MAX_RETAINED_BUFFER_CHARS = 4096;
+    private static final ThreadLocal<StringBuilder> RENDER_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+    private static volatile BannerTemplates cachedBannerTemplates;
 
     private BossWaveNotificationService() {
     }
@@ -113,82 +158,55 @@ public final class BossWaveNotificationService {
                                              boolean forceActiveState,
                                              boolean showVictoryOnFinish,
                                              double notificationRadiusBlocks) {
+        notifyBossAliveStatus(world, eventCenter, bossName, aliveBossCount, activeAdds, context,
+                remainingCountdownMillis, forceActiveState, showVictoryOnFinish, notificationRadiusBlocks, "");
+    }
+
+    /**
+     * Shows the victory banner for a finished event, with its top damage dealers available as
+     * {@code $TopContributors}. Call before the event's loot is handed out, which releases the damage ledgers.
+     */
+    public static void notifyEventVictory(World world,
+                                          Vector3d eventCenter,
+                                          String bossName,
+                                          Collection<UUID> bossUuids) {
+        notifyBossAliveStatus(world, eventCenter, bossName, 0, 0, null, 0L, false, true, -1.0d,
+                describeTopContributors(world, bossUuids));
+    }
+
+    private static void notifyBossAliveStatus(World world,
+                                              Vector3d eventCenter,
+                                              String bossName,
+                                              int aliveBossCount,
+                                              int activeAdds,
+                                              String context,
+                                              long remainingCountdownMillis,
+                                              boolean forceActiveState,
+                                              boolean showVictoryOnFinish,
+                                              double notificationRadiusBlocks,
+                                              String topContributors) {
         if (world == null || eventCenter == null) {
             return;
         }
-        String contextText = context == null || context.isBlank() ? "" : (context.trim() + " | ");
         String countdownValue = formatCountdownValue(remainingCountdownMillis);
-        String countdownLabel = countdownValue.isEmpty() ? "" : "Time left: " + countdownValue;
-        String countdownText = countdownLabel.isEmpty() ? "" : (countdownLabel + " | ");
         int bossesAlive = Math.max(0, aliveBossCount);
         int addsAlive = Math.max(0, activeAdds);
         boolean eventFinished = !forceActiveState && bossesAlive <= 0 && addsAlive <= 0;
-        BossArenaConfig.EventBannerTemplates templates = resolveEventBannerTemplates();
-        String bossDisplay = safeBossDisplayName(bossName);
 
         String titleText = "";
         String subtitleText = "";
+        if (!eventFinished || showVictoryOnFinish) {
+            BannerTemplates templates = resolveBannerTemplates();
+            String[] values = bannerValues(bossName, bossesAlive, addsAlive, context, countdownValue, eventFinished,
+                    topContributors);
+            titleText = render(eventFinished ? templates.victoryTitle : templates.activeTitle, values);
+            subtitleText = render(eventFinished ? templates.victorySubtitle : templates.activeSubtitle, values);
+        }
 
-        if (eventFinished) {
-            if (showVictoryOnFinish) {
-                titleText = applyEventBannerPlaceholders(
-                        templates.victoryTitle,
-                        bossDisplay,
-                        bossesAlive,
-                        addsAlive,
-                        context,
-                        contextText,
-                        countdownValue,
-                        countdownLabel,
-                        countdownText,
-                        true
-                );
-                subtitleText = applyEventBannerPlaceholders(
-                        templates.victorySubtitle,
-                        bossDisplay,
-                        bossesAlive,
-                        addsAlive,
-                        context,
-                        contextText,
-                        countdownValue,
-                        countdownLabel,
-                        countdownText,
-                        true
-                );
-            }
-        } else {
-            titleText = applyEventBannerPlaceholders(
-                    templates.activeTitle,
-                    bossDisplay,
-                    bossesAlive,
-                    addsAlive,
-                    context,
-                    contextText,
-                    countdownValue,
-                    countdownLabel,
-                    countdownText,
-                    false
-            );
-            subtitleText = applyEventBannerPlaceholders(
-                    templates.activeSubtitle,
-                    bossDisplay,
-                    bossesAlive,
-                    addsAlive,
-                    context,
-                    contextText,
-                    countdownValue,
-                    countdownLabel,
-                    countdownText,
-                    false
-            );
-        }
-
-        Message title = titleText == null || titleText.isEmpty() ? null : Message.raw(titleText);
-        Message subtitle = subtitleText == null || subtitleText.isEmpty() ? null : Message.raw(subtitleText);
         float duration = (forceActiveState || bossesAlive > 0 || addsAlive > 0)
                 ? PERSISTENT_DURATION_SECONDS
                 : FINAL_CLEAR_DURATION_SECONDS;
-        showToNearbyPlayers(world, eventCenter, title, subtitle, duration, notificationRadiusBlocks);
+        showToNearbyPlayers(world, eventCenter, titleText, subtitleText, duration, notificationRadiusBlocks);
     }
 
     public static void notifyWaveSpawn(World world,
@@ -236,7 +254,9 @@ public final class BossWaveNotificationService {
         String messageTemplate = customMessage == null || customMessage.isBlank()
                 ? BossArenaConfig.DEFAULT_TIMED_ANNOUNCEMENT_TEXT
                 : customMessage.trim();
-        String chatMessage = applyTimedAnnouncementPlaceholders(messageTemplate, bossDisplay, arenaDisplay, worldDisplay);
+        Message chatMessage = Message.raw(
+                applyTimedAnnouncementPlaceholders(messageTemplate, bossDisplay, arenaDisplay, worldDisplay)
+        );
 
         Message title = Message.raw("WORLD BOSS ALERT");
         Message subtitle = Message.raw(bossDisplay + " | Arena: " + arenaDisplay + " | World: " + worldDisplay);
@@ -258,7 +278,7 @@ public final class BossWaveNotificationService {
             }
             suppressLocalStatusTitles(playerRef);
             try {
-                playerRef.sendMessage(Message.raw(chatMessage));
+                playerRef.sendMessage(chatMessage);
             } catch (Exception e) {
                 LOGGER.fine(() -> "Failed to send timed global alert chat message: " + e.getMessage());
             }
@@ -282,59 +302,117 @@ public final class BossWaveNotificationService {
 
     private static void showToNearbyPlayers(World world,
                                             Vector3d center,
-                                            Message title,
-                                            Message subtitle,
+                                            String titleText,
+                                            String subtitleText,
                                             float durationSeconds,
                                             double notificationRadiusBlocks) {
         double radius = (Double.isFinite(notificationRadiusBlocks) && notificationRadiusBlocks > 0)
                 ? notificationRadiusBlocks
                 : resolveNotificationRadius();
         long now = System.currentTimeMillis();
-        for (PlayerRef playerRef : world.getPlayerRefs()) {
+        String normalizedTitle = titleText == null || titleText.isEmpty() ? null : titleText;
+        String normalizedSubtitle = subtitleText == null || subtitleText.isEmpty() ? null : subtitleText;
+        boolean showing = normalizedTitle != null || normalizedSubtitle != null;
+        long durationMillis = (long) (durationSeconds * 1000f);
+        Map<UUID, BannerState> states = BANNER_STATE_BY_WORLD.computeIfAbsent(
+                normalizeWorldKey(world),
+                ignored -> new ConcurrentHashMap<>()
+        );
+        Set<UUID> inRange = new HashSet<>();
+        // Built on first use and shared by every player that needs a resend this pass.
+        Message title = null;
+        Message subtitle = null;
+
+        for (PlayerRef playerRef : PlayerFinder.playerRefsInRadius(world, center, radius)) {
             if (playerRef == null) {
                 continue;
             }
-            if (isLocalStatusSuppressed(playerRef, now)) {
+            UUID playerUuid = playerRef.getUuid();
+            if (playerUuid == null) {
                 continue;
             }
-
-            Transform transform = playerRef.getTransform();
-            Vector3d playerPosition = transform != null ? transform.getPosition() : null;
-            if (playerPosition == null) {
+            inRange.add(playerUuid);
+            BannerState state = states.get(playerUuid);
+            if (isLocalStatusSuppressed(playerRef, now)) {
+                // Another title is covering ours; resend once the suppression ends.
+                if (state != null) {
+                    state.invalidate();
+                }
                 continue;
             }
 
-            if (playerPosition.distanceTo(center) > radius) {
+            if (!showing) {
+                if (state == null) {
+                    continue;
+                }
                 try {
-                    // Clear any previously shown BossArena title once the player leaves range.
                     EventTitleUtil.hideEventTitleFromPlayer(playerRef, 0f);
                 } catch (Exception e) {
-                    LOGGER.fine(() -> "Failed to hide out-of-range wave notification: " + e.getMessage());
+                    LOGGER.fine(() -> "Failed to hide wave notification: " + e.getMessage());
                 }
+                states.remove(playerUuid);
                 continue;
             }
 
-            try {
-                // Always hide the previous title first to ensure a clean transition or a clear end state.
-                EventTitleUtil.hideEventTitleFromPlayer(playerRef, 0f);
+            if (state != null && state.matches(playerRef, normalizedTitle, normalizedSubtitle, now)) {
+                continue;
+            }
 
-                // If both are null, we don't show any new title, so it stays hidden.
-                if (title != null || subtitle != null) {
-                    EventTitleUtil.showEventTitleToPlayer(
-                            playerRef,
-                            title,
-                            subtitle,
-                            true,
-                            null,
-                            durationSeconds,
-                            0f,
-                            0f
-                    );
+            if (title == null && subtitle == null) {
+                title = normalizedTitle != null ? Message.raw(normalizedTitle) : null;
+                subtitle = normalizedSubtitle != null ? Message.raw(normalizedSubtitle) : null;
+            }
+            try {
+                // Hide the previous title first to ensure a clean transition.
+                if (state != null) {
+                    EventTitleUtil.hideEventTitleFromPlayer(playerRef, 0f);
                 }
+                EventTitleUtil.showEventTitleToPlayer(
+                        playerRef,
+                        title,
+                        subtitle,
+                        true,
+                        null,
+                        durationSeconds,
+                        0f,
+                        0f
+                );
             } catch (Exception e) {
                 LOGGER.fine(() -> "Failed to update wave notification visibility: " + e.getMessage());
+                continue;
+            }
+            if (state == null) {
+                states.put(playerUuid, new BannerState(playerRef, normalizedTitle, normalizedSubtitle, now + durationMillis));
+            } else {
+                state.update(playerRef, normalizedTitle, normalizedSubtitle, now + durationMillis);
             }
         }
+
+        // Clear any previously shown BossArena title once the player leaves range.
+        for (Map.Entry<UUID, BannerState> entry : states.entrySet()) {
+            if (inRange.contains(entry.getKey())) {
+                continue;
+            }
+            PlayerRef playerRef = entry.getValue().playerRef;
+            if (playerRef == null || !playerRef.isValid()) {
+                states.remove(entry.getKey());
+                continue;
+            }
+            if (isLocalStatusSuppressed(playerRef, now)) {
+                continue;
+            }
+            try {
+                EventTitleUtil.hideEventTitleFromPlayer(playerRef, 0f);
+            } catch (Exception e) {
+                LOGGER.fine(() -> "Failed to hide out-of-range wave notification: " + e.getMessage());
+            }
+            states.remove(entry.getKey());
+        }
+    }
+
+    private static String normalizeWorldKey(World world) {
+        String name = world != null ? world.getName() : null;
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
     }
 
     private static String safeBossName(String bossName) {
@@ -367,6 +445,13 @@ public final class BossWaveNotificationService {
             return;
         }
         TIMED_ALERT_SUPPRESS_UNTIL.put(playerUuid, System.currentTimeMillis() + WORLD_ALERT_DURATION_MILLIS);
+        // The alert replaces our banner on the client, so the cached state no longer reflects what is shown.
+        for (Map<UUID, BannerState> states : BANNER_STATE_BY_WORLD.values()) {
+            BannerState state = states.get(playerUuid);
+            if (state != null) {
+                state.invalidate();
+            }
+        }
     }
 
     private static boolean isLocalStatusSuppressed(PlayerRef playerRef, long nowEpochMs) {
@@ -395,12 +480,52 @@ public final class BossWaveNotificationService {
         if (template == null || template.isBlank()) {
             return "";
         }
-        Map<String, String> values = Map.of(
-                "boss", defaultIfBlank(bossDisplay, "Boss"),
-                "arena", defaultIfBlank(arenaDisplay, "Arena"),
-                "world", defaultIfBlank(worldDisplay, "World")
+        if (TIMED_TEMPLATES.size() > MAX_CACHED_TIMED_TEMPLATES) {
+            TIMED_TEMPLATES.clear();
+        }
+        CompiledTemplate compiled = TIMED_TEMPLATES.computeIfAbsent(
+                template,
+                source -> CompiledTemplate.compile(source, TIMED_SLOTS)
         );
-        return renderTemplate(template, values);
+        String[] values = {
+                defaultIfBlank(bossDisplay, "Boss"),
+                defaultIfBlank(arenaDisplay, "Arena"),
+                defaultIfBlank(worldDisplay, "World")
+        };
+        return render(compiled, values);
+    }
+
+    /**
+     * "Name 54%, Name 30%, ..." for the players in {@code world} who dealt the most damage to {@code bossUuids}.
+     */
+    private static String describeTopContributors(World world, Collection<UUID> bossUuids) {
+        DamageLedger.Contributions contributions = DamageLedger.collect(bossUuids);
+        if (world == null || contributions.isEmpty()) {
+            return "";
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (PlayerRef playerRef : world.getPlayerRefs()) {
+            if (playerRef != null && playerRef.getUuid() != null) {
+                names.put(playerRef.getUuid(), playerRef.getUsername());
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        int listed = 0;
+        for (DamageLedger.Contribution contribution : contributions.ranked()) {
+            String name = names.get(contribution.playerUuid());
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            if (listed > 0) {
+                out.append(", ");
+            }
+            out.append(name).append(' ').append(Math.round(contribution.percent())).append('%');
+            if (++listed == TOP_CONTRIBUTOR_COUNT) {
+                break;
+            }
+        }
+        return out.toString();
     }
 
     private static String formatCountdownValue(long remainingCountdownMillis) {
@@ -414,70 +539,59 @@ public final class BossWaveNotificationService {
         return String.format(Locale.ROOT, "%02d:%02d", minutes, seconds);
     }
 
-    private static BossArenaConfig.EventBannerTemplates resolveEventBannerTemplates() {
-        BossArenaConfig.EventBannerTemplates out = new BossArenaConfig.EventBannerTemplates();
+    private static BannerTemplates resolveBannerTemplates() {
         BossArenaPlugin plugin = BossArenaPlugin.getInstance();
         BossArenaConfig config = plugin != null ? plugin.getConfigHandle() : null;
-        if (config == null || config.eventBanner == null) {
-            return out;
-        }
-        BossArenaConfig.EventBannerTemplates loaded = config.eventBanner;
-        out.activeTitle = defaultIfBlank(loaded.activeTitle, BossArenaConfig.DEFAULT_EVENT_ACTIVE_TITLE_TEMPLATE);
-        out.activeSubtitle = defaultIfBlank(loaded.activeSubtitle, BossArenaConfig.DEFAULT_EVENT_ACTIVE_SUBTITLE_TEMPLATE);
-        out.victoryTitle = defaultIfBlank(loaded.victoryTitle, BossArenaConfig.DEFAULT_EVENT_VICTORY_TITLE_TEMPLATE);
-        out.victorySubtitle = defaultIfBlank(loaded.victorySubtitle, BossArenaConfig.DEFAULT_EVENT_VICTORY_SUBTITLE_TEMPLATE);
-        return out;
+        BossArenaConfig.EventBannerTemplates loaded = config != null ? config.eventBanner : null;
+        long revision = config != null ? config.getRevision() : -1L;
+        BannerTemplates cached = cachedBannerTemplates;
+        if (cached != null && cached.revision == revision && cached.source == loaded) {
+            return cached;
+        }
+        BannerTemplates compiled = new BannerTemplates(revision, loaded);
+        cachedBannerTemplates = compiled;
+        return compiled;
     }
 
-    private static String applyEventBannerPlaceholders(String template,
-                                                       String bossDisplay,
-                                                       int bossesAlive,
-                                                       int addsAlive,
-                                                       String contextRaw,
-                                                       String contextPrefix,
-                                                       String countdown,
-                                                       String countdownLabel,
-                                                       String countdownPrefix,
-                                                       boolean eventFinished) {
-        String resolved = defaultIfBlank(template, "");
+    private static String[] bannerValues(String bossName,
+                                         int bossesAlive,
+                                         int addsAlive,
+                                         String contextRaw,
+                                         String countdown,
+                                         boolean eventFinished,
+                                         String topContributors) {
         String context = contextRaw == null || contextRaw.isBlank() ? "" : contextRaw.trim();
-        String state = eventFinished ? "victory" : "active";
-        Map<String, String> values = Map.ofEntries(
-                Map.entry("boss", defaultIfBlank(bossDisplay, "Boss")),
-                Map.entry("bossupper", safeBossName(bossDisplay)),
-                Map.entry("bossalive", Integer.toString(Math.max(0, bossesAlive))),
-                Map.entry("addsalive", Integer.toString(Math.max(0, addsAlive))),
-                Map.entry("context", context),
-                Map.entry("contextraw", context),
-                // Clearer aliases for user-facing templates.
-                Map.entry("contextline", defaultIfBlank(contextPrefix, "")),
-                // Backwards-compatible legacy alias.
-                Map.entry("contextprefix", defaultIfBlank(contextPrefix, "")),
-                Map.entry("countdown", defaultIfBlank(countdown, "")),
-                Map.entry("countdownlabel", defaultIfBlank(countdownLabel, "")),
-                // Clearer aliases for user-facing templates.
-                Map.entry("countdownline", defaultIfBlank(countdownPrefix, "")),
-                // Backwards-compatible legacy alias.
-                Map.entry("countdownprefix", defaultIfBlank(countdownPrefix, "")),
-                Map.entry("state", state)
-        );
-        return renderTemplate(resolved, values);
+        String[] values = new String[BANNER_SLOT_COUNT];
+        values[SLOT_BOSS] = safeBossDisplayName(bossName);
+        values[SLOT_BOSS_UPPER] = safeBossName(values[SLOT_BOSS]);
+        values[SLOT_BOSS_ALIVE] = Integer.toString(bossesAlive);
+        values[SLOT_ADDS_ALIVE] = Integer.toString(addsAlive);
+        values[SLOT_CONTEXT] = context;
+        // Line variants are trimmed, so their trailing separator keeps only the '|'.
+        values[SLOT_CONTEXT_LINE] = context.isEmpty() ? "" : context + " |";
+        values[SLOT_COUNTDOWN] = countdown;
+        values[SLOT_COUNTDOWN_LABEL] = countdown.isEmpty() ? "" : "Time left: " + countdown;
+        values[SLOT_COUNTDOWN_LINE] = countdown.isEmpty() ? "" : "Time left: " + countdown + " |";
+        values[SLOT_STATE] = eventFinished ? "victory" : "active";
+        String top = topContributors == null ? "" : topContributors;
+        values[SLOT_TOP_CONTRIBUTORS] = top;
+        values[SLOT_TOP_CONTRIBUTORS_LINE] = top.isEmpty() ? "" : "Top damage: " + top + " |";
+        return values;
     }
 
-    private static String renderTemplate(String template, Map<String, String> values) {
+    private static String render(CompiledTemplate template, String[] values) {
         if (template == null || template.isEmpty()) {
             return "";
         }
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-        StringBuffer out = new StringBuffer();
-        while (matcher.find()) {
-            String key = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
-            String normalized = key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
-            String replacement = values.getOrDefault(normalized, "");
-            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        StringBuilder out = RENDER_BUFFER.get();
+        out.setLength(0);
+        template.renderTo(out, values);
+        String rendered = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER_CHARS) {
+            out.setLength(0);
+            out.trimToSize();
         }
-        matcher.appendTail(out);
-        return out.toString();
+        return rendered;
     }
 
     private static String defaultIfBlank(String value, String fallback) {
@@ -486,4 +600,64 @@ public final class BossWaveNotificationService {
         }
         return value.trim();
     }
+
+    private static final class BannerState {
+        private PlayerRef playerRef;
+        private String title;
+        private String subtitle;
+        private long expiresAtMs;
+        private boolean stale;
+
+        private BannerState(PlayerRef playerRef, String title, String subtitle, long expiresAtMs) {
+            update(playerRef, title, subtitle, expiresAtMs);
+        }
+
+        private void update(PlayerRef playerRef, String title, String subtitle, long expiresAtMs) {
+            this.playerRef = playerRef;
+            this.title = title;
+            this.subtitle = subtitle;
+            this.expiresAtMs = expiresAtMs;
+            this.stale = false;
+        }
+
+        private void invalidate() {
+            stale = true;
+        }
+
+        private boolean matches(PlayerRef playerRef, String title, String subtitle, long nowEpochMs) {
+            // A reconnect yields a new PlayerRef whose client has never seen the banner.
+            return !stale
+                    && this.playerRef == playerRef
+                    && nowEpochMs < expiresAtMs - BANNER_REFRESH_MARGIN_MILLIS
+                    && Objects.equals(this.title, title)
+                    && Objects.equals(this.subtitle, subtitle);
+        }
+    }
+
+    /** Event banner templates compiled for one config revision. */
+    private static final class BannerTemplates {
+        private final long revision;
+        private final BossArenaConfig.EventBannerTemplates source;
+        private final CompiledTemplate activeTitle;
+        private final CompiledTemplate activeSubtitle;
+        private final CompiledTemplate victoryTitle;
+        private final CompiledTemplate victorySubtitle;
+
+        private BannerTemplates(long revision, BossArenaConfig.EventBannerTemplates source) {
+            this.revision = revision;
+            this.source = source;
+            this.activeTitle = compileBanner(source != null ? source.activeTitle : null,
+                    BossArenaConfig.DEFAULT_EVENT_ACTIVE_TITLE_TEMPLATE);
+            this.activeSubtitle = compileBanner(source != null ? source.activeSubtitle : null,
+                    BossArenaConfig.DEFAULT_EVENT_ACTIVE_SUBTITLE_TEMPLATE);
+            this.victoryTitle = compileBanner(source != null ? source.victoryTitle : null,
+                    BossArenaConfig.DEFAULT_EVENT_VICTORY_TITLE_TEMPLATE);
+            this.victorySubtitle = compileBanner(source != null ? source.victorySubtitle : null,
+                    BossArenaConfig.DEFAULT_EVENT_VICTORY_SUBTITLE_TEMPLATE);
+        }
+
+        private static CompiledTemplate compileBanner(String template, String fallback) {
+            return CompiledTemplate.compile(defaultIfBlank(template, fallback), BANNER_SLOTS);
+        }
+    }
 }
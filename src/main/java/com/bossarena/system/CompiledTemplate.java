@@ -0,0 +1,80 @@
+package com.bossarena.system;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A notification template parsed once into literal and placeholder segments. Placeholders ({@code $key} or
+ * {@code {key}}, case-insensitive) are bound to value slots at compile time; unknown keys render as empty text.
+ */
+final class CompiledTemplate {
+    private static final Pattern PLACEHOLDER_PATTERN =
+            Pattern.compile("\\$([A-Za-z][A-Za-z0-9_]*)|\\{([A-Za-z][A-Za-z0-9_]*)\\}");
+    private static final int UNKNOWN_SLOT = -2;
+    private static final int LITERAL = -1;
+
+    private final String source;
+    private final String[] literals;
+    private final int[] slots;
+
+    private CompiledTemplate(String source, String[] literals, int[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * @param slotByKey lower-case placeholder key to index into the values array passed to {@link #renderTo}
+     */
+    static CompiledTemplate compile(String source, Map<String, Integer> slotByKey) {
+        String template = source == null ? "" : source;
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                literals.add(template.substring(last, matcher.start()));
+                slots.add(LITERAL);
+            }
+            String key = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            Integer slot = slotByKey.get(key.toLowerCase(Locale.ROOT));
+            literals.add(null);
+            slots.add(slot != null ? slot : UNKNOWN_SLOT);
+            last = matcher.end();
+        }
+        if (last < template.length()) {
+            literals.add(template.substring(last));
+            slots.add(LITERAL);
+        }
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new CompiledTemplate(template, literals.toArray(new String[0]), slotArray);
+    }
+
+    String source() {
+        return source;
+    }
+
+    boolean isEmpty() {
+        return slots.length == 0;
+    }
+
+    void renderTo(StringBuilder out, String[] values) {
+        for (int i = 0; i < slots.length; i++) {
+            int slot = slots[i];
+            if (slot == LITERAL) {
+                out.append(literals[i]);
+            } else if (slot >= 0 && slot < values.length && values[slot] != null) {
+                out.append(values[slot]);
+            }
+        }
+    }
+}
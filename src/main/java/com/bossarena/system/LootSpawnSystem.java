@@ -1,28 +1,53 @@
 package com.bossarena.system;
 
+import com.bossarena.BossArenaConfig;
+import com.bossarena.BossArenaPlugin;
 import com.bossarena.loot.BossLootHandler;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.util.logging.Logger;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class LootSpawnSystem extends TickingSystem<EntityStore> {
-    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final int DEFAULT_SPAWNS_PER_TICK = 4;
+    private static final float CRITICAL_SPAWN_INTERVAL_SECONDS = 1.0f;
+
+    // World instances whose chest expiry timers were already restored; a reloaded world is a new instance.
+    private final Set<World> restoredWorlds = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    // While the world's tick is critical, chests are placed one per interval instead of every tick.
+    private final WorldTickInterval criticalInterval = new WorldTickInterval(CRITICAL_SPAWN_INTERVAL_SECONDS);
 
     @Override
     public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
-        // If worlds finish loading after plugin setup, restore any pending expiry tasks.
-        BossLootHandler.restorePendingExpiryTasks();
-
-        // Process all pending loot spawns
-        while (!BossLootHandler.PENDING_SPAWNS.isEmpty()) {
-            var spawn = BossLootHandler.PENDING_SPAWNS.poll();
-            if (spawn != null) {
-                LOGGER.info("Processing queued loot spawn for: " + spawn.bossName);
-                BossLootHandler.handleBossDeath(spawn.world, spawn.location, spawn.bossName);
+        World world = WorldTickInterval.worldOf(store);
+        if (world == null) {
+            return;
+        }
+
+        // If worlds finish loading after plugin setup, restore their pending expiry tasks on the first tick.
+        if (restoredWorlds.add(world)) {
+            BossLootHandler.restorePendingExpiryTasks(world);
+        }
+
+        TickHealthMonitor.Tier tier = TickHealthMonitor.tierOf(world);
+        if (tier == TickHealthMonitor.Tier.CRITICAL) {
+            if (criticalInterval.elapse(world, dt)) {
+                BossLootHandler.drainPendingLootSpawns(world, 1);
             }
+            return;
         }
+        int budget = (int) Math.ceil(resolveSpawnsPerTick() / tier.stretch());
+        BossLootHandler.drainPendingLootSpawns(world, Math.max(1, budget));
+    }
+
+    private static int resolveSpawnsPerTick() {
+        BossArenaPlugin plugin = BossArenaPlugin.getInstance();
+        BossArenaConfig config = plugin != null ? plugin.getConfigHandle() : null;
+        return config != null ? config.getLootSpawnsPerTick() : DEFAULT_SPAWNS_PER_TICK;
     }
 }
@@ -0,0 +1,35 @@
+package com.bossarena.system;
+
+import com.bossarena.boss.PlayerSpatialIndex;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Rebuilds the player grid used by PlayerFinder once per world tick, in worlds that have a tracked event. Idle
+ * worlds drop their grid instead, and the rare query there falls back to a direct scan.
+ */
+public final class PlayerSpatialIndexSystem extends TickingSystem<EntityStore> {
+    private final BossTrackingSystem trackingSystem;
+
+    public PlayerSpatialIndexSystem(BossTrackingSystem trackingSystem) {
+        this.trackingSystem = trackingSystem;
+    }
+
+    @Override
+    public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
+        EntityStore entityStore = store.getExternalData();
+        World world = entityStore != null ? entityStore.getWorld() : null;
+        if (world == null) {
+            return;
+        }
+        if (trackingSystem != null && !trackingSystem.hasEvents(world)) {
+            PlayerSpatialIndex.forget(world);
+            return;
+        }
+        PlayerSpatialIndex.refresh(world);
+    }
+}
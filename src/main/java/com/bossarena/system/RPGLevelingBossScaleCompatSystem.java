@@ -9,73 +9,129 @@ import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
 import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
 import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.common.semver.SemverRange;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Keeps BossArena HP/level overrides on tracked bosses when RPGLeveling is present.
  * We intentionally avoid maximizing current HP here to prevent accidental mid-fight heals.
+ * <p>
+ * Work is driven by tracking callbacks: a newly tracked boss gets its level override pushed immediately and is
+ * queued for HP checks, which keep running only while RPGLeveling is still touching its health modifiers.
  */
-public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<EntityStore> {
+public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<EntityStore>
+        implements BossTrackingSystem.TrackedBossListener {
     private static final Logger LOGGER = Logger.getLogger("BossArena");
     private static final String RPG_LEVELING_HP_MODIFIER_KEY = "RPGLeveling.HPModifier";
     private static final float RESYNC_INTERVAL_SECONDS = 0.25f;
+    // RPGLeveling applies its HP modifier shortly after spawn; keep checking for 5 s after the last correction.
+    private static final int HP_SETTLE_CHECKS = 20;
     private static final float EPSILON = 0.0001f;
 
     private final BossTrackingSystem trackingSystem;
-    private float elapsedSeconds;
-    private boolean lastRpgLevelingLoaded;
-    private boolean loadStateKnown;
-    private final Map<UUID, Integer> appliedLevelOverrides = new HashMap<>();
-    private Method rpgGetMethod;
-    private Method rpgPutSpawnLevelMethod;
-    private Method rpgRemoveSpawnLevelMethod;
-    private boolean rpgLevelApiResolved;
+    private final WorldTickInterval resyncInterval = new WorldTickInterval(RESYNC_INTERVAL_SECONDS, true);
+    private final Map<UUID, Integer> pendingHpChecks = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> appliedLevelOverrides = new ConcurrentHashMap<>();
+    private volatile RpgLevelingApi rpgApi;
+    private boolean bound;
 
     public RPGLevelingBossScaleCompatSystem(BossTrackingSystem trackingSystem) {
         this.trackingSystem = trackingSystem;
     }
 
+    /**
+     * Resolves the RPGLeveling API once all plugins are loaded and starts listening for tracking changes.
+     * Does nothing when RPGLeveling is not installed.
+     */
+    public synchronized void bind() {
+        if (bound || trackingSystem == null) {
+            return;
+        }
+        PluginManager pluginManager = PluginManager.get();
+        boolean loaded = pluginManager != null
+                && pluginManager.hasPlugin(BossArenaPlugin.RPG_LEVELING_PLUGIN_ID, SemverRange.WILDCARD);
+        LOGGER.info("BossArena compat RPGLeveling loaded state: " + loaded);
+        if (!loaded) {
+            return;
+        }
+
+        bound = true;
+        rpgApi = RpgLevelingApi.resolve();
+        trackingSystem.addTrackedBossListener(this);
+        // Bosses restored before binding missed their tracked callback.
+        trackingSystem.snapshotTrackedBosses().forEach(this::onBossTracked);
+    }
+
     @Override
-    public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
-        if (trackingSystem == null) {
+    public void onBossTracked(UUID bossUuid, BossTrackingSystem.BossData bossData) {
+        if (bossUuid == null || bossData == null) {
+            return;
+        }
+        pendingHpChecks.put(bossUuid, HP_SETTLE_CHECKS);
+        enforceBossLevelOverride(bossUuid, bossData);
+    }
+
+    @Override
+    public void onBossUntracked(UUID bossUuid) {
+        if (bossUuid == null) {
             return;
         }
+        pendingHpChecks.remove(bossUuid);
+        clearLevelOverride(bossUuid);
+    }
 
-        elapsedSeconds += Math.max(0f, dt);
-        if (elapsedSeconds < RESYNC_INTERVAL_SECONDS) {
+    @Override
+    public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
+        if (pendingHpChecks.isEmpty()) {
             return;
         }
-        elapsedSeconds = 0f;
 
-        if (!isRpgLevelingLoaded()) {
+        World tickWorld = WorldTickInterval.worldOf(store);
+        if (!resyncInterval.elapse(tickWorld, dt)) {
             return;
         }
 
-        Map<UUID, BossTrackingSystem.BossData> trackedBosses = trackingSystem.snapshotTrackedBosses();
-        Set<UUID> activeBossUuids = new HashSet<>(trackedBosses.keySet());
-        Object rpgPluginInstance = resolveRpgLevelingPluginInstance();
+        Iterator<Map.Entry<UUID, Integer>> iterator = pendingHpChecks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Integer> entry = iterator.next();
+            UUID bossUuid = entry.getKey();
+            BossTrackingSystem.BossData bossData = trackingSystem.getBossData(bossUuid);
+            if (bossData == null) {
+                iterator.remove();
+                continue;
+            }
+            if (bossData.world != tickWorld) {
+                continue;
+            }
 
-        for (Map.Entry<UUID, BossTrackingSystem.BossData> entry : trackedBosses.entrySet()) {
-            enforceBossHpScale(entry.getKey(), entry.getValue());
-            enforceBossLevelOverride(entry.getKey(), entry.getValue(), rpgPluginInstance);
+            if (enforceBossHpScale(bossUuid, bossData)) {
+                entry.setValue(HP_SETTLE_CHECKS);
+            } else if (entry.getValue() <= 1) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() - 1);
+            }
         }
-        pruneStaleLevelOverrides(activeBossUuids, rpgPluginInstance);
     }
 
-    private void enforceBossHpScale(UUID bossUuid, BossTrackingSystem.BossData bossData) {
+    /**
+     * Returns {@code true} when the boss had to be corrected, i.e. its health-modifier set changed since the last check.
+     */
+    private boolean enforceBossHpScale(UUID bossUuid, BossTrackingSystem.BossData bossData) {
         if (bossUuid == null || bossData == null || bossData.world == null || bossData.modifiers == null) {
-            return;
+            return false;
         }
 
         float desiredMultiplier = Math.max(0.01f, bossData.modifiers.hpMultiplier());
@@ -83,18 +139,20 @@ public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<Entity
         try {
             var bossRef = bossData.world.getEntityRef(bossUuid);
             if (bossRef == null || !bossRef.isValid()) {
-                return;
+                return false;
             }
 
             var entityStore = bossData.world.getEntityStore().getStore();
             Object statMapObj = entityStore.getComponent(bossRef, EntityStatMap.getComponentType());
             if (!(statMapObj instanceof EntityStatMap statMap)) {
-                return;
+                return false;
             }
 
             int healthIndex = DefaultEntityStatTypes.getHealth();
+            boolean changed = false;
             Modifier rpgModifier = statMap.getModifier(healthIndex, RPG_LEVELING_HP_MODIFIER_KEY);
             if (rpgModifier != null) {
+                changed = true;
                 statMap.removeModifier(healthIndex, RPG_LEVELING_HP_MODIFIER_KEY);
                 LOGGER.log(
                         Level.INFO,
@@ -111,7 +169,7 @@ public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<Entity
                     && staticModifier.getTarget() == Modifier.ModifierTarget.MAX
                     && staticModifier.getCalculationType() == StaticModifier.CalculationType.MULTIPLICATIVE
                     && nearlyEqual(staticModifier.getAmount(), desiredMultiplier)) {
-                return;
+                return changed;
             }
 
             StaticModifier bossHealthModifier = new StaticModifier(
@@ -129,105 +187,54 @@ public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<Entity
                             String.format("%.4f", desiredMultiplier)
                     }
             );
+            return true;
         } catch (Exception e) {
             LOGGER.log(Level.FINE, "Failed to enforce boss HP scale compatibility for " + bossUuid, e);
+            return false;
         }
     }
 
-    private void enforceBossLevelOverride(UUID bossUuid,
-                                          BossTrackingSystem.BossData bossData,
-                                          Object rpgPluginInstance) {
-        if (bossUuid == null || bossData == null || rpgPluginInstance == null) {
-            return;
-        }
-        if (rpgPutSpawnLevelMethod == null || rpgRemoveSpawnLevelMethod == null) {
+    private void enforceBossLevelOverride(UUID bossUuid, BossTrackingSystem.BossData bossData) {
+        RpgLevelingApi api = rpgApi;
+        if (api == null) {
             return;
         }
 
         int desiredLevel = bossData.levelOverride >= 1 ? bossData.levelOverride : 0;
         Integer currentLevel = appliedLevelOverrides.get(bossUuid);
-
-        try {
-            if (desiredLevel >= 1) {
-                if (currentLevel != null && currentLevel == desiredLevel) {
-                    return;
-                }
-                rpgPutSpawnLevelMethod.invoke(rpgPluginInstance, bossUuid, desiredLevel);
-                appliedLevelOverrides.put(bossUuid, desiredLevel);
-                return;
+        if (desiredLevel < 1) {
+            if (currentLevel != null) {
+                clearLevelOverride(bossUuid);
             }
-
-            if (currentLevel == null) {
-                return;
-            }
-            rpgRemoveSpawnLevelMethod.invoke(rpgPluginInstance, bossUuid);
-            appliedLevelOverrides.remove(bossUuid);
-        } catch (Exception e) {
-            LOGGER.log(Level.FINE, "Failed to enforce RPGLeveling level override for " + bossUuid, e);
-        }
-    }
-
-    private void pruneStaleLevelOverrides(Set<UUID> activeBossUuids, Object rpgPluginInstance) {
-        if (appliedLevelOverrides.isEmpty()) {
             return;
         }
-        if (rpgPluginInstance == null || rpgRemoveSpawnLevelMethod == null) {
-            appliedLevelOverrides.clear();
+        if (currentLevel != null && currentLevel == desiredLevel) {
             return;
         }
 
-        for (UUID bossUuid : new HashSet<>(appliedLevelOverrides.keySet())) {
-            if (activeBossUuids.contains(bossUuid)) {
-                continue;
-            }
-            try {
-                rpgRemoveSpawnLevelMethod.invoke(rpgPluginInstance, bossUuid);
-            } catch (Exception e) {
-                LOGGER.log(Level.FINE, "Failed to clear stale RPGLeveling level override for " + bossUuid, e);
-            }
-            appliedLevelOverrides.remove(bossUuid);
-        }
-    }
-
-    private Object resolveRpgLevelingPluginInstance() {
-        resolveRpgLevelingLevelApi();
-        if (rpgGetMethod == null) {
-            return null;
-        }
         try {
-            return rpgGetMethod.invoke(null);
-        } catch (Exception e) {
-            LOGGER.log(Level.FINE, "Failed to get RPGLeveling plugin instance", e);
-            return null;
+            api.putSpawnLevel.invokeExact(api.instance(), bossUuid, desiredLevel);
+            appliedLevelOverrides.put(bossUuid, desiredLevel);
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "Failed to enforce RPGLeveling level override for " + bossUuid, e);
         }
     }
 
-    private void resolveRpgLevelingLevelApi() {
-        if (rpgLevelApiResolved) {
+    private void clearLevelOverride(UUID bossUuid) {
+        if (appliedLevelOverrides.remove(bossUuid) == null) {
+            return;
+        }
+        RpgLevelingApi api = rpgApi;
+        if (api == null) {
             return;
         }
-        rpgLevelApiResolved = true;
         try {
-            Class<?> pluginClass = Class.forName("org.zuxaw.plugin.RPGLevelingPlugin");
-            rpgGetMethod = pluginClass.getMethod("get");
-            rpgPutSpawnLevelMethod = pluginClass.getMethod("putSpawnLevelForEntity", UUID.class, int.class);
-            rpgRemoveSpawnLevelMethod = pluginClass.getMethod("removeSpawnLevelForEntity", UUID.class);
-        } catch (Exception e) {
-            rpgGetMethod = null;
-            rpgPutSpawnLevelMethod = null;
-            rpgRemoveSpawnLevelMethod = null;
-            LOGGER.log(Level.INFO, "BossArena compat could not resolve RPGLeveling level override API", e);
+            api.removeSpawnLevel.invokeExact(api.instance(), bossUuid);
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "Failed to clear RPGLeveling level override for " + bossUuid, e);
         }
     }
 
-    private void resetRpgLevelingCompatState() {
-        appliedLevelOverrides.clear();
-        rpgGetMethod = null;
-        rpgPutSpawnLevelMethod = null;
-        rpgRemoveSpawnLevelMethod = null;
-        rpgLevelApiResolved = false;
-    }
-
     private static boolean nearlyEqual(float a, float b) {
         return Math.abs(a - b) < EPSILON;
     }
@@ -246,21 +253,32 @@ public final class RPGLevelingBossScaleCompatSystem extends TickingSystem<Entity
         return modifier.getClass().getSimpleName();
     }
 
-    private boolean isRpgLevelingLoaded() {
-        PluginManager pluginManager = PluginManager.get();
-        boolean loaded = pluginManager != null
-                && pluginManager.hasPlugin(BossArenaPlugin.RPG_LEVELING_PLUGIN_ID, SemverRange.WILDCARD);
-        if (!loadStateKnown || loaded != lastRpgLevelingLoaded) {
-            if (!loaded) {
-                resetRpgLevelingCompatState();
-            } else if (loadStateKnown && !lastRpgLevelingLoaded) {
-                // Plugin transitioned from unloaded to loaded; resolve API again.
-                rpgLevelApiResolved = false;
+    /**
+     * RPGLeveling's spawn-level API as method handles, resolved once and adapted to exact call-site types.
+     */
+    private record RpgLevelingApi(MethodHandle get, MethodHandle putSpawnLevel, MethodHandle removeSpawnLevel) {
+        private static RpgLevelingApi resolve() {
+            try {
+                Class<?> pluginClass = Class.forName("org.zuxaw.plugin.RPGLevelingPlugin");
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                MethodHandle get = lookup.unreflect(pluginClass.getMethod("get"))
+                        .asType(MethodType.methodType(Object.class));
+                MethodHandle put = lookup.unreflect(pluginClass.getMethod("putSpawnLevelForEntity", UUID.class, int.class))
+                        .asType(MethodType.methodType(void.class, Object.class, UUID.class, int.class));
+                MethodHandle remove = lookup.unreflect(pluginClass.getMethod("removeSpawnLevelForEntity", UUID.class))
+                        .asType(MethodType.methodType(void.class, Object.class, UUID.class));
+                return new RpgLevelingApi(get, put, remove);
+            } catch (Exception e) {
+                LOGGER.log(Level.INFO, "BossArena compat could not resolve RPGLeveling level override API", e);
+                return null;
             }
-            LOGGER.info("BossArena compat RPGLeveling loaded state: " + loaded);
-            loadStateKnown = true;
-            lastRpgLevelingLoaded = loaded;
         }
-        return loaded;
+
+        /**
+         * RPGLeveling's plugin instance is looked up per call so a reloaded plugin is picked up.
+         */
+        private Object instance() throws Throwable {
+            return (Object) get.invokeExact();
+        }
     }
 }
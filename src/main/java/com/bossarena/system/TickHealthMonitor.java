@@ -0,0 +1,167 @@
+package com.bossarena.system;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Per-world tick health, sampled once per tick from {@link WaveSpawnSystem}. The engine's {@code dt} is the step a
+ * tick is meant to take; wall time between two ticks beyond it is drift. A smoothed ratio of the two picks a load
+ * tier, and BossArena's own periodic work (banners, scalers, non-critical waves, chest placement) backs off by the
+ * tier's stretch factor until the tick recovers.
+ * <p>
+ * Escalation is immediate; stepping back down waits until the ratio has stayed below the tier's exit level for
+ * {@link #RECOVERY_DWELL_MS}, so a tier does not flap on a borderline tick.
+ */
+public final class TickHealthMonitor {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final double SMOOTHING = 0.1d;
+    private static final double MIN_EXPECTED_MS = 1.0d;
+    // Longer gaps are a paused or reloading world, not a slow tick.
+    private static final double MAX_SAMPLE_MS = 5_000.0d;
+    private static final long RECOVERY_DWELL_MS = 5_000L;
+    private static final Map<World, Health> BY_WORLD = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public enum Tier {
+        NORMAL(1.0f, 0.0d, 0.0d),
+        STRAINED(2.0f, 1.5d, 1.2d),
+        CRITICAL(4.0f, 2.5d, 2.0d);
+
+        private final float stretch;
+        private final double enterRatio;
+        private final double exitRatio;
+
+        Tier(float stretch, double enterRatio, double exitRatio) {
+            this.stretch = stretch;
+            this.enterRatio = enterRatio;
+            this.exitRatio = exitRatio;
+        }
+
+        /** How much longer periodic work waits between runs in this tier. */
+        public float stretch() {
+            return stretch;
+        }
+    }
+
+    private TickHealthMonitor() {
+    }
+
+    /** Records one tick of {@code world}; call from the world thread exactly once per tick. */
+    static void sample(World world, float dt) {
+        if (world == null) {
+            return;
+        }
+        Health health = BY_WORLD.computeIfAbsent(world, ignored -> new Health());
+        long now = System.nanoTime();
+        long last = health.lastTickNanos;
+        health.lastTickNanos = now;
+        if (last == 0L) {
+            return;
+        }
+
+        double wallMs = (now - last) / 1_000_000.0d;
+        double expectedMs = Math.max(MIN_EXPECTED_MS, dt * 1000.0d);
+        if (!(wallMs < MAX_SAMPLE_MS) || !Double.isFinite(expectedMs)) {
+            return;
+        }
+        double ratio = wallMs / expectedMs;
+        health.smoothedRatio = health.samples == 0
+                ? ratio
+                : health.smoothedRatio + SMOOTHING * (ratio - health.smoothedRatio);
+        health.smoothedTickMs = health.samples == 0
+                ? wallMs
+                : health.smoothedTickMs + SMOOTHING * (wallMs - health.smoothedTickMs);
+        health.worstTickMs = Math.max(health.worstTickMs, wallMs);
+        health.samples++;
+        evaluate(world, health, now);
+    }
+
+    public static Tier tierOf(World world) {
+        Health health = world != null ? BY_WORLD.get(world) : null;
+        return health != null ? health.tier : Tier.NORMAL;
+    }
+
+    public static float stretchFor(World world) {
+        return tierOf(world).stretch;
+    }
+
+    /** Whether non-critical BossArena work in {@code world} should be put off for now. */
+    public static boolean isShedding(World world) {
+        return tierOf(world) != Tier.NORMAL;
+    }
+
+    public static String describe(World world) {
+        Health health = world != null ? BY_WORLD.get(world) : null;
+        if (health == null || health.samples == 0) {
+            return "no samples";
+        }
+        synchronized (health) {
+            return "tier=" + health.tier.name().toLowerCase(Locale.ROOT)
+                    + String.format(Locale.ROOT, ", tick=%.1fms (%.2fx), worst=%.1fms",
+                    health.smoothedTickMs, health.smoothedRatio, health.worstTickMs)
+                    + ", in tier " + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - health.tierSinceNanos) + "s"
+                    + ", transitions: strained=" + health.entered[Tier.STRAINED.ordinal()]
+                    + ", critical=" + health.entered[Tier.CRITICAL.ordinal()]
+                    + ", recovered=" + health.entered[Tier.NORMAL.ordinal()];
+        }
+    }
+
+    public static void clear() {
+        BY_WORLD.clear();
+    }
+
+    private static void evaluate(World world, Health health, long now) {
+        Tier current = health.tier;
+        double ratio = health.smoothedRatio;
+        Tier next = current;
+        if (current != Tier.CRITICAL && ratio >= Tier.CRITICAL.enterRatio) {
+            next = Tier.CRITICAL;
+        } else if (current == Tier.NORMAL && ratio >= Tier.STRAINED.enterRatio) {
+            next = Tier.STRAINED;
+        } else if (current != Tier.NORMAL && ratio < current.exitRatio) {
+            if (health.recoveringSinceNanos == 0L) {
+                health.recoveringSinceNanos = now;
+            }
+            if (now - health.recoveringSinceNanos >= TimeUnit.MILLISECONDS.toNanos(RECOVERY_DWELL_MS)) {
+                next = Tier.values()[current.ordinal() - 1];
+            }
+        } else {
+            health.recoveringSinceNanos = 0L;
+        }
+        if (next == current) {
+            return;
+        }
+
+        synchronized (health) {
+            health.tier = next;
+            health.tierSinceNanos = now;
+            health.recoveringSinceNanos = 0L;
+            health.entered[next.ordinal()]++;
+        }
+        String message = "World '" + world.getName() + "' tick health " + current.name() + " -> " + next.name()
+                + String.format(Locale.ROOT, " (tick %.1fms, %.2fx expected)", health.smoothedTickMs, ratio);
+        if (next.ordinal() > current.ordinal()) {
+            LOGGER.warning(message + "; BossArena periodic work now runs " + next.stretch + "x less often.");
+        } else {
+            LOGGER.info(message + ".");
+        }
+    }
+
+    private static final class Health {
+        // Written on the world thread only; read elsewhere for reporting.
+        private long lastTickNanos;
+        private long samples;
+        private double smoothedRatio;
+        private double smoothedTickMs;
+        private double worstTickMs;
+        private long recoveringSinceNanos;
+        private volatile Tier tier = Tier.NORMAL;
+        private long tierSinceNanos = System.nanoTime();
+        private final long[] entered = new long[Tier.values().length];
+    }
+}
@@ -0,0 +1,406 @@
+package com.bossarena.system;
+
+import com.bossarena.boss.BossModifiers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Add-to-boss links for tracked adds, replacing a boxed-UUID map per attribute plus a key set per boss. Adds and
+ * bosses are found through open-addressing indexes keyed by the UUID's two longs; each add gets an int handle
+ * into column arrays, and a boss's adds are an intrusive doubly linked list through those columns.
+ * <p>
+ * Wave bosses can accumulate thousands of adds per event, so the per-add cost here is a few array slots rather
+ * than three map nodes and a set node. All methods lock the table; visitors run outside the lock.
+ */
+final class TrackedAddTable {
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final UuidIndex addIndex = new UuidIndex();
+    private final UuidIndex bossIndex = new UuidIndex();
+
+    // Add columns, indexed by add handle. nextInGroup doubles as the free-list link for released handles.
+    private long[] addMost = new long[INITIAL_CAPACITY];
+    private long[] addLeast = new long[INITIAL_CAPACITY];
+    private int[] addGroup = new int[INITIAL_CAPACITY];
+    private int[] nextInGroup = new int[INITIAL_CAPACITY];
+    private int[] prevInGroup = new int[INITIAL_CAPACITY];
+    private BossModifiers[] addModifiers = new BossModifiers[INITIAL_CAPACITY];
+    private int addHighWater;
+    private int freeAdd = NONE;
+
+    // Boss group columns, indexed by group handle. groupHead doubles as the free-list link.
+    private long[] bossMost = new long[INITIAL_CAPACITY];
+    private long[] bossLeast = new long[INITIAL_CAPACITY];
+    private int[] groupHead = new int[INITIAL_CAPACITY];
+    private int[] groupSize = new int[INITIAL_CAPACITY];
+    private int groupHighWater;
+    private int freeGroup = NONE;
+
+    /**
+     * Links {@code addUuid} to {@code bossUuid}, moving it if it was linked to another boss.
+     */
+    synchronized void put(UUID addUuid, UUID bossUuid, BossModifiers modifiers) {
+        if (addUuid == null || bossUuid == null) {
+            return;
+        }
+        int group = bossIndex.get(bossUuid.getMostSignificantBits(), bossUuid.getLeastSignificantBits());
+        if (group == NONE) {
+            group = allocateGroup(bossUuid);
+        }
+
+        int handle = addIndex.get(addUuid.getMostSignificantBits(), addUuid.getLeastSignificantBits());
+        if (handle == NONE) {
+            handle = allocateAdd(addUuid);
+        } else if (addGroup[handle] != group) {
+            unlink(handle);
+        } else {
+            addModifiers[handle] = modifiers;
+            return;
+        }
+        addModifiers[handle] = modifiers;
+        link(handle, group);
+    }
+
+    synchronized boolean contains(UUID addUuid) {
+        return handleOf(addUuid) != NONE;
+    }
+
+    synchronized UUID bossOf(UUID addUuid) {
+        int handle = handleOf(addUuid);
+        if (handle == NONE) {
+            return null;
+        }
+        int group = addGroup[handle];
+        return new UUID(bossMost[group], bossLeast[group]);
+    }
+
+    synchronized BossModifiers modifiersOf(UUID addUuid) {
+        int handle = handleOf(addUuid);
+        return handle != NONE ? addModifiers[handle] : null;
+    }
+
+    synchronized int countForBoss(UUID bossUuid) {
+        int group = groupOf(bossUuid);
+        return group != NONE ? groupSize[group] : 0;
+    }
+
+    /**
+     * Unlinks {@code addUuid} and returns the boss it belonged to, or {@code null} if it was not tracked.
+     */
+    synchronized UUID remove(UUID addUuid) {
+        if (addUuid == null) {
+            return null;
+        }
+        int handle = addIndex.remove(addUuid.getMostSignificantBits(), addUuid.getLeastSignificantBits());
+        if (handle == NONE) {
+            return null;
+        }
+        int group = addGroup[handle];
+        UUID bossUuid = new UUID(bossMost[group], bossLeast[group]);
+        unlink(handle);
+        releaseAdd(handle);
+        return bossUuid;
+    }
+
+    /**
+     * Unlinks every add of {@code bossUuid} and returns them.
+     */
+    synchronized List<UUID> removeBoss(UUID bossUuid) {
+        int group = groupOf(bossUuid);
+        if (group == NONE) {
+            return List.of();
+        }
+        List<UUID> removed = new ArrayList<>(groupSize[group]);
+        int handle = groupHead[group];
+        while (handle != NONE) {
+            int next = nextInGroup[handle];
+            removed.add(new UUID(addMost[handle], addLeast[handle]));
+            addIndex.remove(addMost[handle], addLeast[handle]);
+            releaseAdd(handle);
+            handle = next;
+        }
+        groupSize[group] = 0;
+        groupHead[group] = NONE;
+        releaseGroup(group);
+        return removed;
+    }
+
+    synchronized Set<UUID> addsOf(UUID bossUuid) {
+        int group = groupOf(bossUuid);
+        if (group == NONE) {
+            return Set.of();
+        }
+        Set<UUID> out = new HashSet<>(groupSize[group] * 2);
+        for (int handle = groupHead[group]; handle != NONE; handle = nextInGroup[handle]) {
+            out.add(new UUID(addMost[handle], addLeast[handle]));
+        }
+        return out;
+    }
+
+    synchronized List<UUID> adds() {
+        List<UUID> out = new ArrayList<>(addIndex.size());
+        addIndex.forEachValue(handle -> out.add(new UUID(addMost[handle], addLeast[handle])));
+        return out;
+    }
+
+    /**
+     * Visits every {@code (addUuid, bossUuid)} link from a copy taken under the lock.
+     */
+    void forEach(BiConsumer<UUID, UUID> visitor) {
+        long[] links;
+        synchronized (this) {
+            links = new long[addIndex.size() * 4];
+            int[] cursor = {0};
+            addIndex.forEachValue(handle -> {
+                int group = addGroup[handle];
+                int at = cursor[0];
+                links[at] = addMost[handle];
+                links[at + 1] = addLeast[handle];
+                links[at + 2] = bossMost[group];
+                links[at + 3] = bossLeast[group];
+                cursor[0] = at + 4;
+            });
+        }
+        for (int i = 0; i < links.length; i += 4) {
+            visitor.accept(new UUID(links[i], links[i + 1]), new UUID(links[i + 2], links[i + 3]));
+        }
+    }
+
+    synchronized void clear() {
+        addIndex.clear();
+        bossIndex.clear();
+        Arrays.fill(addModifiers, 0, addHighWater, null);
+        addHighWater = 0;
+        freeAdd = NONE;
+        groupHighWater = 0;
+        freeGroup = NONE;
+    }
+
+    private int handleOf(UUID addUuid) {
+        return addUuid != null
+                ? addIndex.get(addUuid.getMostSignificantBits(), addUuid.getLeastSignificantBits())
+                : NONE;
+    }
+
+    private int groupOf(UUID bossUuid) {
+        return bossUuid != null
+                ? bossIndex.get(bossUuid.getMostSignificantBits(), bossUuid.getLeastSignificantBits())
+                : NONE;
+    }
+
+    private int allocateAdd(UUID addUuid) {
+        int handle = freeAdd;
+        if (handle != NONE) {
+            freeAdd = nextInGroup[handle];
+        } else {
+            if (addHighWater == addMost.length) {
+                int capacity = addMost.length * 2;
+                addMost = Arrays.copyOf(addMost, capacity);
+                addLeast = Arrays.copyOf(addLeast, capacity);
+                addGroup = Arrays.copyOf(addGroup, capacity);
+                nextInGroup = Arrays.copyOf(nextInGroup, capacity);
+                prevInGroup = Arrays.copyOf(prevInGroup, capacity);
+                addModifiers = Arrays.copyOf(addModifiers, capacity);
+            }
+            handle = addHighWater++;
+        }
+        addMost[handle] = addUuid.getMostSignificantBits();
+        addLeast[handle] = addUuid.getLeastSignificantBits();
+        addGroup[handle] = NONE;
+        addIndex.put(addMost[handle], addLeast[handle], handle);
+        return handle;
+    }
+
+    private void releaseAdd(int handle) {
+        addModifiers[handle] = null;
+        addGroup[handle] = NONE;
+        nextInGroup[handle] = freeAdd;
+        freeAdd = handle;
+    }
+
+    private int allocateGroup(UUID bossUuid) {
+        int group = freeGroup;
+        if (group != NONE) {
+            freeGroup = groupHead[group];
+        } else {
+            if (groupHighWater == bossMost.length) {
+                int capacity = bossMost.length * 2;
+                bossMost = Arrays.copyOf(bossMost, capacity);
+                bossLeast = Arrays.copyOf(bossLeast, capacity);
+                groupHead = Arrays.copyOf(groupHead, capacity);
+                groupSize = Arrays.copyOf(groupSize, capacity);
+            }
+            group = groupHighWater++;
+        }
+        bossMost[group] = bossUuid.getMostSignificantBits();
+        bossLeast[group] = bossUuid.getLeastSignificantBits();
+        groupHead[group] = NONE;
+        groupSize[group] = 0;
+        bossIndex.put(bossMost[group], bossLeast[group], group);
+        return group;
+    }
+
+    private void releaseGroup(int group) {
+        bossIndex.remove(bossMost[group], bossLeast[group]);
+        groupHead[group] = freeGroup;
+        freeGroup = group;
+    }
+
+    private void link(int handle, int group) {
+        int head = groupHead[group];
+        addGroup[handle] = group;
+        prevInGroup[handle] = NONE;
+        nextInGroup[handle] = head;
+        if (head != NONE) {
+            prevInGroup[head] = handle;
+        }
+        groupHead[group] = handle;
+        groupSize[group]++;
+    }
+
+    /**
+     * Takes {@code handle} out of its boss's list, dropping the boss group once it has no adds left.
+     */
+    private void unlink(int handle) {
+        int group = addGroup[handle];
+        if (group == NONE) {
+            return;
+        }
+        int prev = prevInGroup[handle];
+        int next = nextInGroup[handle];
+        if (prev != NONE) {
+            nextInGroup[prev] = next;
+        } else {
+            groupHead[group] = next;
+        }
+        if (next != NONE) {
+            prevInGroup[next] = prev;
+        }
+        addGroup[handle] = NONE;
+        if (--groupSize[group] == 0) {
+            releaseGroup(group);
+        }
+    }
+
+    /**
+     * Linear-probing map from a UUID's two longs to an int handle. Removal shifts later entries back instead of
+     * leaving tombstones, so lookups never degrade as adds churn.
+     */
+    private static final class UuidIndex {
+        private static final float LOAD_FACTOR = 0.75f;
+
+        private long[] most = new long[INITIAL_CAPACITY];
+        private long[] least = new long[INITIAL_CAPACITY];
+        private int[] values = filledSlots(INITIAL_CAPACITY);
+        private int size;
+        private int shift = 64 - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+
+        private static int[] filledSlots(int capacity) {
+            int[] slots = new int[capacity];
+            Arrays.fill(slots, NONE);
+            return slots;
+        }
+
+        private int home(long keyMost, long keyLeast) {
+            long mixed = (keyMost ^ keyLeast) * 0x9E3779B97F4A7C15L;
+            return (int) (mixed >>> shift);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(long keyMost, long keyLeast) {
+            int mask = values.length - 1;
+            for (int slot = home(keyMost, keyLeast); values[slot] != NONE; slot = (slot + 1) & mask) {
+                if (most[slot] == keyMost && least[slot] == keyLeast) {
+                    return values[slot];
+                }
+            }
+            return NONE;
+        }
+
+        void put(long keyMost, long keyLeast, int value) {
+            if (size + 1 > values.length * LOAD_FACTOR) {
+                resize(values.length * 2);
+            }
+            int mask = values.length - 1;
+            int slot = home(keyMost, keyLeast);
+            while (values[slot] != NONE) {
+                if (most[slot] == keyMost && least[slot] == keyLeast) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            most[slot] = keyMost;
+            least[slot] = keyLeast;
+            values[slot] = value;
+            size++;
+        }
+
+        int remove(long keyMost, long keyLeast) {
+            int mask = values.length - 1;
+            int slot = home(keyMost, keyLeast);
+            while (values[slot] != NONE && (most[slot] != keyMost || least[slot] != keyLeast)) {
+                slot = (slot + 1) & mask;
+            }
+            int removed = values[slot];
+            if (removed == NONE) {
+                return NONE;
+            }
+
+            int hole = slot;
+            for (int i = (hole + 1) & mask; values[i] != NONE; i = (i + 1) & mask) {
+                int home = home(most[i], least[i]);
+                // The entry may fill the hole only if the hole lies on its probe path from home to i.
+                if (((i - home) & mask) >= ((i - hole) & mask)) {
+                    most[hole] = most[i];
+                    least[hole] = least[i];
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            values[hole] = NONE;
+            size--;
+            return removed;
+        }
+
+        void forEachValue(IntConsumer visitor) {
+            for (int value : values) {
+                if (value != NONE) {
+                    visitor.accept(value);
+                }
+            }
+        }
+
+        void clear() {
+            Arrays.fill(values, NONE);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldMost = most;
+            long[] oldLeast = least;
+            int[] oldValues = values;
+            most = new long[capacity];
+            least = new long[capacity];
+            values = filledSlots(capacity);
+            shift = 64 - Integer.numberOfTrailingZeros(capacity);
+            size = 0;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != NONE) {
+                    put(oldMost[i], oldLeast[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
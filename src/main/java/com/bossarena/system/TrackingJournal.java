@@ -0,0 +1,103 @@
+package com.bossarena.system;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only, line-oriented journal that sits next to a snapshot file. Each {@link #append} is one write
+ * followed by one fsync, so callers batch records per autosave rather than per change.
+ */
+public final class TrackingJournal {
+    private final Path path;
+
+    TrackingJournal(Path snapshotPath) {
+        this.path = pathFor(snapshotPath);
+    }
+
+    /** The journal file that belongs to {@code snapshotPath}. */
+    public static Path pathFor(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName().toString() + ".journal");
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sizeBytes() {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0L;
+        } catch (IOException ignored) {
+            return 0L;
+        }
+    }
+
+    void append(List<String> lines) throws IOException {
+        if (lines == null || lines.isEmpty()) {
+            return;
+        }
+        StringBuilder out = new StringBuilder(lines.size() * 256);
+        for (String line : lines) {
+            out.append(line).append('\n');
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(out.toString());
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns every complete line in the journal. A trailing line without a newline is a torn write from a
+     * crash mid-append and is dropped.
+     */
+    List<String> readLines() throws IOException {
+        if (Files.notExists(path)) {
+            return List.of();
+        }
+        String raw;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            StringBuilder all = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                all.append(buffer, 0, read);
+            }
+            raw = all.toString();
+        }
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        int newline;
+        while ((newline = raw.indexOf('\n', start)) >= 0) {
+            if (newline > start) {
+                lines.add(raw.substring(start, newline));
+            }
+            start = newline + 1;
+        }
+        return lines;
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    void truncate() throws IOException {
+        if (Files.notExists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(0L);
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.bossarena.system;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index of tracked bosses, adds and events by world name. The tracking maps stay the source of truth;
+ * this only lets a world's tick enumerate its own entries without walking every world's state.
+ */
+final class TrackingWorldIndex {
+    private final Map<String, Partition> byWorld = new ConcurrentHashMap<>();
+    private final Map<UUID, Partition> bossOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, Partition> addOwner = new ConcurrentHashMap<>();
+    private final Map<UUID, Partition> eventOwner = new ConcurrentHashMap<>();
+
+    private static String worldKey(World world) {
+        String name = world != null ? world.getName() : null;
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    void putBoss(World world, UUID bossUuid) {
+        put(world, bossUuid, bossOwner, Kind.BOSS);
+    }
+
+    void removeBoss(UUID bossUuid) {
+        remove(bossUuid, bossOwner, Kind.BOSS);
+    }
+
+    void putAdd(World world, UUID addUuid) {
+        put(world, addUuid, addOwner, Kind.ADD);
+    }
+
+    void removeAdd(UUID addUuid) {
+        remove(addUuid, addOwner, Kind.ADD);
+    }
+
+    void putEvent(World world, UUID eventId) {
+        put(world, eventId, eventOwner, Kind.EVENT);
+    }
+
+    void removeEvent(UUID eventId) {
+        remove(eventId, eventOwner, Kind.EVENT);
+    }
+
+    void clear() {
+        byWorld.clear();
+        bossOwner.clear();
+        addOwner.clear();
+        eventOwner.clear();
+    }
+
+    Set<UUID> bosses(World world) {
+        Partition partition = partition(world);
+        return partition != null ? partition.bosses : Set.of();
+    }
+
+    Set<UUID> adds(World world) {
+        Partition partition = partition(world);
+        return partition != null ? partition.adds : Set.of();
+    }
+
+    int addCount(World world) {
+        Partition partition = partition(world);
+        return partition != null ? partition.adds.size() : 0;
+    }
+
+    Set<UUID> events(World world) {
+        Partition partition = partition(world);
+        return partition != null ? partition.events : Set.of();
+    }
+
+    private Partition partition(World world) {
+        String key = worldKey(world);
+        return key != null ? byWorld.get(key) : null;
+    }
+
+    private void put(World world, UUID id, Map<UUID, Partition> owners, Kind kind) {
+        String key = worldKey(world);
+        if (id == null || key == null) {
+            return;
+        }
+        Partition partition = byWorld.computeIfAbsent(key, ignored -> new Partition());
+        Partition previous = owners.put(id, partition);
+        if (previous != null && previous != partition) {
+            kind.members(previous).remove(id);
+        }
+        kind.members(partition).add(id);
+    }
+
+    private void remove(UUID id, Map<UUID, Partition> owners, Kind kind) {
+        if (id == null) {
+            return;
+        }
+        Partition partition = owners.remove(id);
+        if (partition != null) {
+            kind.members(partition).remove(id);
+        }
+    }
+
+    private enum Kind {
+        BOSS, ADD, EVENT;
+
+        private Set<UUID> members(Partition partition) {
+            return switch (this) {
+                case BOSS -> partition.bosses;
+                case ADD -> partition.adds;
+                case EVENT -> partition.events;
+            };
+        }
+    }
+
+    private static final class Partition {
+        private final Set<UUID> bosses = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> adds = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> events = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,40 @@
+package com.bossarena.system;
+
+import com.bossarena.BossArenaConfig;
+import com.bossarena.BossArenaPlugin;
+import com.bossarena.spawn.BossSpawnService;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Streams queued wave adds into each world at the configured per-tick budget. Ticks every tick in every world, so
+ * it also feeds the world's {@link TickHealthMonitor}; the budget shrinks by the tier's stretch while shedding.
+ */
+public class WaveSpawnSystem extends TickingSystem<EntityStore> {
+    private static final int DEFAULT_SPAWNS_PER_TICK = 8;
+
+    @Override
+    public void tick(float dt, int index, @Nonnull Store<EntityStore> store) {
+        BossArenaPlugin plugin = BossArenaPlugin.getInstance();
+        BossSpawnService spawnService = plugin != null ? plugin.getBossSpawnService() : null;
+        if (spawnService == null) {
+            return;
+        }
+        World world = WorldTickInterval.worldOf(store);
+        if (world == null) {
+            return;
+        }
+        TickHealthMonitor.sample(world, dt);
+        int budget = (int) Math.ceil(resolveSpawnsPerTick(plugin) / TickHealthMonitor.stretchFor(world));
+        spawnService.drainWaveSpawns(world, Math.max(1, budget));
+    }
+
+    private static int resolveSpawnsPerTick(BossArenaPlugin plugin) {
+        BossArenaConfig config = plugin.getConfigHandle();
+        return config != null ? config.getWaveSpawnsPerTick() : DEFAULT_SPAWNS_PER_TICK;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bossarena.system;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Interval accumulator for ticking systems that run every few seconds. A system is ticked once per world store,
+ * so the elapsed time is kept per world; a single shared counter would fire W times too often.
+ * <p>
+ * A sheddable interval is stretched by the world's {@link TickHealthMonitor} tier while its tick runs long.
+ */
+final class WorldTickInterval {
+    private final float intervalSeconds;
+    private final boolean sheddable;
+    // [elapsed, interval the last firing was measured against]
+    private final Map<World, float[]> elapsedByWorld = Collections.synchronizedMap(new WeakHashMap<>());
+
+    WorldTickInterval(float intervalSeconds) {
+        this(intervalSeconds, false);
+    }
+
+    WorldTickInterval(float intervalSeconds, boolean sheddable) {
+        this.intervalSeconds = intervalSeconds;
+        this.sheddable = sheddable;
+    }
+
+    static World worldOf(Store<EntityStore> store) {
+        EntityStore entityStore = store != null ? store.getExternalData() : null;
+        return entityStore != null ? entityStore.getWorld() : null;
+    }
+
+    /**
+     * Adds {@code dt} to {@code world}'s counter and returns {@code true} (resetting it) once the interval is reached.
+     */
+    boolean elapse(World world, float dt) {
+        if (world == null) {
+            return false;
+        }
+        float[] elapsed = elapsedByWorld.computeIfAbsent(world, ignored -> new float[]{0f, intervalSeconds});
+        float interval = sheddable ? intervalSeconds * TickHealthMonitor.stretchFor(world) : intervalSeconds;
+        elapsed[0] += Math.max(0f, dt);
+        if (elapsed[0] < interval) {
+            return false;
+        }
+        elapsed[0] = 0f;
+        elapsed[1] = interval;
+        return true;
+    }
+
+    /**
+     * The interval {@code world}'s last firing waited for; differs from the configured one only while shedding.
+     */
+    float lastIntervalSeconds(World world) {
+        float[] elapsed = world != null ? elapsedByWorld.get(world) : null;
+        return elapsed != null ? elapsed[1] : intervalSeconds;
+    }
+}
@@ -0,0 +1,380 @@
+package com.bossarena.util;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared hashed timing wheel for every BossArena delay (waves, chest expiry, timed spawns, autosave, shop rebinds).
+ * Insert and cancel are O(1); timers bound to a world are handed to {@code world.execute} in one batch per world
+ * per tick, and timers tagged with an event id can be cancelled together.
+ */
+public final class BossArenaClock {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final long TICK_MS = 50L;
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final BossArenaClock SHARED = new BossArenaClock();
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final Map<UUID, Set<Timer>> timersByEvent = new HashMap<>();
+    private final Object lock = new Object();
+    private long currentTick;
+    private long startNanos;
+    private int pendingCount;
+    private Thread worker;
+
+    private BossArenaClock() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    public static BossArenaClock get() {
+        return SHARED;
+    }
+
+    /**
+     * Runs {@code task} on the clock thread. Keep these short; world work should use a world-bound overload.
+     */
+    public Timer schedule(Runnable task, long delayMs) {
+        return schedule(null, null, task, delayMs, 0L);
+    }
+
+    public Timer schedule(World world, Runnable task, long delayMs) {
+        return schedule(world, null, task, delayMs, 0L);
+    }
+
+    public Timer schedule(World world, UUID eventId, Runnable task, long delayMs) {
+        return schedule(world, eventId, task, delayMs, 0L);
+    }
+
+    public Timer scheduleAtFixedRate(Runnable task, long initialDelayMs, long periodMs) {
+        return schedule(null, null, task, initialDelayMs, Math.max(TICK_MS, periodMs));
+    }
+
+    private Timer schedule(World world, UUID eventId, Runnable task, long delayMs, long periodMs) {
+        Timer timer = new Timer(this, world, eventId, task, toTicks(periodMs));
+        if (task == null) {
+            timer.cancelled = true;
+            return timer;
+        }
+        synchronized (lock) {
+            ensureWorkerStarted();
+            insert(timer, currentTick + toTicks(delayMs));
+            if (eventId != null) {
+                timersByEvent.computeIfAbsent(eventId, ignored -> new HashSet<>()).add(timer);
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Cancels every pending timer tagged with {@code eventId}.
+     *
+     * @return number of timers cancelled
+     */
+    public int cancelEvent(UUID eventId) {
+        if (eventId == null) {
+            return 0;
+        }
+        synchronized (lock) {
+            Set<Timer> timers = timersByEvent.remove(eventId);
+            if (timers == null) {
+                return 0;
+            }
+            int cancelled = 0;
+            for (Timer timer : timers) {
+                if (cancelLocked(timer, false)) {
+                    cancelled++;
+                }
+            }
+            return cancelled;
+        }
+    }
+
+    public int getPendingTimerCount(UUID eventId) {
+        if (eventId == null) {
+            return 0;
+        }
+        synchronized (lock) {
+            Set<Timer> timers = timersByEvent.get(eventId);
+            return timers != null ? timers.size() : 0;
+        }
+    }
+
+    public int getPendingTimerCount() {
+        synchronized (lock) {
+            return pendingCount;
+        }
+    }
+
+    /**
+     * Drops every pending timer and stops the clock thread. The clock restarts lazily on the next schedule call.
+     */
+    public void shutdown() {
+        Thread stopping;
+        synchronized (lock) {
+            for (Bucket bucket : wheel) {
+                Timer timer = bucket.head;
+                while (timer != null) {
+                    Timer next = timer.next;
+                    timer.cancelled = true;
+                    timer.bucket = null;
+                    timer.prev = null;
+                    timer.next = null;
+                    timer = next;
+                }
+                bucket.head = null;
+                bucket.tail = null;
+            }
+            timersByEvent.clear();
+            pendingCount = 0;
+            stopping = worker;
+            worker = null;
+        }
+        if (stopping != null) {
+            stopping.interrupt();
+        }
+    }
+
+    private static long toTicks(long delayMs) {
+        if (delayMs <= 0L) {
+            return 0L;
+        }
+        return (delayMs + TICK_MS - 1L) / TICK_MS;
+    }
+
+    private void ensureWorkerStarted() {
+        if (worker != null) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        currentTick = 0L;
+        Thread t = new Thread(this::runLoop, "BossArena-Clock");
+        t.setDaemon(true);
+        worker = t;
+        t.start();
+    }
+
+    private void insert(Timer timer, long deadlineTick) {
+        timer.deadlineTick = deadlineTick;
+        timer.remainingRounds = (deadlineTick - currentTick) / WHEEL_SIZE;
+        wheel[(int) (deadlineTick & WHEEL_MASK)].append(timer);
+        pendingCount++;
+    }
+
+    private boolean cancelLocked(Timer timer, boolean unindex) {
+        if (timer.cancelled) {
+            return false;
+        }
+        timer.cancelled = true;
+        if (timer.bucket != null) {
+            timer.bucket.remove(timer);
+            pendingCount--;
+        }
+        if (unindex && timer.eventId != null) {
+            Set<Timer> timers = timersByEvent.get(timer.eventId);
+            if (timers != null) {
+                timers.remove(timer);
+                if (timers.isEmpty()) {
+                    timersByEvent.remove(timer.eventId);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void runLoop() {
+        Thread self = Thread.currentThread();
+        List<Timer> due = new ArrayList<>();
+        while (true) {
+            long tickToProcess;
+            synchronized (lock) {
+                if (worker != self) {
+                    return;
+                }
+                tickToProcess = currentTick;
+            }
+
+            long wakeAtNanos = startNanos + TimeUnit.MILLISECONDS.toNanos((tickToProcess + 1L) * TICK_MS);
+            long sleepNanos = wakeAtNanos - System.nanoTime();
+            if (sleepNanos > 0L) {
+                LockSupport.parkNanos(this, sleepNanos);
+                if (Thread.interrupted()) {
+                    continue;
+                }
+                if (System.nanoTime() < wakeAtNanos) {
+                    continue;
+                }
+            }
+
+            synchronized (lock) {
+                if (worker != self) {
+                    return;
+                }
+                collectDue(wheel[(int) (currentTick & WHEEL_MASK)], due);
+                currentTick++;
+            }
+
+            if (!due.isEmpty()) {
+                dispatch(due);
+                due.clear();
+            }
+        }
+    }
+
+    private void collectDue(Bucket bucket, List<Timer> due) {
+        Timer timer = bucket.head;
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.remainingRounds <= 0L) {
+                bucket.remove(timer);
+                pendingCount--;
+                if (timer.periodTicks > 0L) {
+                    // Fixed rate: re-arm before running so a slow task does not drift the schedule.
+                    insert(timer, Math.max(currentTick + 1L, timer.deadlineTick + timer.periodTicks));
+                } else if (timer.eventId != null) {
+                    Set<Timer> timers = timersByEvent.get(timer.eventId);
+                    if (timers != null) {
+                        timers.remove(timer);
+                        if (timers.isEmpty()) {
+                            timersByEvent.remove(timer.eventId);
+                        }
+                    }
+                }
+                due.add(timer);
+            } else {
+                timer.remainingRounds--;
+            }
+            timer = next;
+        }
+    }
+
+    private void dispatch(List<Timer> due) {
+        Map<World, List<Timer>> byWorld = null;
+        for (Timer timer : due) {
+            if (timer.world == null) {
+                timer.runSafely();
+                continue;
+            }
+            if (byWorld == null) {
+                byWorld = new IdentityHashMap<>();
+            }
+            byWorld.computeIfAbsent(timer.world, ignored -> new ArrayList<>()).add(timer);
+        }
+        if (byWorld == null) {
+            return;
+        }
+
+        for (Map.Entry<World, List<Timer>> entry : byWorld.entrySet()) {
+            World world = entry.getKey();
+            List<Timer> batch = entry.getValue();
+            try {
+                if (!world.isAlive()) {
+                    LOGGER.fine("Dropped " + batch.size() + " BossArena timer(s) for unloaded world " + world.getName());
+                    continue;
+                }
+                world.execute(() -> {
+                    for (Timer timer : batch) {
+                        timer.runSafely();
+                    }
+                });
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to dispatch BossArena timers to world " + world.getName(), e);
+            }
+        }
+    }
+
+    public static final class Timer {
+        private final BossArenaClock clock;
+        private final World world;
+        private final UUID eventId;
+        private final Runnable task;
+        private final long periodTicks;
+        private volatile boolean cancelled;
+        private long deadlineTick;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(BossArenaClock clock, World world, UUID eventId, Runnable task, long periodTicks) {
+            this.clock = clock;
+            this.world = world;
+            this.eventId = eventId;
+            this.task = task;
+            this.periodTicks = periodTicks;
+        }
+
+        public boolean cancel() {
+            synchronized (clock.lock) {
+                return clock.cancelLocked(this, true);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public UUID getEventId() {
+            return eventId;
+        }
+
+        private void runSafely() {
+            // A timer can be cancelled after dispatch but before the world thread gets to it.
+            if (cancelled) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "BossArena timer task failed", e);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private Timer head;
+        private Timer tail;
+
+        private void append(Timer timer) {
+            timer.bucket = this;
+            timer.prev = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        private void remove(Timer timer) {
+            if (timer.prev == null) {
+                head = timer.next;
+            } else {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next == null) {
+                tail = timer.prev;
+            } else {
+                timer.next.prev = timer.prev;
+            }
+            timer.bucket = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bossarena.util;
+
+import java.io.IOException;
+
+/**
+ * Binary encoding for one persisted state type. {@link #formatVersion()} is written in the file header and
+ * handed back to {@link #decode} so a codec can keep reading older layouts after it evolves.
+ */
+public interface StateCodec<T> {
+
+    int formatVersion();
+
+    void encode(T state, StateWriter out) throws IOException;
+
+    T decode(StateReader in, int formatVersion) throws IOException;
+}
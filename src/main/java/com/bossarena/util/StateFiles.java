@@ -0,0 +1,131 @@
+package com.bossarena.util;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes BossArena runtime state files: a small header (magic + codec format version) followed by the
+ * codec payload, streamed through a {@link FileChannel}. Legacy pretty-printed JSON files from before the binary
+ * format sit next to the binary path with a {@code .json} extension and are read once for migration.
+ */
+public final class StateFiles {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final int MAGIC = 0x42415354; // "BAST"
+
+    private StateFiles() {
+    }
+
+    /**
+     * Writes {@code state} to a temp file, fsyncs it and atomically replaces {@code path}.
+     */
+    public static <T> void write(Path path, StateCodec<T> codec, T state) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName().toString() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            StateWriter out = new StateWriter(channel);
+            out.writeInt(MAGIC);
+            out.writeVarInt(codec.formatVersion());
+            codec.encode(state, out);
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ignored) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the binary state at {@code path}, or the legacy JSON file beside it when no binary file exists yet.
+     *
+     * @return {@code null} when neither file exists
+     */
+    public static <T> Loaded<T> read(Path path, StateCodec<T> codec, Gson legacyGson, Class<T> legacyType)
+            throws IOException {
+        if (Files.exists(path)) {
+            return new Loaded<>(readBinary(path, codec), false);
+        }
+        Path legacy = legacyJsonPath(path);
+        if (Files.notExists(legacy)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(legacy, StandardCharsets.UTF_8)) {
+            return new Loaded<>(legacyGson.fromJson(reader, legacyType), true);
+        }
+    }
+
+    private static <T> T readBinary(Path path, StateCodec<T> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            StateReader in = new StateReader(channel);
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a BossArena state file: " + path.getFileName());
+            }
+            int version = in.readVarInt();
+            if (version > codec.formatVersion()) {
+                throw new IOException("State file " + path.getFileName() + " has format " + version
+                        + ", newer than supported " + codec.formatVersion());
+            }
+            return codec.decode(in, version);
+        }
+    }
+
+    /**
+     * Decodes the binary state at {@code path} and writes it as pretty JSON beside it, for debugging.
+     *
+     * @return the written file, or {@code null} when there is no state file
+     */
+    public static <T> Path exportJson(Path path, StateCodec<T> codec, Gson gson) throws IOException {
+        if (path == null || Files.notExists(path)) {
+            return null;
+        }
+        T state = readBinary(path, codec);
+        Path target = path.resolveSibling(path.getFileName().toString() + ".export.json");
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            gson.toJson(state, writer);
+        }
+        return target;
+    }
+
+    public static Path legacyJsonPath(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return path.resolveSibling(base + ".json");
+    }
+
+    /**
+     * Renames a migrated legacy JSON file out of the way so it is not read again.
+     */
+    public static void retireLegacyJson(Path path) {
+        Path legacy = legacyJsonPath(path);
+        if (Files.notExists(legacy)) {
+            return;
+        }
+        try {
+            Files.move(legacy, legacy.resolveSibling(legacy.getFileName().toString() + ".v1.bak"),
+                    StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Migrated " + legacy.getFileName() + " to " + path.getFileName());
+        } catch (IOException e) {
+            LOGGER.warning("Failed to retire legacy state file " + legacy.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    public record Loaded<T>(T state, boolean legacyJson) {
+    }
+}
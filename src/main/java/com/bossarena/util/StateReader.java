@@ -0,0 +1,150 @@
+package com.bossarena.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Counterpart of {@link StateWriter}; reads through a fixed buffer so files are never loaded whole.
+ */
+public final class StateReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final List<String> internTable = new ArrayList<>();
+
+    public StateReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    public int readByte() throws IOException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    public long readLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    public float readFloat() throws IOException {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    public double readDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    public int readVarInt() throws IOException {
+        long value = readVarLong();
+        if ((value & ~0xFFFFFFFFL) != 0L) {
+            throw new IOException("Varint out of int range");
+        }
+        return (int) value;
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public int readSignedVarInt() throws IOException {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /** Reads an element count; anything past {@code Integer.MAX_VALUE} is treated as corruption. */
+    public int readCount() throws IOException {
+        int count = readVarInt();
+        if (count < 0) {
+            throw new IOException("Negative element count");
+        }
+        return count;
+    }
+
+    public UUID readUuid() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        return new UUID(readLong(), readLong());
+    }
+
+    public String readString() throws IOException {
+        int lengthPlusOne = readVarInt();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = lengthPlusOne - 1;
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("String length out of range: " + length);
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                fill();
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String readInterned() throws IOException {
+        int index = readVarInt();
+        if (index == 0) {
+            return null;
+        }
+        if (index <= internTable.size()) {
+            return internTable.get(index - 1);
+        }
+        if (index != internTable.size() + 1) {
+            throw new IOException("Interned string index out of order: " + index);
+        }
+        String value = readString();
+        internTable.add(value);
+        return value;
+    }
+
+    private void require(int bytes) throws IOException {
+        while (buffer.remaining() < bytes) {
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        buffer.compact();
+        int read = channel.read(buffer);
+        buffer.flip();
+        if (read < 0) {
+            throw new EOFException("Unexpected end of state file");
+        }
+    }
+}
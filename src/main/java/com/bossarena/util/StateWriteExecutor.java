@@ -0,0 +1,73 @@
+package com.bossarena.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single background thread for BossArena state file writes (snapshots, journal appends and their fsyncs). Keeps disk
+ * latency off {@link BossArenaClock}'s thread, where a slow write would hold back every wave and expiry timer behind
+ * it. Tasks run one at a time in submit order.
+ */
+public final class StateWriteExecutor {
+    private static final Logger LOGGER = Logger.getLogger("BossArena");
+    private static final long SHUTDOWN_WAIT_SECONDS = 10L;
+    private static final StateWriteExecutor SHARED = new StateWriteExecutor();
+
+    private final Object lock = new Object();
+    private ExecutorService executor;
+
+    private StateWriteExecutor() {
+    }
+
+    public static StateWriteExecutor get() {
+        return SHARED;
+    }
+
+    public void execute(Runnable task) {
+        if (task == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (executor == null) {
+                executor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "BossArena-StateWriter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "BossArena state write failed", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Lets queued writes finish, waiting a bounded time, and stops the thread. It restarts lazily on the next
+     * {@link #execute} call.
+     */
+    public void shutdown() {
+        ExecutorService stopping;
+        synchronized (lock) {
+            stopping = executor;
+            executor = null;
+        }
+        if (stopping == null) {
+            return;
+        }
+        stopping.shutdown();
+        try {
+            if (!stopping.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning("BossArena state writes did not finish within " + SHUTDOWN_WAIT_SECONDS + "s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bossarena.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Buffered binary writer over a channel. Counts and lengths are unsigned varints, interned strings are written
+ * once and referenced by table index afterwards, and UUIDs are two raw longs.
+ */
+public final class StateWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Map<String, Integer> internTable = new HashMap<>();
+
+    public StateWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeFloat(float value) throws IOException {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        ensure(10);
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7FL) | 0x80L));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /** Zig-zag varint, for values that may be negative (block coordinates). */
+    public void writeSignedVarInt(int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeUuid(UUID value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    /** Length-prefixed UTF-8; {@code null} is encoded as length 0 and the empty string as 1. */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes a repeated string (boss, world, tier, item names) as an index into a table built while writing.
+     * Index 0 is {@code null}; an index one past the current table size introduces a new entry inline.
+     */
+    public void writeInterned(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer existing = internTable.get(value);
+        if (existing != null) {
+            writeVarInt(existing);
+            return;
+        }
+        int index = internTable.size() + 1;
+        internTable.put(value, index);
+        writeVarInt(index);
+        writeString(value);
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}